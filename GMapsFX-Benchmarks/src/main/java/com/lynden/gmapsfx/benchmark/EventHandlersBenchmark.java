@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 Lynden, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lynden.gmapsfx.benchmark;
+
+import com.lynden.gmapsfx.javascript.JavascriptRuntime;
+import com.lynden.gmapsfx.javascript.event.EventHandlers;
+import com.lynden.gmapsfx.javascript.event.MouseEventHandler;
+import com.lynden.gmapsfx.javascript.event.StateEventHandler;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures registration of event handlers and the dispatch of events from
+ * Javascript to the registered handlers.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventHandlersBenchmark {
+
+    private static final int HANDLER_COUNT = 1000;
+
+    private EventHandlers handlers;
+    private StubJSObject event;
+    private int stateKey;
+    private int mouseKey;
+    private long stateEvents;
+    private Blackhole blackhole;
+
+    @Setup
+    public void setUp(Blackhole bh) {
+        JavascriptRuntime.setDefaultWebEngine(new StubWebEngine());
+        JavascriptRuntime.setJavascriptRuntime(new JavascriptRuntime());
+        blackhole = bh;
+        handlers = new EventHandlers();
+        event = new StubJSObject();
+        for (int i = 0; i < HANDLER_COUNT; i++) {
+            handlers.registerHandler((StateEventHandler) () -> stateEvents++);
+        }
+        stateKey = handlers.registerHandler((StateEventHandler) () -> stateEvents++);
+        mouseKey = handlers.registerHandler((MouseEventHandler) (e) -> blackhole.consume(e));
+    }
+
+    @Benchmark
+    public int registerHandler() {
+        return new EventHandlers().registerHandler((StateEventHandler) () -> stateEvents++);
+    }
+
+    @Benchmark
+    public boolean registerAndUnregisterHandler() {
+        int key = handlers.registerHandler((StateEventHandler) () -> stateEvents++);
+        return handlers.unregisterHandler(key);
+    }
+
+    @Benchmark
+    public long handleStateEvent() {
+        handlers.handleStateEvent(stateKey);
+        return stateEvents;
+    }
+
+    @Benchmark
+    public void handleMouseEvent() {
+        handlers.handleUIEvent(mouseKey, event);
+    }
+
+}
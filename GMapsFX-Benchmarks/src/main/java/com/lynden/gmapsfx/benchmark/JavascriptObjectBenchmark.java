@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 Lynden, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lynden.gmapsfx.benchmark;
+
+import com.lynden.gmapsfx.javascript.IJavascriptRuntime;
+import com.lynden.gmapsfx.javascript.JavascriptRuntime;
+import com.lynden.gmapsfx.javascript.object.LatLong;
+import com.lynden.gmapsfx.javascript.object.MapTypeIdEnum;
+import com.lynden.gmapsfx.javascript.object.Marker;
+import com.lynden.gmapsfx.javascript.object.MarkerOptions;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the Java side cost of creating JavascriptObjects and invoking
+ * functions on them, using a headless stub engine. Marker creation is
+ * measured both with and without a runtime batch.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JavascriptObjectBenchmark {
+
+    @Param({"100"})
+    private int markerCount;
+
+    private IJavascriptRuntime runtime;
+    private BenchmarkObject object;
+    private LatLong latLong;
+
+    @Setup
+    public void setUp() {
+        JavascriptRuntime.setDefaultWebEngine(new StubWebEngine());
+        runtime = new JavascriptRuntime();
+        JavascriptRuntime.setJavascriptRuntime(runtime);
+        object = new BenchmarkObject();
+        latLong = new LatLong(47.6097, -122.3331);
+    }
+
+    @Benchmark
+    public Object invokeJavascript_MixedArgs() {
+        return object.invoke("setOptions", latLong, 12, true, MapTypeIdEnum.ROADMAP);
+    }
+
+    @Benchmark
+    public void createMarkers(Blackhole bh) {
+        for (int i = 0; i < markerCount; i++) {
+            bh.consume(createMarker(i));
+        }
+    }
+
+    @Benchmark
+    public void createMarkers_Batched(Blackhole bh) {
+        runtime.beginBatch();
+        try {
+            for (int i = 0; i < markerCount; i++) {
+                bh.consume(createMarker(i));
+            }
+        } finally {
+            runtime.commitBatch();
+        }
+    }
+
+    private Marker createMarker(int i) {
+        MarkerOptions options = new MarkerOptions()
+                .position(new LatLong(47.6 + i * 0.001, -122.3 - i * 0.001))
+                .visible(Boolean.TRUE);
+        return new Marker(options);
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 Lynden, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lynden.gmapsfx.benchmark;
+
+import com.lynden.gmapsfx.javascript.IJavascriptRuntime;
+import com.lynden.gmapsfx.javascript.JavascriptRuntime;
+import com.lynden.gmapsfx.javascript.object.LatLong;
+import com.lynden.gmapsfx.javascript.object.MapTypeIdEnum;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of building constructor and function call strings, and of
+ * passing them to the web engine, using a headless stub engine.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JavascriptRuntimeBenchmark {
+
+    private IJavascriptRuntime runtime;
+    private LatLong latLong;
+
+    @Setup
+    public void setUp() {
+        JavascriptRuntime.setDefaultWebEngine(new StubWebEngine());
+        runtime = new JavascriptRuntime();
+        JavascriptRuntime.setJavascriptRuntime(runtime);
+        latLong = new LatLong(47.6097, -122.3331);
+    }
+
+    @Benchmark
+    public String getConstructor_Doubles() {
+        return runtime.getConstructor("google.maps.LatLng", 47.6097, -122.3331);
+    }
+
+    @Benchmark
+    public String getConstructor_Object() {
+        return runtime.getConstructor("google.maps.Marker", latLong);
+    }
+
+    @Benchmark
+    public String getFunction_MixedArgs() {
+        return runtime.getFunction("map", "setOptions", latLong, 12, true, MapTypeIdEnum.ROADMAP);
+    }
+
+    @Benchmark
+    public String getArrayConstructor() {
+        return runtime.getArrayConstructor("google.maps.MVCArray", new Object[]{latLong, latLong, latLong, latLong});
+    }
+
+    @Benchmark
+    public Object execute() {
+        return runtime.execute("map.getZoom()");
+    }
+
+}
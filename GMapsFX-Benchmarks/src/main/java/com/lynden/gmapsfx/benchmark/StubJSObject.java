@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026 Lynden, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lynden.gmapsfx.benchmark;
+
+import netscape.javascript.JSObject;
+
+/**
+ * A JSObject which does nothing, returned by the StubWebEngine so that the
+ * Java side of the bridge can be measured without a browser.
+ */
+public class StubJSObject extends JSObject {
+
+    @Override
+    public Object call(String methodName, Object... args) {
+        return this;
+    }
+
+    @Override
+    public Object eval(String s) {
+        return this;
+    }
+
+    @Override
+    public Object getMember(String name) {
+        return this;
+    }
+
+    @Override
+    public void setMember(String name, Object value) {
+    }
+
+    @Override
+    public void removeMember(String name) {
+    }
+
+    @Override
+    public Object getSlot(int index) {
+        return this;
+    }
+
+    @Override
+    public void setSlot(int index, Object value) {
+    }
+
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 Lynden, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lynden.gmapsfx.benchmark;
+
+import com.lynden.gmapsfx.javascript.IWebEngine;
+import javafx.concurrent.Worker;
+
+/**
+ * A headless IWebEngine which records the number and size of the scripts it
+ * is asked to execute, without executing them.
+ */
+public class StubWebEngine implements IWebEngine {
+
+    private final StubJSObject result = new StubJSObject();
+    protected long scriptCount;
+    protected long scriptLength;
+
+    @Override
+    public Object executeScript(String command) {
+        scriptCount++;
+        scriptLength += command.length();
+        return result;
+    }
+
+    @Override
+    public Worker<Void> getLoadWorker() {
+        return null;
+    }
+
+    @Override
+    public void load(String url) {
+    }
+
+    @Override
+    public void loadContent(String content) {
+    }
+
+    public long getScriptCount() {
+        return scriptCount;
+    }
+
+    public long getScriptLength() {
+        return scriptLength;
+    }
+
+}
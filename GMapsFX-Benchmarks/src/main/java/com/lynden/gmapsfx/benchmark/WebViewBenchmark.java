@@ -0,0 +1,146 @@
+/*
+ * Copyright 2026 Lynden, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lynden.gmapsfx.benchmark;
+
+import com.lynden.gmapsfx.javascript.IJavascriptRuntime;
+import com.lynden.gmapsfx.javascript.JavaFxWebEngine;
+import com.lynden.gmapsfx.javascript.JavascriptRuntime;
+import com.lynden.gmapsfx.javascript.object.LatLong;
+import com.lynden.gmapsfx.javascript.object.Marker;
+import com.lynden.gmapsfx.javascript.object.MarkerOptions;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import javafx.application.Platform;
+import javafx.concurrent.Worker;
+import javafx.embed.swing.JFXPanel;
+import javafx.scene.web.WebView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures marker creation and callback latency against a real WebView. The
+ * page loaded into the WebView defines a minimal stand-in for the google.maps
+ * namespace, so that no network access or API key is required, and the
+ * numbers reflect the cost of crossing the bridge rather than of the Google
+ * Maps API itself.
+ * <p>
+ * Requires a JavaFX runtime and a display. Each benchmark operation runs on
+ * the JavaFX Application Thread, so a batch of markers is created per
+ * operation to amortise the hand-off.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WebViewBenchmark {
+
+    private static final String PAGE = "<html><head><script>"
+            + "var google = {maps: {"
+            + "LatLng: function (lat, lng) { this.lat = function () { return lat; }; this.lng = function () { return lng; }; },"
+            + "Marker: function (opts) { this.opts = opts || {}; this.setMap = function (m) { this.map = m; };"
+            + " this.setPosition = function (p) { this.opts.position = p; }; this.setVisible = function (v) { this.opts.visible = v; }; },"
+            + "MVCArray: function (a) { this.a = a; },"
+            + "event: {addListener: function () {}}"
+            + "}};"
+            + "</script></head><body></body></html>";
+
+    @Param({"1000"})
+    private int markerCount;
+
+    private IJavascriptRuntime runtime;
+
+    @Setup
+    public void setUp() throws Exception {
+        new JFXPanel();
+        CountDownLatch loaded = new CountDownLatch(1);
+        onFxThread(() -> {
+            WebView webView = new WebView();
+            JavaFxWebEngine engine = new JavaFxWebEngine(webView.getEngine());
+            engine.getLoadWorker().stateProperty().addListener((obs, o, n) -> {
+                if (n == Worker.State.SUCCEEDED) {
+                    loaded.countDown();
+                }
+            });
+            JavascriptRuntime.setDefaultWebEngine(engine);
+            runtime = new JavascriptRuntime();
+            JavascriptRuntime.setJavascriptRuntime(runtime);
+            engine.loadContent(PAGE);
+            return null;
+        });
+        if (!loaded.await(30, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("The benchmark page did not load");
+        }
+    }
+
+    @Benchmark
+    public int createMarkers() throws Exception {
+        return onFxThread(() -> {
+            for (int i = 0; i < markerCount; i++) {
+                createMarker(i);
+            }
+            return markerCount;
+        });
+    }
+
+    @Benchmark
+    public int createMarkers_Batched() throws Exception {
+        return onFxThread(() -> {
+            runtime.beginBatch();
+            try {
+                for (int i = 0; i < markerCount; i++) {
+                    createMarker(i);
+                }
+            } finally {
+                runtime.commitBatch();
+            }
+            return markerCount;
+        });
+    }
+
+    @Benchmark
+    public Object callbackRoundTrip() throws Exception {
+        return onFxThread(() -> {
+            return runtime.execute("({pong: function () { return 1; }})").call("pong");
+        });
+    }
+
+    private Marker createMarker(int i) {
+        MarkerOptions options = new MarkerOptions()
+                .position(new LatLong(47.6 + i * 0.001, -122.3 - i * 0.001))
+                .visible(Boolean.TRUE);
+        return new Marker(options);
+    }
+
+    private static <T> T onFxThread(Callable<T> task) throws Exception {
+        FutureTask<T> future = new FutureTask<>(task);
+        Platform.runLater(future);
+        return future.get(60, TimeUnit.SECONDS);
+    }
+
+}
@@ -22,6 +22,12 @@ import com.lynden.gmapsfx.javascript.object.DirectionsPane;
 import com.lynden.gmapsfx.javascript.object.GoogleMap;
 import com.lynden.gmapsfx.javascript.object.LatLong;
 import com.lynden.gmapsfx.javascript.object.MapOptions;
+import com.lynden.gmapsfx.overlay.MapOverlay;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
@@ -56,6 +62,7 @@ public class GoogleMapView extends AnchorPane {
 
     protected static final String GOOGLE_MAPS_API_LINK = "https://maps.googleapis.com/maps/api/js?v=3.exp";
     protected static final String GOOGLE_MAPS_API_VERSION = "3.exp";
+    protected static final String HELPER_SCRIPT = "html/GmapsFx.js";
 
     private boolean usingCustomHtml;
 
@@ -71,6 +78,8 @@ public class GoogleMapView extends AnchorPane {
     protected GoogleMap map;
     protected DirectionsPane direc;
     protected boolean disableDoubleClick = false;
+    protected final MapUpdateQueue updateQueue = new MapUpdateQueue();
+    protected MapOverlay overlay;
 
     public GoogleMapView() {
         this(false);
@@ -247,6 +256,7 @@ public class GoogleMapView extends AnchorPane {
     }
 
     private void initialiseScript() {
+        loadHelperScript();
         if (!usingCustomHtml) {
             JSObject window = (JSObject) webengine.executeScript("window");
             window.setMember("libLoadBridge", new MapLibraryLoadBridge());
@@ -259,6 +269,29 @@ public class GoogleMapView extends AnchorPane {
         }
     }
 
+    /**
+     * Loads the GMapsFX helper functions from GmapsFx.js into the page, so
+     * that they are available regardless of which HTML file is in use.
+     */
+    private void loadHelperScript() {
+        try (InputStream in = GoogleMapView.class.getResourceAsStream(HELPER_SCRIPT)) {
+            if (in == null) {
+                LOG.error("Unable to find " + HELPER_SCRIPT);
+                return;
+            }
+            Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8);
+            StringBuilder script = new StringBuilder();
+            char[] buffer = new char[8192];
+            int read;
+            while ((read = reader.read(buffer)) != -1) {
+                script.append(buffer, 0, read);
+            }
+            webengine.executeScript(script.toString());
+        } catch (IOException ex) {
+            LOG.error("Unable to load " + HELPER_SCRIPT, ex);
+        }
+    }
+
     private void setFont(WebEngine webEngine) {
 
         webEngine.getLoadWorker().stateProperty().addListener((ObservableValue<? extends Worker.State> observable, Worker.State oldValue, Worker.State newValue) -> {
@@ -334,6 +367,10 @@ public class GoogleMapView extends AnchorPane {
             }
         });
 
+        if (overlay != null) {
+            overlay.setMap(map);
+        }
+
         return map;
     }
 
@@ -383,6 +420,38 @@ public class GoogleMapView extends AnchorPane {
         map.panBy(x, y);
     }
 
+    /**
+     * Gets the queue used to apply map updates from threads other than the
+     * JavaFX Application Thread. Updates are coalesced and applied once per
+     * frame.
+     *
+     * @return The update queue for this view.
+     */
+    public MapUpdateQueue getUpdateQueue() {
+        return updateQueue;
+    }
+
+    /**
+     * Gets the JavaFX overlay drawn over the map, creating it the first time
+     * it is requested. The overlay follows the view of the map created by
+     * this view, and can be used to draw dense data in a Canvas rather than
+     * as markers in the map.
+     *
+     * @return The overlay for this view.
+     */
+    public MapOverlay getOverlay() {
+        if (overlay == null) {
+            overlay = new MapOverlay();
+            setTopAnchor(overlay, 0.0);
+            setLeftAnchor(overlay, 0.0);
+            setBottomAnchor(overlay, 0.0);
+            setRightAnchor(overlay, 0.0);
+            getChildren().add(overlay);
+            overlay.setMap(map);
+        }
+        return overlay;
+    }
+
     public boolean isDisableDoubleClick() {
         return disableDoubleClick;
     }
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2026 Lynden, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lynden.gmapsfx;
+
+import com.lynden.gmapsfx.javascript.IJavascriptRuntime;
+import com.lynden.gmapsfx.javascript.JavascriptRuntime;
+import com.lynden.gmapsfx.javascript.object.LatLong;
+import com.lynden.gmapsfx.javascript.object.Marker;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A queue of map updates which can be posted from any thread, and which are
+ * applied on the JavaFX Application Thread once per pulse.
+ * <p>
+ * Updates posted against the same object and property are coalesced, so only
+ * the most recent one is applied. For example, if a marker is moved several
+ * times between two frames only its last position is sent to the map. All of
+ * the updates for a frame are run inside a single runtime batch, so that
+ * where possible they reach the web engine as a single script.
+ * <p>
+ * An instance is available from {@link GoogleMapView#getUpdateQueue()}.
+ */
+public class MapUpdateQueue {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MapUpdateQueue.class);
+
+    private final Map<Key, Runnable> pending = new LinkedHashMap<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private AnimationTimer timer;
+
+    /**
+     * Posts an update to be run on the next pulse. Updates posted this way are
+     * only coalesced if the same Runnable instance is posted more than once.
+     *
+     * @param update The update to run.
+     */
+    public void post(Runnable update) {
+        post(new Key(update, null), update);
+    }
+
+    /**
+     * Posts an update to be run on the next pulse, replacing any update
+     * already waiting for the same target and property.
+     *
+     * @param target The object being updated.
+     * @param property The name of the property being updated.
+     * @param update The update to run.
+     */
+    public void post(Object target, String property, Runnable update) {
+        post(new Key(target, property), update);
+    }
+
+    /**
+     * Moves the marker to the supplied position on the next pulse. If the
+     * marker is moved again before then, only the latest position is used.
+     *
+     * @param marker The marker to move.
+     * @param position The new position.
+     */
+    public void setPosition(Marker marker, LatLong position) {
+        post(marker, "position", () -> marker.setPosition(position));
+    }
+
+    /**
+     * Gets the number of updates waiting to be applied.
+     *
+     * @return The number of pending updates.
+     */
+    public int size() {
+        synchronized (pending) {
+            return pending.size();
+        }
+    }
+
+    private void post(Key key, Runnable update) {
+        synchronized (pending) {
+            // Remove first so a replaced update moves to the end of the queue.
+            pending.remove(key);
+            pending.put(key, update);
+        }
+        if (scheduled.compareAndSet(false, true)) {
+            start();
+        }
+    }
+
+    /**
+     * Starts draining the queue on each pulse. Called when an update is posted
+     * to a queue which isn't already scheduled.
+     */
+    protected void start() {
+        if (Platform.isFxApplicationThread()) {
+            getTimer().start();
+        } else {
+            Platform.runLater(() -> getTimer().start());
+        }
+    }
+
+    /**
+     * Stops draining the queue. Called on the JavaFX Application Thread once
+     * the queue is empty.
+     */
+    protected void stop() {
+        getTimer().stop();
+    }
+
+    private AnimationTimer getTimer() {
+        if (timer == null) {
+            timer = new AnimationTimer() {
+                @Override
+                public void handle(long now) {
+                    drain();
+                }
+            };
+        }
+        return timer;
+    }
+
+    /**
+     * Runs all of the pending updates in a single batch. Called on each pulse
+     * while there is work to do.
+     */
+    protected void drain() {
+        List<Runnable> updates;
+        synchronized (pending) {
+            updates = new ArrayList<>(pending.values());
+            pending.clear();
+        }
+        if (!updates.isEmpty()) {
+            IJavascriptRuntime runtime = JavascriptRuntime.getInstance();
+            runtime.beginBatch();
+            try {
+                for (Runnable update : updates) {
+                    try {
+                        update.run();
+                    } catch (RuntimeException ex) {
+                        LOG.error("Error applying map update", ex);
+                    }
+                }
+            } finally {
+                runtime.commitBatch();
+            }
+        }
+        synchronized (pending) {
+            if (pending.isEmpty()) {
+                stop();
+                scheduled.set(false);
+            }
+        }
+    }
+
+    private static final class Key {
+
+        private final Object target;
+        private final String property;
+
+        Key(Object target, String property) {
+            this.target = target;
+            this.property = property;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return target == other.target
+                    && (property == null ? other.property == null : property.equals(other.property));
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(target) * 31 + (property == null ? 0 : property.hashCode());
+        }
+    }
+
+}
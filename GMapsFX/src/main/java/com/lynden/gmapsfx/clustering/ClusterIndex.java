@@ -0,0 +1,397 @@
+/*
+ * Copyright 2026 Lynden, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lynden.gmapsfx.clustering;
+
+import com.lynden.gmapsfx.geometry.PointKDTree;
+import com.lynden.gmapsfx.geometry.WebMercatorProjection;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * A hierarchy of point clusters for every zoom level of a map, computed in
+ * Java so that only the clusters in view need to be sent to the map.
+ * <p>
+ * The points are first projected to normalised world coordinates, from 0 to
+ * 1, and indexed in a {@link PointKDTree}. Then, from the maximum zoom level
+ * down to the minimum, each point or cluster from the level above is merged
+ * with its unvisited neighbours within the cluster radius, measured in
+ * pixels at that zoom, into a cluster at their weighted centroid. This is the
+ * approach taken by the supercluster library. Building the index is the
+ * expensive step, and may be done on a background thread; the projection and
+ * the larger KD-trees are built in parallel on the common ForkJoin pool.
+ * Once built the index is immutable, and finding the clusters in a view only
+ * needs a range query on the tree for that zoom level.
+ */
+public class ClusterIndex {
+
+    /** The default cluster radius, in pixels. */
+    public static final double DEFAULT_RADIUS = 60;
+    public static final int DEFAULT_MIN_ZOOM = 0;
+    public static final int DEFAULT_MAX_ZOOM = 16;
+
+    private final double radius;
+    private final int minZoom;
+    private final int maxZoom;
+    private final int pointCount;
+    private final Level[] levels;
+
+    private int clusterCount;
+    private int[] clusterZooms = new int[16];
+    private double[] clusterXs = new double[16];
+    private double[] clusterYs = new double[16];
+
+    /**
+     * Builds an index with the default radius and zoom levels.
+     *
+     * @param lats The latitudes of the points.
+     * @param lngs The longitudes of the points, the same length as lats.
+     */
+    public ClusterIndex(double[] lats, double[] lngs) {
+        this(lats, lngs, DEFAULT_RADIUS, DEFAULT_MIN_ZOOM, DEFAULT_MAX_ZOOM);
+    }
+
+    /**
+     * Builds an index.
+     *
+     * @param lats The latitudes of the points.
+     * @param lngs The longitudes of the points, the same length as lats.
+     * @param radius The cluster radius in pixels.
+     * @param minZoom The lowest zoom level to cluster at.
+     * @param maxZoom The highest zoom level to cluster at. Above this all
+     * points are shown individually.
+     */
+    public ClusterIndex(double[] lats, double[] lngs, double radius, int minZoom, int maxZoom) {
+        if (lats.length != lngs.length) {
+            throw new IllegalArgumentException("Latitude and longitude arrays differ in length: "
+                    + lats.length + " and " + lngs.length);
+        }
+        if (minZoom < 0 || maxZoom < minZoom || maxZoom > 30) {
+            throw new IllegalArgumentException("Invalid zoom range: " + minZoom + " to " + maxZoom);
+        }
+        this.radius = radius;
+        this.minZoom = minZoom;
+        this.maxZoom = maxZoom;
+        this.pointCount = lats.length;
+        this.levels = new Level[maxZoom + 2];
+
+        int n = lats.length;
+        Level points = new Level(n);
+        IntStream.range(0, n).parallel().forEach(i -> {
+            points.xs[i] = WebMercatorProjection.toWorldX(lngs[i]) / WebMercatorProjection.TILE_SIZE;
+            points.ys[i] = WebMercatorProjection.toWorldY(lats[i]) / WebMercatorProjection.TILE_SIZE;
+            points.counts[i] = 1;
+            points.ids[i] = i;
+        });
+        points.size = n;
+        points.index();
+        levels[maxZoom + 1] = points;
+
+        for (int z = maxZoom; z >= minZoom; z--) {
+            levels[z] = cluster(levels[z + 1], z);
+        }
+    }
+
+    public double getRadius() {
+        return radius;
+    }
+
+    public int getMinZoom() {
+        return minZoom;
+    }
+
+    public int getMaxZoom() {
+        return maxZoom;
+    }
+
+    /**
+     * @return The number of points in the index.
+     */
+    public int size() {
+        return pointCount;
+    }
+
+    /**
+     * @param zoom A zoom level.
+     * @return The number of clusters and unclustered points at the zoom level.
+     */
+    public int size(int zoom) {
+        return levels[clampZoom(zoom)].size;
+    }
+
+    /**
+     * Finds the clusters and unclustered points within a view.
+     *
+     * @param west The western longitude of the view.
+     * @param south The southern latitude of the view.
+     * @param east The eastern longitude of the view. If this is less than west
+     * the view crosses the antimeridian.
+     * @param north The northern latitude of the view.
+     * @param zoom The zoom level of the map.
+     * @return The clusters and points in view.
+     */
+    public Clusters getClusters(double west, double south, double east, double north, int zoom) {
+        Level level = levels[clampZoom(zoom)];
+        Clusters result = new Clusters();
+        double minY = WebMercatorProjection.toWorldY(north) / WebMercatorProjection.TILE_SIZE;
+        double maxY = WebMercatorProjection.toWorldY(south) / WebMercatorProjection.TILE_SIZE;
+        if (east - west >= 360) {
+            level.collect(0, minY, 1, maxY, result);
+            return result;
+        }
+        double minX = normaliseX(west);
+        double maxX = normaliseX(east);
+        if (minX <= maxX) {
+            level.collect(minX, minY, maxX, maxY, result);
+        } else {
+            level.collect(minX, minY, 1, maxY, result);
+            level.collect(0, minY, maxX, maxY, result);
+        }
+        return result;
+    }
+
+    /**
+     * Finds the clusters and points that a cluster splits into at the next
+     * zoom level.
+     *
+     * @param clusterId The id of a cluster.
+     * @return The children of the cluster.
+     */
+    public Clusters getChildren(int clusterId) {
+        int c = clusterIndex(clusterId);
+        Level children = levels[clusterZooms[c] + 1];
+        // Children are within the radius of the point the cluster grew from,
+        // which is itself within the radius of the centroid.
+        double r = 2 * radiusAt(clusterZooms[c]);
+        Clusters result = new Clusters();
+        children.tree.within(clusterXs[c], clusterYs[c], r, i -> {
+            if (children.parents[i] == clusterId) {
+                children.add(i, result);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Finds the original points within a cluster.
+     *
+     * @param clusterId The id of a cluster.
+     * @return The indexes of the points in the arrays the index was built
+     * from.
+     */
+    public int[] getLeaves(int clusterId) {
+        int[] leaves = new int[16];
+        int count = 0;
+        int[] stack = {clusterId};
+        int top = 1;
+        while (top > 0) {
+            int id = stack[--top];
+            if (id < pointCount) {
+                if (count == leaves.length) {
+                    leaves = Arrays.copyOf(leaves, count * 2);
+                }
+                leaves[count++] = id;
+                continue;
+            }
+            Clusters children = getChildren(id);
+            if (top + children.size() > stack.length) {
+                stack = Arrays.copyOf(stack, Math.max(stack.length * 2, top + children.size()));
+            }
+            for (int i = 0; i < children.size(); i++) {
+                stack[top++] = children.getId(i);
+            }
+        }
+        return Arrays.copyOf(leaves, count);
+    }
+
+    /**
+     * @param clusterId The id of a cluster.
+     * @return The lowest zoom level at which the cluster splits apart.
+     */
+    public int getExpansionZoom(int clusterId) {
+        int id = clusterId;
+        int zoom = clusterZooms[clusterIndex(id)] + 1;
+        while (zoom <= maxZoom) {
+            Clusters children = getChildren(id);
+            if (children.size() != 1) {
+                break;
+            }
+            id = children.getId(0);
+            if (id < pointCount) {
+                break;
+            }
+            zoom = clusterZooms[clusterIndex(id)] + 1;
+        }
+        return zoom;
+    }
+
+    private int clusterIndex(int clusterId) {
+        int c = clusterId - pointCount;
+        if (c < 0 || c >= clusterCount) {
+            throw new IllegalArgumentException("No cluster with id " + clusterId);
+        }
+        return c;
+    }
+
+    private int clampZoom(int zoom) {
+        return Math.max(minZoom, Math.min(maxZoom + 1, zoom));
+    }
+
+    private double radiusAt(int zoom) {
+        return radius / (WebMercatorProjection.TILE_SIZE * Math.pow(2, zoom));
+    }
+
+    private static double normaliseX(double lng) {
+        double wrapped = lng - Math.floor((lng + 180.0) / 360.0) * 360.0;
+        return WebMercatorProjection.toWorldX(wrapped) / WebMercatorProjection.TILE_SIZE;
+    }
+
+    /**
+     * Merges the points and clusters of one zoom level into the clusters of
+     * the level below.
+     */
+    private Level cluster(Level previous, int zoom) {
+        double r = radiusAt(zoom);
+        Level level = new Level(previous.size);
+        boolean[] visited = new boolean[previous.size];
+        Accumulator acc = new Accumulator(previous, visited);
+
+        for (int i = 0; i < previous.size; i++) {
+            if (visited[i]) {
+                continue;
+            }
+            visited[i] = true;
+            int clusterId = pointCount + clusterCount;
+            acc.reset(i, clusterId);
+            previous.tree.within(previous.xs[i], previous.ys[i], r, acc);
+
+            if (acc.count == previous.counts[i]) {
+                level.append(previous.xs[i], previous.ys[i], previous.counts[i], previous.ids[i]);
+            } else {
+                previous.parents[i] = clusterId;
+                double x = acc.wx / acc.count;
+                double y = acc.wy / acc.count;
+                level.append(x, y, acc.count, clusterId);
+                addCluster(zoom, x, y);
+            }
+        }
+        level.trim();
+        level.index();
+        return level;
+    }
+
+    private void addCluster(int zoom, double x, double y) {
+        if (clusterCount == clusterZooms.length) {
+            int capacity = clusterCount * 2;
+            clusterZooms = Arrays.copyOf(clusterZooms, capacity);
+            clusterXs = Arrays.copyOf(clusterXs, capacity);
+            clusterYs = Arrays.copyOf(clusterYs, capacity);
+        }
+        clusterZooms[clusterCount] = zoom;
+        clusterXs[clusterCount] = x;
+        clusterYs[clusterCount] = y;
+        clusterCount++;
+    }
+
+    /**
+     * Sums the neighbours of a point into a prospective cluster.
+     */
+    private static final class Accumulator implements java.util.function.IntConsumer {
+
+        private final Level level;
+        private final boolean[] visited;
+        private int clusterId;
+        private int count;
+        private double wx;
+        private double wy;
+
+        Accumulator(Level level, boolean[] visited) {
+            this.level = level;
+            this.visited = visited;
+        }
+
+        void reset(int i, int clusterId) {
+            this.clusterId = clusterId;
+            count = level.counts[i];
+            wx = level.xs[i] * count;
+            wy = level.ys[i] * count;
+        }
+
+        @Override
+        public void accept(int j) {
+            if (visited[j]) {
+                return;
+            }
+            visited[j] = true;
+            int c = level.counts[j];
+            count += c;
+            wx += level.xs[j] * c;
+            wy += level.ys[j] * c;
+            level.parents[j] = clusterId;
+        }
+    }
+
+    /**
+     * The points and clusters at one zoom level.
+     */
+    private static final class Level {
+
+        private double[] xs;
+        private double[] ys;
+        private int[] counts;
+        private int[] ids;
+        private int[] parents;
+        private int size;
+        private PointKDTree tree;
+
+        Level(int capacity) {
+            xs = new double[capacity];
+            ys = new double[capacity];
+            counts = new int[capacity];
+            ids = new int[capacity];
+        }
+
+        void append(double x, double y, int count, int id) {
+            xs[size] = x;
+            ys[size] = y;
+            counts[size] = count;
+            ids[size] = id;
+            size++;
+        }
+
+        void trim() {
+            xs = Arrays.copyOf(xs, size);
+            ys = Arrays.copyOf(ys, size);
+            counts = Arrays.copyOf(counts, size);
+            ids = Arrays.copyOf(ids, size);
+        }
+
+        void index() {
+            tree = new PointKDTree(xs, ys, size, PointKDTree.DEFAULT_NODE_SIZE);
+            parents = new int[size];
+            Arrays.fill(parents, -1);
+        }
+
+        void collect(double minX, double minY, double maxX, double maxY, Clusters result) {
+            tree.range(minX, minY, maxX, maxY, i -> add(i, result));
+        }
+
+        void add(int i, Clusters result) {
+            double lng = xs[i] * 360.0 - 180.0;
+            double lat = WebMercatorProjection.toLatitude(ys[i] * WebMercatorProjection.TILE_SIZE);
+            result.add(lat, lng, counts[i], ids[i]);
+        }
+    }
+}
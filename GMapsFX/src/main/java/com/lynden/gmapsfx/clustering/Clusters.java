@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 Lynden, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lynden.gmapsfx.clustering;
+
+import com.lynden.gmapsfx.javascript.JavascriptUtils;
+import java.util.Arrays;
+
+/**
+ * The clusters and unclustered points found in a view by a
+ * {@link ClusterIndex}, held in primitive arrays.
+ * <p>
+ * Each entry has a position, the number of points it represents and an id.
+ * The id of an unclustered point is its index in the arrays the index was
+ * built from. The id of a cluster is greater than or equal to the number of
+ * points in the index.
+ */
+public class Clusters {
+
+    private double[] lats;
+    private double[] lngs;
+    private int[] counts;
+    private int[] ids;
+    private int size;
+
+    public Clusters() {
+        this(16);
+    }
+
+    public Clusters(int capacity) {
+        capacity = Math.max(capacity, 1);
+        lats = new double[capacity];
+        lngs = new double[capacity];
+        counts = new int[capacity];
+        ids = new int[capacity];
+    }
+
+    void add(double lat, double lng, int count, int id) {
+        if (size == ids.length) {
+            int capacity = size * 2;
+            lats = Arrays.copyOf(lats, capacity);
+            lngs = Arrays.copyOf(lngs, capacity);
+            counts = Arrays.copyOf(counts, capacity);
+            ids = Arrays.copyOf(ids, capacity);
+        }
+        lats[size] = lat;
+        lngs[size] = lng;
+        counts[size] = count;
+        ids[size] = id;
+        size++;
+    }
+
+    /**
+     * @return The number of clusters and points.
+     */
+    public int size() {
+        return size;
+    }
+
+    public double getLatitude(int i) {
+        return lats[i];
+    }
+
+    public double getLongitude(int i) {
+        return lngs[i];
+    }
+
+    /**
+     * @param i The index of the entry.
+     * @return The number of points the entry represents, 1 for a single point.
+     */
+    public int getCount(int i) {
+        return counts[i];
+    }
+
+    public int getId(int i) {
+        return ids[i];
+    }
+
+    public boolean isCluster(int i) {
+        return counts[i] > 1;
+    }
+
+    /**
+     * Packs the entries as lat,lng,count,id groups of comma separated numbers,
+     * which gmapsfx.unpack() in GmapsFx.js decodes.
+     *
+     * @return The packed entries.
+     */
+    public String pack() {
+        StringBuilder sb = new StringBuilder(size * 32);
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            JavascriptUtils.appendNumber(sb, lats[i]);
+            sb.append(',');
+            JavascriptUtils.appendNumber(sb, lngs[i]);
+            sb.append(',').append(counts[i]).append(',').append(ids[i]);
+        }
+        return sb.toString();
+    }
+}
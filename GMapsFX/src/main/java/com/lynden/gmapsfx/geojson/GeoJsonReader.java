@@ -0,0 +1,326 @@
+/*
+ * Copyright 2026 Lynden, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lynden.gmapsfx.geojson;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.regex.Pattern;
+
+/**
+ * Reads a GeoJSON document incrementally, splitting the features of a
+ * FeatureCollection into smaller FeatureCollections of a bounded size.
+ * <p>
+ * Only the features of one chunk are held in memory at a time, so a very
+ * large file can be loaded onto a map in pieces without first reading it into
+ * a single String. The features are not parsed, only copied with the
+ * whitespace between tokens removed. Values other than strings, objects and
+ * arrays must be JSON numbers or literals, so a chunk can't smuggle in
+ * Javascript expressions, but its structure is not otherwise checked and it
+ * should still be passed to JSON.parse rather than evaluated.
+ * <p>
+ * A document which is a single Feature or Geometry rather than a
+ * FeatureCollection is returned whole as the only chunk.
+ */
+public class GeoJsonReader implements Closeable {
+
+    private static final String CHUNK_START = "{\"type\":\"FeatureCollection\",\"features\":[";
+    private static final String CHUNK_END = "]}";
+    private static final Pattern NUMBER = Pattern.compile("-?(0|[1-9][0-9]*)(\\.[0-9]+)?([eE][+-]?[0-9]+)?");
+
+    private enum State {
+        START, MEMBERS, FEATURES, DONE
+    }
+
+    private final Reader reader;
+    private final char[] buffer = new char[8192];
+    private int position;
+    private int limit;
+    private int pushback = -2;
+
+    private State state = State.START;
+    private final StringBuilder root = new StringBuilder();
+    private boolean rootHasMembers;
+    private boolean hasFeatures;
+    private int featureCount;
+
+    /**
+     * @param reader The source of the GeoJSON document. It is read
+     * sequentially and should not need to be buffered.
+     */
+    public GeoJsonReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Reads the next chunk of features.
+     *
+     * @param maxFeatures The maximum number of features in the chunk.
+     * @param maxChars The number of characters after which the chunk is
+     * ended, although a single feature larger than this is always returned
+     * whole.
+     * @return A FeatureCollection, or null when there are no more features.
+     * @throws IOException if the document can't be read or is not valid
+     * GeoJSON.
+     */
+    public String readChunk(int maxFeatures, int maxChars) throws IOException {
+        StringBuilder chunk = new StringBuilder(CHUNK_START);
+        int count = 0;
+        while (true) {
+            switch (state) {
+                case START: {
+                    if (skipWhitespace() != '{') {
+                        throw new IOException("Expected a GeoJSON object");
+                    }
+                    root.append('{');
+                    state = State.MEMBERS;
+                    break;
+                }
+                case MEMBERS: {
+                    int c = skipWhitespace();
+                    if (c == ',') {
+                        break;
+                    }
+                    if (c == '}') {
+                        state = State.DONE;
+                        if (!hasFeatures) {
+                            featureCount++;
+                            return root.append('}').toString();
+                        }
+                        break;
+                    }
+                    if (c != '"') {
+                        throw new IOException("Expected a member name but found " + describe(c));
+                    }
+                    String name = readString();
+                    if (skipWhitespace() != ':') {
+                        throw new IOException("Expected ':' after \"" + name + "\"");
+                    }
+                    int v = skipWhitespace();
+                    if (name.equals("features") && v == '[' && !hasFeatures) {
+                        hasFeatures = true;
+                        root.setLength(0);
+                        state = State.FEATURES;
+                    } else {
+                        unread(v);
+                        if (!hasFeatures) {
+                            if (rootHasMembers) {
+                                root.append(',');
+                            }
+                            root.append('"').append(name).append("\":");
+                            rootHasMembers = true;
+                            copyValue(root);
+                        } else {
+                            copyValue(null);
+                        }
+                    }
+                    break;
+                }
+                case FEATURES: {
+                    int c = skipWhitespace();
+                    if (c == ',') {
+                        break;
+                    }
+                    if (c == ']') {
+                        state = State.MEMBERS;
+                        if (count > 0) {
+                            return chunk.append(CHUNK_END).toString();
+                        }
+                        break;
+                    }
+                    unread(c);
+                    if (count > 0) {
+                        chunk.append(',');
+                    }
+                    copyValue(chunk);
+                    count++;
+                    featureCount++;
+                    if (count >= maxFeatures || chunk.length() >= maxChars) {
+                        return chunk.append(CHUNK_END).toString();
+                    }
+                    break;
+                }
+                default:
+                    return null;
+            }
+        }
+    }
+
+    /**
+     * @return The number of features read so far.
+     */
+    public int getFeatureCount() {
+        return featureCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Copies one JSON value, without whitespace outside of strings, or skips
+     * it if out is null.
+     */
+    private void copyValue(StringBuilder out) throws IOException {
+        int c = skipWhitespace();
+        if (c == '"') {
+            append(out, '"');
+            copyStringBody(out);
+            return;
+        }
+        if (c == '{' || c == '[') {
+            int depth = 1;
+            append(out, c);
+            while (depth > 0) {
+                c = read();
+                if (c == -1) {
+                    throw new EOFException("GeoJSON document ends inside a value");
+                }
+                if (c == '"') {
+                    append(out, '"');
+                    copyStringBody(out);
+                    continue;
+                }
+                if (c == '{' || c == '[') {
+                    depth++;
+                } else if (c == '}' || c == ']') {
+                    depth--;
+                } else if (isWhitespace(c)) {
+                    continue;
+                } else if (c != ',' && c != ':') {
+                    copyLiteral(out, c);
+                    continue;
+                }
+                append(out, c);
+            }
+            return;
+        }
+        if (c == -1 || c == ',' || c == '}' || c == ']') {
+            throw new IOException("Expected a value but found " + describe(c));
+        }
+        copyLiteral(out, c);
+    }
+
+    /**
+     * Copies a number, true, false or null, starting with c. Anything else is
+     * rejected, so that a chunk can't contain Javascript which isn't JSON.
+     */
+    private void copyLiteral(StringBuilder out, int c) throws IOException {
+        StringBuilder token = new StringBuilder();
+        while (c != -1 && c != ',' && c != ':' && c != '"' && c != '{' && c != '}'
+                && c != '[' && c != ']' && !isWhitespace(c)) {
+            token.append((char) c);
+            c = read();
+        }
+        unread(c);
+        String literal = token.toString();
+        if (!literal.equals("true") && !literal.equals("false") && !literal.equals("null")
+                && !NUMBER.matcher(literal).matches()) {
+            throw new IOException("Expected a JSON value but found '" + literal + "'");
+        }
+        if (out != null) {
+            out.append(literal);
+        }
+    }
+
+    /**
+     * Copies the rest of a string, up to and including the closing quote.
+     * Line and paragraph separators are escaped, as they are allowed in JSON
+     * strings but not in Javascript string literals.
+     */
+    private void copyStringBody(StringBuilder out) throws IOException {
+        while (true) {
+            int c = read();
+            if (c == -1) {
+                throw new EOFException("GeoJSON document ends inside a string");
+            }
+            if (c == '\\') {
+                append(out, c);
+                c = read();
+                if (c == -1) {
+                    throw new EOFException("GeoJSON document ends inside a string");
+                }
+                append(out, c);
+                continue;
+            } else if (c == '\u2028' || c == '\u2029') {
+                if (out != null) {
+                    out.append(c == '\u2028' ? "\\u2028" : "\\u2029");
+                }
+                continue;
+            }
+            append(out, c);
+            if (c == '"') {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Reads the rest of a member name, returning it still escaped.
+     */
+    private String readString() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        copyStringBody(sb);
+        sb.setLength(sb.length() - 1);
+        return sb.toString();
+    }
+
+    private static void append(StringBuilder out, int c) {
+        if (out != null) {
+            out.append((char) c);
+        }
+    }
+
+    private int skipWhitespace() throws IOException {
+        int c = read();
+        while (isWhitespace(c)) {
+            c = read();
+        }
+        return c;
+    }
+
+    private static boolean isWhitespace(int c) {
+        return c == ' ' || c == '\n' || c == '\r' || c == '\t' || c == '\uFEFF';
+    }
+
+    private int read() throws IOException {
+        if (pushback != -2) {
+            int c = pushback;
+            pushback = -2;
+            return c;
+        }
+        if (position == limit) {
+            limit = reader.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        return buffer[position++];
+    }
+
+    private void unread(int c) {
+        pushback = c;
+    }
+
+    private static String describe(int c) {
+        return c == -1 ? "the end of the document" : "'" + (char) c + "'";
+    }
+
+}
@@ -0,0 +1,322 @@
+/*
+ * Copyright 2026 Lynden, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lynden.gmapsfx.geometry;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * A static KD-tree over two dimensional points, held in flat primitive
+ * arrays.
+ * <p>
+ * The tree is built once from a set of points and cannot be changed. Points
+ * are identified by their index in the arrays the tree was built from. The
+ * points are sorted in place into leaf buckets, splitting alternately on x
+ * and y, with the two halves of each split sorted in parallel on the common
+ * ForkJoin pool once they are large enough.
+ */
+public class PointKDTree {
+
+    /** The default number of points in each leaf of the tree. */
+    public static final int DEFAULT_NODE_SIZE = 64;
+
+    private static final int PARALLEL_THRESHOLD = 8192;
+
+    private final int nodeSize;
+    private final int[] ids;
+    private final double[] coords;
+
+    /**
+     * Builds a tree over the supplied points.
+     *
+     * @param xs The x coordinates.
+     * @param ys The y coordinates, the same length as xs.
+     */
+    public PointKDTree(double[] xs, double[] ys) {
+        this(xs, ys, xs.length, DEFAULT_NODE_SIZE);
+    }
+
+    /**
+     * Builds a tree over the first count points supplied.
+     *
+     * @param xs The x coordinates.
+     * @param ys The y coordinates.
+     * @param count The number of points.
+     * @param nodeSize The number of points in each leaf.
+     */
+    public PointKDTree(double[] xs, double[] ys, int count, int nodeSize) {
+        if (xs.length < count || ys.length < count) {
+            throw new IllegalArgumentException("Coordinate arrays are shorter than " + count);
+        }
+        if (nodeSize < 1) {
+            throw new IllegalArgumentException("Node size must be at least 1: " + nodeSize);
+        }
+        this.nodeSize = nodeSize;
+        this.ids = new int[count];
+        this.coords = new double[count * 2];
+        for (int i = 0; i < count; i++) {
+            ids[i] = i;
+            coords[i * 2] = xs[i];
+            coords[i * 2 + 1] = ys[i];
+        }
+        if (count > PARALLEL_THRESHOLD) {
+            ForkJoinPool.commonPool().invoke(new SortTask(0, count - 1, 0));
+        } else {
+            sort(0, count - 1, 0);
+        }
+    }
+
+    /**
+     * @return The number of points in the tree.
+     */
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * Finds the points within a rectangle, including its edges.
+     *
+     * @param minX The left of the rectangle.
+     * @param minY The top of the rectangle.
+     * @param maxX The right of the rectangle.
+     * @param maxY The bottom of the rectangle.
+     * @param consumer Receives the index of each point found.
+     */
+    public void range(double minX, double minY, double maxX, double maxY, IntConsumer consumer) {
+        if (ids.length == 0) {
+            return;
+        }
+        int[] stack = new int[64];
+        int top = 0;
+        stack[top++] = 0;
+        stack[top++] = ids.length - 1;
+        stack[top++] = 0;
+
+        while (top > 0) {
+            int axis = stack[--top];
+            int right = stack[--top];
+            int left = stack[--top];
+
+            if (right - left <= nodeSize) {
+                for (int i = left; i <= right; i++) {
+                    double x = coords[i * 2];
+                    double y = coords[i * 2 + 1];
+                    if (x >= minX && x <= maxX && y >= minY && y <= maxY) {
+                        consumer.accept(ids[i]);
+                    }
+                }
+                continue;
+            }
+
+            int m = (left + right) >> 1;
+            double x = coords[m * 2];
+            double y = coords[m * 2 + 1];
+            if (x >= minX && x <= maxX && y >= minY && y <= maxY) {
+                consumer.accept(ids[m]);
+            }
+
+            double value = axis == 0 ? x : y;
+            double min = axis == 0 ? minX : minY;
+            double max = axis == 0 ? maxX : maxY;
+            if (top + 6 > stack.length) {
+                stack = Arrays.copyOf(stack, stack.length * 2);
+            }
+            if (min <= value) {
+                stack[top++] = left;
+                stack[top++] = m - 1;
+                stack[top++] = 1 - axis;
+            }
+            if (max >= value) {
+                stack[top++] = m + 1;
+                stack[top++] = right;
+                stack[top++] = 1 - axis;
+            }
+        }
+    }
+
+    /**
+     * Finds the points within a distance of a point.
+     *
+     * @param qx The x coordinate of the centre.
+     * @param qy The y coordinate of the centre.
+     * @param radius The distance.
+     * @param consumer Receives the index of each point found.
+     */
+    public void within(double qx, double qy, double radius, IntConsumer consumer) {
+        if (ids.length == 0) {
+            return;
+        }
+        double r2 = radius * radius;
+        int[] stack = new int[64];
+        int top = 0;
+        stack[top++] = 0;
+        stack[top++] = ids.length - 1;
+        stack[top++] = 0;
+
+        while (top > 0) {
+            int axis = stack[--top];
+            int right = stack[--top];
+            int left = stack[--top];
+
+            if (right - left <= nodeSize) {
+                for (int i = left; i <= right; i++) {
+                    if (squaredDistance(coords[i * 2], coords[i * 2 + 1], qx, qy) <= r2) {
+                        consumer.accept(ids[i]);
+                    }
+                }
+                continue;
+            }
+
+            int m = (left + right) >> 1;
+            double x = coords[m * 2];
+            double y = coords[m * 2 + 1];
+            if (squaredDistance(x, y, qx, qy) <= r2) {
+                consumer.accept(ids[m]);
+            }
+
+            double value = axis == 0 ? x : y;
+            double q = axis == 0 ? qx : qy;
+            if (top + 6 > stack.length) {
+                stack = Arrays.copyOf(stack, stack.length * 2);
+            }
+            if (q - radius <= value) {
+                stack[top++] = left;
+                stack[top++] = m - 1;
+                stack[top++] = 1 - axis;
+            }
+            if (q + radius >= value) {
+                stack[top++] = m + 1;
+                stack[top++] = right;
+                stack[top++] = 1 - axis;
+            }
+        }
+    }
+
+    private static double squaredDistance(double ax, double ay, double bx, double by) {
+        double dx = ax - bx;
+        double dy = ay - by;
+        return dx * dx + dy * dy;
+    }
+
+    private void sort(int left, int right, int axis) {
+        while (right - left > nodeSize) {
+            int m = (left + right) >> 1;
+            select(m, left, right, axis);
+            sort(left, m - 1, 1 - axis);
+            left = m + 1;
+            axis = 1 - axis;
+        }
+    }
+
+    /**
+     * Sorts the two halves of a range on separate threads until they become
+     * small enough to sort directly.
+     */
+    private class SortTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int left;
+        private final int right;
+        private final int axis;
+
+        SortTask(int left, int right, int axis) {
+            this.left = left;
+            this.right = right;
+            this.axis = axis;
+        }
+
+        @Override
+        protected void compute() {
+            if (right - left <= PARALLEL_THRESHOLD) {
+                sort(left, right, axis);
+                return;
+            }
+            int m = (left + right) >> 1;
+            select(m, left, right, axis);
+            invokeAll(new SortTask(left, m - 1, 1 - axis), new SortTask(m + 1, right, 1 - axis));
+        }
+    }
+
+    /**
+     * Floyd-Rivest selection: rearranges the range so that the k-th element
+     * along the axis is in place, with smaller elements before it and larger
+     * ones after.
+     */
+    private void select(int k, int left, int right, int axis) {
+        while (right > left) {
+            if (right - left > 600) {
+                int n = right - left + 1;
+                int m = k - left + 1;
+                double z = Math.log(n);
+                double s = 0.5 * Math.exp(2 * z / 3);
+                double sd = 0.5 * Math.sqrt(z * s * (n - s) / n) * (m - n / 2.0 < 0 ? -1 : 1);
+                int newLeft = (int) Math.max(left, Math.floor(k - m * s / n + sd));
+                int newRight = (int) Math.min(right, Math.floor(k + (n - m) * s / n + sd));
+                select(k, newLeft, newRight, axis);
+            }
+
+            double t = coords[2 * k + axis];
+            int i = left;
+            int j = right;
+
+            swap(left, k);
+            if (coords[2 * right + axis] > t) {
+                swap(left, right);
+            }
+
+            while (i < j) {
+                swap(i, j);
+                i++;
+                j--;
+                while (coords[2 * i + axis] < t) {
+                    i++;
+                }
+                while (coords[2 * j + axis] > t) {
+                    j--;
+                }
+            }
+
+            if (coords[2 * left + axis] == t) {
+                swap(left, j);
+            } else {
+                j++;
+                swap(j, right);
+            }
+
+            if (j <= k) {
+                left = j + 1;
+            }
+            if (k <= j) {
+                right = j - 1;
+            }
+        }
+    }
+
+    private void swap(int i, int j) {
+        int id = ids[i];
+        ids[i] = ids[j];
+        ids[j] = id;
+        double x = coords[2 * i];
+        coords[2 * i] = coords[2 * j];
+        coords[2 * j] = x;
+        double y = coords[2 * i + 1];
+        coords[2 * i + 1] = coords[2 * j + 1];
+        coords[2 * j + 1] = y;
+    }
+}
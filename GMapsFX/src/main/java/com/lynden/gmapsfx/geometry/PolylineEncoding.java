@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 Lynden, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lynden.gmapsfx.geometry;
+
+import com.lynden.gmapsfx.javascript.object.CoordinateBuffer;
+
+/**
+ * Encodes and decodes paths in Google's encoded polyline algorithm format.
+ * <p>
+ * Each coordinate is rounded to five decimal places and stored as the
+ * difference from the previous one, as a sequence of printable characters, so
+ * a path usually takes a few bytes per vertex. This is the format of the
+ * overview polyline of a directions route, and is compact enough to store
+ * paths in a database. Encoded paths can be decoded in Java, or given to a
+ * Polyline or Polygon and decoded in the browser by gmapsfx.decodePath() in
+ * GmapsFx.js.
+ */
+public class PolylineEncoding {
+
+    private static final double PRECISION = 1e5;
+
+    private PolylineEncoding() {
+    }
+
+    /**
+     * Encodes the points in a buffer.
+     *
+     * @param path The path to encode.
+     * @return The encoded path.
+     */
+    public static String encode(CoordinateBuffer path) {
+        StringBuilder sb = new StringBuilder(path.size() * 6);
+        long lastLat = 0;
+        long lastLng = 0;
+        for (int i = 0; i < path.size(); i++) {
+            long lat = Math.round(path.getLatitude(i) * PRECISION);
+            long lng = Math.round(path.getLongitude(i) * PRECISION);
+            encodeValue(sb, lat - lastLat);
+            encodeValue(sb, lng - lastLng);
+            lastLat = lat;
+            lastLng = lng;
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Encodes a path given as separate latitude and longitude arrays.
+     *
+     * @param lats The latitudes.
+     * @param lngs The longitudes, must be the same length as lats.
+     * @return The encoded path.
+     */
+    public static String encode(double[] lats, double[] lngs) {
+        return encode(new CoordinateBuffer(lats, lngs));
+    }
+
+    /**
+     * Decodes an encoded path.
+     *
+     * @param encoded The encoded path.
+     * @return The points of the path.
+     * @throws IllegalArgumentException if the path is truncated.
+     */
+    public static CoordinateBuffer decode(String encoded) {
+        CoordinateBuffer path = new CoordinateBuffer(Math.max(encoded.length() / 4, 1));
+        decode(encoded, path);
+        return path;
+    }
+
+    /**
+     * Decodes an encoded path, adding its points to the end of a buffer.
+     *
+     * @param encoded The encoded path.
+     * @param path The buffer to add the points to.
+     * @throws IllegalArgumentException if the path is truncated.
+     */
+    public static void decode(String encoded, CoordinateBuffer path) {
+        int index = 0;
+        int length = encoded.length();
+        long lat = 0;
+        long lng = 0;
+        long[] result = new long[1];
+        while (index < length) {
+            index = decodeValue(encoded, index, result);
+            lat += result[0];
+            if (index >= length) {
+                throw new IllegalArgumentException("Encoded path ends after a latitude at index " + index);
+            }
+            index = decodeValue(encoded, index, result);
+            lng += result[0];
+            path.add(lat / PRECISION, lng / PRECISION);
+        }
+    }
+
+    private static void encodeValue(StringBuilder sb, long value) {
+        long v = value < 0 ? ~(value << 1) : value << 1;
+        while (v >= 0x20) {
+            sb.append((char) ((0x20 | (v & 0x1f)) + 63));
+            v >>= 5;
+        }
+        sb.append((char) (v + 63));
+    }
+
+    private static int decodeValue(String encoded, int index, long[] result) {
+        long value = 0;
+        int shift = 0;
+        int b;
+        do {
+            if (index >= encoded.length()) {
+                throw new IllegalArgumentException("Encoded path is truncated at index " + index);
+            }
+            b = encoded.charAt(index++) - 63;
+            value |= (long) (b & 0x1f) << shift;
+            shift += 5;
+        } while (b >= 0x20);
+        result[0] = (value & 1) != 0 ? ~(value >> 1) : value >> 1;
+        return index;
+    }
+
+}
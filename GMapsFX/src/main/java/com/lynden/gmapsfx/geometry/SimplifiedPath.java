@@ -0,0 +1,255 @@
+/*
+ * Copyright 2026 Lynden, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lynden.gmapsfx.geometry;
+
+import com.lynden.gmapsfx.javascript.object.CoordinateBuffer;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * A path with simplified versions for each zoom level, so that a long path
+ * can be drawn with only the vertices that make a visible difference at the
+ * current zoom.
+ * <p>
+ * The path is run through the Douglas-Peucker algorithm once, in Web Mercator
+ * world coordinates, recording for each vertex the largest tolerance at which
+ * it would still be kept. The version for a zoom level is then just the
+ * vertices whose tolerance is greater than the pixel tolerance at that zoom,
+ * so each level is a single pass over the path. Levels are created the first
+ * time they are needed, or all at once, in parallel, by {@link #precompute()}.
+ * <p>
+ * The first and last vertices are always kept. For a closed ring, used as a
+ * polygon path, the vertex furthest from the first is kept too, so the ring
+ * keeps its shape.
+ */
+public class SimplifiedPath {
+
+    /** The highest zoom level a simplified version is created for. */
+    public static final int MAX_ZOOM = 22;
+
+    /** The default tolerance, in pixels. */
+    public static final double DEFAULT_TOLERANCE = 0.5;
+
+    private final CoordinateBuffer path;
+    private final double tolerance;
+    private final double[] significance;
+    private final CoordinateBuffer[] levels = new CoordinateBuffer[MAX_ZOOM + 1];
+
+    /**
+     * Creates a simplified path with the default tolerance of half a pixel,
+     * which is not visible on the map.
+     *
+     * @param path The full path.
+     */
+    public SimplifiedPath(CoordinateBuffer path) {
+        this(path, DEFAULT_TOLERANCE);
+    }
+
+    /**
+     * @param path The full path.
+     * @param tolerance How far, in pixels, the simplified path may stray from
+     * the full path.
+     */
+    public SimplifiedPath(CoordinateBuffer path, double tolerance) {
+        this.path = path;
+        this.tolerance = tolerance;
+        this.significance = computeSignificance(path);
+    }
+
+    /**
+     * @return The full path.
+     */
+    public CoordinateBuffer getPath() {
+        return path;
+    }
+
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    /**
+     * Gets the version of the path for a zoom level. The same buffer is
+     * returned each time for a zoom level, and the full path is returned when
+     * no vertices can be dropped, so callers can compare levels by identity to
+     * tell whether the path needs to be replaced.
+     *
+     * @param zoom The zoom level.
+     * @return The vertices which are visible at that zoom level.
+     */
+    public CoordinateBuffer getLevel(int zoom) {
+        int z = Math.max(0, Math.min(MAX_ZOOM, zoom));
+        CoordinateBuffer level = levels[z];
+        if (level == null) {
+            level = createLevel(z);
+            levels[z] = level;
+        }
+        return level;
+    }
+
+    /**
+     * Creates the versions of the path for every zoom level, in parallel.
+     *
+     * @return This path.
+     */
+    public SimplifiedPath precompute() {
+        IntStream.rangeClosed(0, MAX_ZOOM).parallel().forEach(this::getLevel);
+        return this;
+    }
+
+    /**
+     * Counts the vertices kept at a zoom level without creating that level.
+     *
+     * @param zoom The zoom level.
+     * @return The number of vertices.
+     */
+    public int getVertexCount(int zoom) {
+        double min = toleranceAt(Math.max(0, Math.min(MAX_ZOOM, zoom)));
+        int count = 0;
+        for (double s : significance) {
+            if (s > min) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private CoordinateBuffer createLevel(int zoom) {
+        int count = getVertexCount(zoom);
+        double min = toleranceAt(zoom);
+        if (count == path.size()) {
+            return path;
+        }
+        CoordinateBuffer level = new CoordinateBuffer(count);
+        for (int i = 0; i < significance.length; i++) {
+            if (significance[i] > min) {
+                level.add(path.getLatitude(i), path.getLongitude(i));
+            }
+        }
+        return level;
+    }
+
+    private double toleranceAt(int zoom) {
+        return tolerance / (1 << zoom);
+    }
+
+    /**
+     * Runs Douglas-Peucker over the whole path, giving each vertex the
+     * distance at which it was selected, capped at that of the vertex which
+     * split its range so that a vertex is never kept without the vertices on
+     * either side of its segment.
+     */
+    private static double[] computeSignificance(CoordinateBuffer path) {
+        int n = path.size();
+        double[] sig = new double[n];
+        if (n == 0) {
+            return sig;
+        }
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        double offset = 0;
+        for (int i = 0; i < n; i++) {
+            double x = WebMercatorProjection.toWorldX(path.getLongitude(i)) + offset;
+            // Unwrap paths crossing the antimeridian so segments stay short.
+            if (i > 0) {
+                double dx = x - xs[i - 1];
+                if (dx > WebMercatorProjection.TILE_SIZE / 2) {
+                    offset -= WebMercatorProjection.TILE_SIZE;
+                    x -= WebMercatorProjection.TILE_SIZE;
+                } else if (dx < -WebMercatorProjection.TILE_SIZE / 2) {
+                    offset += WebMercatorProjection.TILE_SIZE;
+                    x += WebMercatorProjection.TILE_SIZE;
+                }
+            }
+            xs[i] = x;
+            ys[i] = WebMercatorProjection.toWorldY(path.getLatitude(i));
+        }
+
+        sig[0] = Double.POSITIVE_INFINITY;
+        sig[n - 1] = Double.POSITIVE_INFINITY;
+        // A closed ring would collapse to its first point, so split it at the
+        // vertex furthest from the start.
+        int furthest = 0;
+        double furthestDistance = 0;
+        boolean closed = xs[0] == xs[n - 1] && ys[0] == ys[n - 1];
+        for (int i = 1; closed && i < n - 1; i++) {
+            double dx = xs[i] - xs[0];
+            double dy = ys[i] - ys[0];
+            double d = dx * dx + dy * dy;
+            if (d > furthestDistance) {
+                furthestDistance = d;
+                furthest = i;
+            }
+        }
+
+        int[] stack = new int[64];
+        int top = 0;
+        if (furthest > 0) {
+            sig[furthest] = Double.POSITIVE_INFINITY;
+            stack = push(stack, top, 0, furthest);
+            top += 2;
+            stack = push(stack, top, furthest, n - 1);
+            top += 2;
+        } else {
+            stack = push(stack, top, 0, n - 1);
+            top += 2;
+        }
+        while (top > 0) {
+            int last = stack[--top];
+            int first = stack[--top];
+            if (last - first < 2) {
+                continue;
+            }
+            double max = -1;
+            int index = -1;
+            for (int i = first + 1; i < last; i++) {
+                double d = segmentDistance(xs[i], ys[i], xs[first], ys[first], xs[last], ys[last]);
+                if (d > max) {
+                    max = d;
+                    index = i;
+                }
+            }
+            sig[index] = Math.min(max, Math.min(sig[first], sig[last]));
+            stack = push(stack, top, first, index);
+            top += 2;
+            stack = push(stack, top, index, last);
+            top += 2;
+        }
+        return sig;
+    }
+
+    private static int[] push(int[] stack, int top, int first, int last) {
+        if (top + 2 > stack.length) {
+            stack = Arrays.copyOf(stack, stack.length * 2);
+        }
+        stack[top] = first;
+        stack[top + 1] = last;
+        return stack;
+    }
+
+    private static double segmentDistance(double px, double py, double ax, double ay, double bx, double by) {
+        double dx = bx - ax;
+        double dy = by - ay;
+        double t = 0;
+        double lengthSquared = dx * dx + dy * dy;
+        if (lengthSquared > 0) {
+            t = Math.max(0, Math.min(1, ((px - ax) * dx + (py - ay) * dy) / lengthSquared));
+        }
+        double ex = px - (ax + t * dx);
+        double ey = py - (ay + t * dy);
+        return Math.sqrt(ex * ex + ey * ey);
+    }
+
+}
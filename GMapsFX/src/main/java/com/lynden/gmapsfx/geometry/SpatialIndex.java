@@ -0,0 +1,425 @@
+/*
+ * Copyright 2026 Lynden, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lynden.gmapsfx.geometry;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+
+/**
+ * A point quadtree over latitude/longitude positions, which can be updated
+ * as items are added, moved and removed.
+ * <p>
+ * Each leaf holds up to a fixed number of items, with their coordinates in
+ * primitive arrays, and splits into four when it overflows. The leaf holding
+ * each item is tracked, so removing or moving an item does not need to search
+ * the tree, and moving an item within its leaf only updates its coordinates.
+ * <p>
+ * Distances are great circle distances in metres. This class is not thread
+ * safe.
+ *
+ * @param <T> The type of item indexed.
+ */
+public class SpatialIndex<T> {
+
+    /** The mean radius of the Earth, in metres, used for distances. */
+    public static final double EARTH_RADIUS = 6371008.8;
+
+    private static final int NODE_CAPACITY = 32;
+    private static final int MAX_DEPTH = 24;
+
+    private final Map<T, Node> locations = new HashMap<>();
+    private Node root = new Node(null, -90, -180, 90, 180);
+
+    /**
+     * Adds an item, or moves it if it is already in the index.
+     *
+     * @param item The item.
+     * @param lat The latitude of the item.
+     * @param lng The longitude of the item.
+     */
+    public void put(T item, double lat, double lng) {
+        lat = clampLatitude(lat);
+        lng = wrapLongitude(lng);
+        Node node = locations.get(item);
+        if (node != null) {
+            if (node.contains(lat, lng)) {
+                node.move(item, lat, lng);
+                return;
+            }
+            node.remove(item);
+        }
+        insert(root, item, lat, lng);
+    }
+
+    /**
+     * Removes an item.
+     *
+     * @param item The item.
+     * @return true if the item was in the index.
+     */
+    public boolean remove(T item) {
+        Node node = locations.remove(item);
+        if (node == null) {
+            return false;
+        }
+        node.remove(item);
+        return true;
+    }
+
+    public boolean contains(T item) {
+        return locations.containsKey(item);
+    }
+
+    public int size() {
+        return locations.size();
+    }
+
+    public void clear() {
+        locations.clear();
+        root = new Node(null, -90, -180, 90, 180);
+    }
+
+    /**
+     * Finds the items within a rectangle.
+     *
+     * @param west The western longitude. If this is greater than east the
+     * rectangle crosses the antimeridian.
+     * @param south The southern latitude.
+     * @param east The eastern longitude.
+     * @param north The northern latitude.
+     * @param consumer Receives each item found.
+     */
+    public void query(double west, double south, double east, double north, Consumer<? super T> consumer) {
+        if (east - west >= 360) {
+            query(root, south, -180, north, 180, consumer);
+            return;
+        }
+        west = wrapLongitude(west);
+        east = wrapLongitude(east);
+        if (west <= east) {
+            query(root, south, west, north, east, consumer);
+        } else {
+            query(root, south, west, north, 180, consumer);
+            query(root, south, -180, north, east, consumer);
+        }
+    }
+
+    /**
+     * Finds the items within a rectangle.
+     *
+     * @param west The western longitude.
+     * @param south The southern latitude.
+     * @param east The eastern longitude.
+     * @param north The northern latitude.
+     * @return The items found.
+     */
+    public List<T> query(double west, double south, double east, double north) {
+        List<T> found = new ArrayList<>();
+        query(west, south, east, north, found::add);
+        return found;
+    }
+
+    /**
+     * Finds the items within a distance of a point.
+     *
+     * @param lat The latitude of the point.
+     * @param lng The longitude of the point.
+     * @param radius The distance in metres.
+     * @return The items found.
+     */
+    public List<T> within(double lat, double lng, double radius) {
+        List<T> found = new ArrayList<>();
+        double dLat = Math.toDegrees(radius / EARTH_RADIUS);
+        double south = lat - dLat;
+        double north = lat + dLat;
+        double west = -180;
+        double east = 180;
+        if (north < 90 && south > -90) {
+            double dLng = Math.toDegrees(Math.asin(Math.min(1, Math.sin(radius / EARTH_RADIUS)
+                    / Math.cos(Math.toRadians(lat)))));
+            if (dLng < 180) {
+                west = lng - dLng;
+                east = lng + dLng;
+            }
+        }
+        query(west, south, east, north, new Consumer<T>() {
+            @Override
+            public void accept(T item) {
+                Node node = locations.get(item);
+                int i = node.indexOf(item);
+                if (distance(lat, lng, node.lats[i], node.lngs[i]) <= radius) {
+                    found.add(item);
+                }
+            }
+        });
+        return found;
+    }
+
+    /**
+     * Finds the items closest to a point, nearest first.
+     *
+     * @param lat The latitude of the point.
+     * @param lng The longitude of the point.
+     * @param k The maximum number of items to find.
+     * @return The items found.
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> nearest(double lat, double lng, int k) {
+        List<T> found = new ArrayList<>(Math.min(k, size()));
+        if (k <= 0 || root.count == 0) {
+            return found;
+        }
+        PriorityQueue<Candidate> queue = new PriorityQueue<>();
+        queue.add(new Candidate(root, null, 0));
+        while (!queue.isEmpty() && found.size() < k) {
+            Candidate candidate = queue.poll();
+            if (candidate.node == null) {
+                found.add(candidate.item);
+                continue;
+            }
+            Node node = candidate.node;
+            if (node.children != null) {
+                for (Node child : node.children) {
+                    if (child.count > 0) {
+                        queue.add(new Candidate(child, null, child.minDistance(lat, lng)));
+                    }
+                }
+            } else {
+                for (int i = 0; i < node.size; i++) {
+                    queue.add(new Candidate(null, (T) node.items[i], distance(lat, lng, node.lats[i], node.lngs[i])));
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * @return The great circle distance in metres between two points.
+     */
+    public static double distance(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private void insert(Node node, T item, double lat, double lng) {
+        while (true) {
+            node.count++;
+            if (node.children == null) {
+                node.add(item, lat, lng);
+                locations.put(item, node);
+                if (node.size > NODE_CAPACITY && node.depth < MAX_DEPTH) {
+                    split(node);
+                }
+                return;
+            }
+            node = node.childFor(lat, lng);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void split(Node node) {
+        double midLat = (node.minLat + node.maxLat) / 2;
+        double midLng = (node.minLng + node.maxLng) / 2;
+        node.children = (Node[]) new SpatialIndex<?>.Node[]{
+            new Node(node, node.minLat, node.minLng, midLat, midLng),
+            new Node(node, node.minLat, midLng, midLat, node.maxLng),
+            new Node(node, midLat, node.minLng, node.maxLat, midLng),
+            new Node(node, midLat, midLng, node.maxLat, node.maxLng)
+        };
+        for (int i = 0; i < node.size; i++) {
+            Node child = node.childFor(node.lats[i], node.lngs[i]);
+            child.count++;
+            child.add((T) node.items[i], node.lats[i], node.lngs[i]);
+            locations.put((T) node.items[i], child);
+        }
+        node.lats = null;
+        node.lngs = null;
+        node.items = null;
+        node.size = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void query(Node node, double south, double west, double north, double east, Consumer<? super T> consumer) {
+        if (node.count == 0 || node.minLat > north || node.maxLat < south || node.minLng > east || node.maxLng < west) {
+            return;
+        }
+        if (node.children != null) {
+            for (Node child : node.children) {
+                query(child, south, west, north, east, consumer);
+            }
+            return;
+        }
+        for (int i = 0; i < node.size; i++) {
+            double lat = node.lats[i];
+            double lng = node.lngs[i];
+            if (lat >= south && lat <= north && lng >= west && lng <= east) {
+                consumer.accept((T) node.items[i]);
+            }
+        }
+    }
+
+    private static double haversine(double degrees) {
+        double sin = Math.sin(Math.toRadians(degrees) / 2);
+        return sin * sin;
+    }
+
+    private static double clampLatitude(double lat) {
+        return Math.max(-90, Math.min(90, lat));
+    }
+
+    private static double wrapLongitude(double lng) {
+        if (lng >= -180 && lng <= 180) {
+            return lng;
+        }
+        return lng - Math.floor((lng + 180.0) / 360.0) * 360.0;
+    }
+
+    /**
+     * A quadrant of the index. Leaves hold items, other nodes hold four
+     * children. The count of a node is the number of items beneath it.
+     */
+    private final class Node {
+
+        private final double minLat;
+        private final double minLng;
+        private final double maxLat;
+        private final double maxLng;
+        private final int depth;
+        private final Node parent;
+        private Node[] children;
+        private double[] lats = new double[8];
+        private double[] lngs = new double[8];
+        private Object[] items = new Object[8];
+        private int size;
+        private int count;
+
+        Node(Node parent, double minLat, double minLng, double maxLat, double maxLng) {
+            this.parent = parent;
+            this.depth = parent == null ? 0 : parent.depth + 1;
+            this.minLat = minLat;
+            this.minLng = minLng;
+            this.maxLat = maxLat;
+            this.maxLng = maxLng;
+        }
+
+        boolean contains(double lat, double lng) {
+            return lat >= minLat && lat <= maxLat && lng >= minLng && lng <= maxLng;
+        }
+
+        Node childFor(double lat, double lng) {
+            int index = (lat >= (minLat + maxLat) / 2 ? 2 : 0) + (lng >= (minLng + maxLng) / 2 ? 1 : 0);
+            return children[index];
+        }
+
+        void add(T item, double lat, double lng) {
+            if (size == items.length) {
+                int capacity = size * 2;
+                lats = Arrays.copyOf(lats, capacity);
+                lngs = Arrays.copyOf(lngs, capacity);
+                items = Arrays.copyOf(items, capacity);
+            }
+            lats[size] = lat;
+            lngs[size] = lng;
+            items[size] = item;
+            size++;
+        }
+
+        int indexOf(T item) {
+            for (int i = 0; i < size; i++) {
+                if (items[i] == item || items[i].equals(item)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        void move(T item, double lat, double lng) {
+            int i = indexOf(item);
+            lats[i] = lat;
+            lngs[i] = lng;
+        }
+
+        void remove(T item) {
+            int i = indexOf(item);
+            size--;
+            lats[i] = lats[size];
+            lngs[i] = lngs[size];
+            items[i] = items[size];
+            items[size] = null;
+            for (Node node = this; node != null; node = node.parent) {
+                node.count--;
+            }
+        }
+
+        /**
+         * The distance from a point to the closest point in this node. If the
+         * point is east or west of the node, the closest point lies on the
+         * nearer of its meridian edges, going either way round the
+         * antimeridian, at the latitude where the great circle from the point
+         * meets that meridian at right angles, or else at a corner.
+         */
+        double minDistance(double lat, double lng) {
+            lng = wrapLongitude(lng);
+            if (lng >= minLng && lng <= maxLng) {
+                return distance(lat, lng, Math.max(minLat, Math.min(maxLat, lat)), lng);
+            }
+            // distance() is periodic in longitude, so the edges may be compared directly.
+            double edgeLng = haversine(minLng - lng) <= haversine(maxLng - lng) ? minLng : maxLng;
+            double cosDLng = Math.cos(Math.toRadians(edgeLng - lng));
+            double closestLat;
+            if (cosDLng <= 0) {
+                closestLat = lat > 0 ? 90 : -90;
+            } else {
+                closestLat = Math.toDegrees(Math.atan(Math.tan(Math.toRadians(lat)) / cosDLng));
+            }
+            if (closestLat > minLat && closestLat < maxLat) {
+                return distance(lat, lng, closestLat, edgeLng);
+            }
+            return Math.min(distance(lat, lng, minLat, edgeLng), distance(lat, lng, maxLat, edgeLng));
+        }
+    }
+
+    /**
+     * An entry in the best-first search for the nearest items, either a node
+     * to be expanded or an item.
+     */
+    private final class Candidate implements Comparable<Candidate> {
+
+        private final Node node;
+        private final T item;
+        private final double distance;
+
+        Candidate(Node node, T item, double distance) {
+            this.node = node;
+            this.item = item;
+            this.distance = distance;
+        }
+
+        @Override
+        public int compareTo(Candidate other) {
+            return Double.compare(distance, other.distance);
+        }
+    }
+}
@@ -0,0 +1,309 @@
+/*
+ * Copyright 2026 Lynden, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lynden.gmapsfx.geometry;
+
+import com.lynden.gmapsfx.javascript.object.LatLong;
+import com.lynden.gmapsfx.javascript.object.MapViewState;
+import javafx.geometry.Point2D;
+
+/**
+ * A Java implementation of the spherical Web Mercator projection used by
+ * Google Maps, fixed to one view of a map.
+ * <p>
+ * Google Maps works in three coordinate systems. World coordinates run from 0
+ * to 256 across the whole map at zoom 0. Pixel coordinates are world
+ * coordinates multiplied by 2<sup>zoom</sup>. Tile coordinates are pixel
+ * coordinates divided by the 256 pixel tile size. This class converts between
+ * latitude/longitude and screen coordinates, measured in pixels from the top
+ * left of the map, without calling into the Javascript runtime. A projection
+ * is created from the center, zoom and size of the map, usually from a
+ * {@link MapViewState}, and is immutable, so a new one is needed each time the
+ * view changes.
+ * <p>
+ * Heading and tilt are not taken into account, so the results only match the
+ * map when it is displayed top down, which is the default.
+ */
+public class WebMercatorProjection {
+
+    /** The size in pixels of a map tile, and of the world at zoom 0. */
+    public static final int TILE_SIZE = 256;
+
+    /** The maximum latitude shown by the projection, in degrees. */
+    public static final double MAX_LATITUDE = 85.0511287798066;
+
+    private final double zoom;
+    private final double scale;
+    private final double worldSize;
+    private final double centerX;
+    private final double centerY;
+    private final double width;
+    private final double height;
+
+    /**
+     * @param centerLatitude The latitude at the center of the map.
+     * @param centerLongitude The longitude at the center of the map.
+     * @param zoom The zoom level of the map.
+     * @param width The width of the map in pixels.
+     * @param height The height of the map in pixels.
+     */
+    public WebMercatorProjection(double centerLatitude, double centerLongitude, double zoom, double width, double height) {
+        this.zoom = zoom;
+        this.scale = Math.pow(2, zoom);
+        this.worldSize = TILE_SIZE * scale;
+        this.centerX = toWorldX(centerLongitude) * scale;
+        this.centerY = toWorldY(centerLatitude) * scale;
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Creates a projection for the view captured by a snapshot.
+     *
+     * @param state The view of the map.
+     * @return The projection.
+     */
+    public static WebMercatorProjection fromViewState(MapViewState state) {
+        return new WebMercatorProjection(state.getCenterLatitude(), state.getCenterLongitude(),
+                state.getZoom(), state.getWidth(), state.getHeight());
+    }
+
+    /**
+     * @param longitude A longitude in degrees.
+     * @return The world x coordinate, from 0 to 256.
+     */
+    public static double toWorldX(double longitude) {
+        return TILE_SIZE * (0.5 + longitude / 360.0);
+    }
+
+    /**
+     * @param latitude A latitude in degrees. Latitudes beyond
+     * {@link #MAX_LATITUDE} are clamped.
+     * @return The world y coordinate, from 0 at the top to 256 at the bottom.
+     */
+    public static double toWorldY(double latitude) {
+        double sinY = Math.sin(Math.toRadians(clampLatitude(latitude)));
+        return TILE_SIZE * (0.5 - Math.log((1 + sinY) / (1 - sinY)) / (4 * Math.PI));
+    }
+
+    /**
+     * @param worldX A world x coordinate.
+     * @return The longitude in degrees.
+     */
+    public static double toLongitude(double worldX) {
+        return (worldX / TILE_SIZE - 0.5) * 360.0;
+    }
+
+    /**
+     * @param worldY A world y coordinate.
+     * @return The latitude in degrees.
+     */
+    public static double toLatitude(double worldY) {
+        double n = Math.PI * (1 - 2 * worldY / TILE_SIZE);
+        return Math.toDegrees(Math.atan(Math.sinh(n)));
+    }
+
+    /**
+     * @param longitude A longitude in degrees.
+     * @param zoom A zoom level.
+     * @return The x index of the tile containing the longitude.
+     */
+    public static int getTileX(double longitude, int zoom) {
+        return (int) Math.floor(toWorldX(longitude) * (1 << zoom) / TILE_SIZE);
+    }
+
+    /**
+     * @param latitude A latitude in degrees.
+     * @param zoom A zoom level.
+     * @return The y index of the tile containing the latitude.
+     */
+    public static int getTileY(double latitude, int zoom) {
+        return (int) Math.floor(toWorldY(latitude) * (1 << zoom) / TILE_SIZE);
+    }
+
+    private static double clampLatitude(double latitude) {
+        return Math.max(-MAX_LATITUDE, Math.min(MAX_LATITUDE, latitude));
+    }
+
+    public double getZoom() {
+        return zoom;
+    }
+
+    /**
+     * @return The number of pixels per world coordinate, 2<sup>zoom</sup>.
+     */
+    public double getScale() {
+        return scale;
+    }
+
+    public double getWidth() {
+        return width;
+    }
+
+    public double getHeight() {
+        return height;
+    }
+
+    /**
+     * Projects a point to screen coordinates.
+     *
+     * @param latitude The latitude in degrees.
+     * @param longitude The longitude in degrees.
+     * @return The position in pixels from the top left of the map.
+     */
+    public Point2D project(double latitude, double longitude) {
+        return new Point2D(projectX(longitude), projectY(latitude));
+    }
+
+    public Point2D project(LatLong latLong) {
+        return project(latLong.getLatitude(), latLong.getLongitude());
+    }
+
+    /**
+     * Projects many points to screen coordinates without allocating.
+     *
+     * @param lats The latitudes in degrees.
+     * @param lngs The longitudes in degrees, the same length as lats.
+     * @param outXY Receives the x and y of each point, interleaved, so it must
+     * be at least twice the length of lats.
+     */
+    public void project(double[] lats, double[] lngs, double[] outXY) {
+        project(lats, lngs, 0, lats.length, outXY, 0);
+    }
+
+    /**
+     * Projects a range of points to screen coordinates without allocating.
+     *
+     * @param lats The latitudes in degrees.
+     * @param lngs The longitudes in degrees.
+     * @param offset The index of the first point to project.
+     * @param length The number of points to project.
+     * @param outXY Receives the x and y of each point, interleaved.
+     * @param outOffset The index in outXY of the first x.
+     */
+    public void project(double[] lats, double[] lngs, int offset, int length, double[] outXY, int outOffset) {
+        if (lngs.length < offset + length || lats.length < offset + length) {
+            throw new IllegalArgumentException("Coordinate arrays are shorter than the range to project");
+        }
+        if (outXY.length < outOffset + length * 2) {
+            throw new IllegalArgumentException("Output array is too short: " + outXY.length);
+        }
+        int out = outOffset;
+        for (int i = offset; i < offset + length; i++) {
+            outXY[out++] = projectX(lngs[i]);
+            outXY[out++] = projectY(lats[i]);
+        }
+    }
+
+    /**
+     * @param longitude A longitude in degrees.
+     * @return The screen x coordinate of the longitude, using the copy of the
+     * world closest to the center of the map.
+     */
+    public double projectX(double longitude) {
+        return worldToScreenX(toWorldX(longitude));
+    }
+
+    /**
+     * @param latitude A latitude in degrees.
+     * @return The screen y coordinate of the latitude.
+     */
+    public double projectY(double latitude) {
+        return worldToScreenY(toWorldY(latitude));
+    }
+
+    /**
+     * Converts a world x coordinate to a screen x coordinate. Unlike
+     * projectX() this is only a scale and an offset, so callers that project
+     * the same points for many views can convert them to world coordinates
+     * once, with {@link #toWorldX(double)}, and use this for each view.
+     *
+     * @param worldX A world x coordinate.
+     * @return The screen x coordinate, using the copy of the world closest to
+     * the center of the map.
+     */
+    public double worldToScreenX(double worldX) {
+        double dx = worldX * scale - centerX;
+        double half = worldSize / 2;
+        if (dx < -half || dx >= half) {
+            dx -= Math.floor((dx + half) / worldSize) * worldSize;
+        }
+        return dx + width / 2;
+    }
+
+    /**
+     * Converts a world y coordinate to a screen y coordinate.
+     *
+     * @param worldY A world y coordinate.
+     * @return The screen y coordinate.
+     * @see #worldToScreenX(double)
+     */
+    public double worldToScreenY(double worldY) {
+        return worldY * scale - centerY + height / 2;
+    }
+
+    /**
+     * Converts screen coordinates back to a point.
+     *
+     * @param x Pixels from the left of the map.
+     * @param y Pixels from the top of the map.
+     * @return The point, with its longitude normalised to -180 to 180.
+     */
+    public LatLong unproject(double x, double y) {
+        return new LatLong(unprojectY(y), unprojectX(x));
+    }
+
+    /**
+     * Converts many screen coordinates back to points without allocating.
+     *
+     * @param xy The x and y of each point, interleaved.
+     * @param outLats Receives the latitudes, at least half the length of xy.
+     * @param outLngs Receives the longitudes, at least half the length of xy.
+     */
+    public void unproject(double[] xy, double[] outLats, double[] outLngs) {
+        int count = xy.length / 2;
+        if (outLats.length < count || outLngs.length < count) {
+            throw new IllegalArgumentException("Output arrays are too short for " + count + " points");
+        }
+        for (int i = 0; i < count; i++) {
+            outLngs[i] = unprojectX(xy[i * 2]);
+            outLats[i] = unprojectY(xy[i * 2 + 1]);
+        }
+    }
+
+    public double unprojectX(double x) {
+        double lng = toLongitude((x - width / 2 + centerX) / scale);
+        return lng - Math.floor((lng + 180.0) / 360.0) * 360.0;
+    }
+
+    public double unprojectY(double y) {
+        return toLatitude((y - height / 2 + centerY) / scale);
+    }
+
+    /**
+     * @param x Pixels from the left of the map.
+     * @param y Pixels from the top of the map.
+     * @return true if the screen coordinates are within the map.
+     */
+    public boolean isVisible(double x, double y) {
+        return x >= 0 && y >= 0 && x < width && y < height;
+    }
+
+    @Override
+    public String toString() {
+        return "WebMercatorProjection[center=" + unprojectY(height / 2) + "," + unprojectX(width / 2)
+                + ", zoom=" + zoom + ", size=" + width + "x" + height + "]";
+    }
+}
@@ -93,4 +93,33 @@ public interface IJavascriptRuntime {
      */
     String getArrayFunction(String function, Object[] ary);
 
+    /**
+     * Starts a batch. While a batch is open, commands passed to queue() are
+     * collected rather than executed, and are sent to the JavaScript
+     * environment as a single script when the outermost batch is committed.
+     * Batches may be nested.
+     */
+    void beginBatch();
+
+    /**
+     * Commits the current batch. If this is the outermost batch, all of the
+     * queued commands are executed in one call to the JavaScript environment.
+     */
+    void commitBatch();
+
+    /**
+     * Checks whether a batch is currently open.
+     *
+     * @return true if commands passed to queue() are currently being deferred.
+     */
+    boolean isBatching();
+
+    /**
+     * Queues the specified command for execution when the current batch is
+     * committed. If no batch is open the command is executed immediately.
+     *
+     * @param command The JavaScript command to execute. No value is returned.
+     */
+    void queue(String command);
+
 }
@@ -36,8 +36,7 @@ public class JavascriptArray extends JavascriptObject {
     private final Map<JSObject, JavascriptObject> content = new HashMap<>();
     
     public JavascriptArray() {
-        runtime.execute("var " + variableName + " = []");
-        jsObject = runtime.execute(variableName);
+        createPeer("[]");
     }
     
     public Object  get(int idx) {
@@ -15,25 +15,35 @@
  */
 package com.lynden.gmapsfx.javascript;
 
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Constructor;
 import java.util.Map;
 import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import netscape.javascript.JSObject;
 
 /**
  * Base class for any Google JavaScript object.
+ * <p>
+ * Objects created from Java are held in a global Javascript variable named
+ * after this object's variable name. The variable is deleted when dispose() is
+ * called, or otherwise once this object has been garbage collected.
  *
  * @author Rob Terpilowski
  */
-public class JavascriptObject {
+public class JavascriptObject implements AutoCloseable {
 
-    protected static Map<JSObject,JavascriptObject> peerRegistry = new WeakHashMap<>();
+    protected static Map<JSObject, WeakReference<JavascriptObject>> peerRegistry = new WeakHashMap<>();
     protected IJavascriptRuntime runtime;
     protected JSObject jsObject;
-    protected static int objectCounter = 0;
+    // Objects such as LatLong may be created on threads feeding a MapUpdateQueue.
+    protected static final AtomicInteger objectCounter = new AtomicInteger();
     protected String variableName;
+    private boolean pending;
+    private boolean declared;
+    private PeerReclaimer.PeerReference peerReference;
     
     /**
      */
@@ -61,9 +71,7 @@ public class JavascriptObject {
     protected JavascriptObject( String type, String stringRepresentation ) {
         runtime = JavascriptRuntime.getInstance();
         variableName = getNextVariableName();
-        runtime.execute( "var " + variableName + " = " + stringRepresentation );
-        jsObject = runtime.execute(variableName);
-        peerRegistry.put(jsObject, this);
+        createPeer(stringRepresentation);
     }
 
     /**
@@ -73,9 +81,7 @@ public class JavascriptObject {
     protected JavascriptObject(String type, Object... args) {
         runtime = JavascriptRuntime.getInstance();
         variableName = getNextVariableName();
-        runtime.execute("var " + variableName + " = " + runtime.getConstructor(type, args));
-        jsObject = runtime.execute(variableName);
-        peerRegistry.put(jsObject, this);
+        createPeer(runtime.getConstructor(type, args));
     }
 
     /**
@@ -88,9 +94,7 @@ public class JavascriptObject {
     protected JavascriptObject(String type, Object[] ary, boolean isArray) {
         runtime = JavascriptRuntime.getInstance();
         variableName = getNextVariableName();
-        runtime.execute("var " + variableName + " = " + runtime.getArrayConstructor(type, ary));
-        jsObject = runtime.execute(variableName);
-        peerRegistry.put(jsObject, this);
+        createPeer(runtime.getArrayConstructor(type, ary));
     }
     
     
@@ -104,18 +108,88 @@ public class JavascriptObject {
         runtime = JavascriptRuntime.getInstance();
         variableName = getNextVariableName();
         this.jsObject = jsObject;
-        peerRegistry.put(jsObject, this);
+        peerRegistry.put(jsObject, new WeakReference<>(this));
+    }
+
+    /**
+     * Assigns the result of the supplied constructor to this object's variable.
+     * If the runtime is batching, the assignment is queued and the underlying
+     * JSObject is only looked up the first time it is needed.
+     *
+     * @param constructor The script that creates the Javascript object.
+     */
+    protected void createPeer(String constructor) {
+        PeerReclaimer.reclaim();
+        String assignment = "window." + variableName + " = " + constructor;
+        declared = true;
+        peerReference = PeerReclaimer.register(this, runtime, variableName);
+        if (runtime.isBatching()) {
+            runtime.queue(assignment);
+            pending = true;
+        } else {
+            runtime.execute(assignment);
+            jsObject = runtime.execute(variableName);
+            peerRegistry.put(jsObject, new WeakReference<>(this));
+        }
     }
 
     /**
      * Get the underlying object used by the Javascript runtime.
+     * <p>
+     * If this object was created while the runtime was batching, this will
+     * commit any queued commands before looking up the object.
      *
      * @return The underlying Javascript object
      */
     public JSObject getJSObject() {
+        if (pending) {
+            pending = false;
+            jsObject = runtime.execute(variableName);
+            peerRegistry.put(jsObject, new WeakReference<>(this));
+        }
         return jsObject;
     }
 
+    /**
+     * Releases the underlying Javascript object by deleting its global
+     * variable. The Javascript object itself will be freed once nothing else
+     * in the page, such as a map it has been added to, refers to it.
+     * <p>
+     * This object must not be used after it has been disposed.
+     */
+    public void dispose() {
+        if (jsObject != null) {
+            peerRegistry.remove(jsObject);
+        }
+        if (peerReference != null) {
+            peerReference.release();
+            peerReference = null;
+        }
+        pending = false;
+        declared = false;
+        jsObject = null;
+    }
+
+    /**
+     * Equivalent to dispose(), allowing short lived objects to be used in
+     * try-with-resources blocks.
+     */
+    @Override
+    public void close() {
+        dispose();
+    }
+
+    /**
+     * Gets the number of JavascriptObjects which currently hold a global
+     * Javascript variable, that is, those which have been created but not yet
+     * disposed of or reclaimed after garbage collection.
+     *
+     * @return The number of live objects.
+     */
+    public static int getLivePeerCount() {
+        return PeerReclaimer.getLiveCount();
+    }
+
     /**
      * Gets the name of the next variable which will be the objectname plus a
      * unique number
@@ -123,7 +197,7 @@ public class JavascriptObject {
      * @return The name of the next variable to create
      */
     protected final String getNextVariableName() {
-        return getClass().getSimpleName() + (objectCounter++);
+        return getClass().getSimpleName() + objectCounter.getAndIncrement();
     }
 
     /**
@@ -143,7 +217,7 @@ public class JavascriptObject {
      * @param propertyValue The property value.
      */
     protected void setProperty(String propertyName, Object propertyValue) {
-        jsObject.setMember(propertyName, propertyValue);
+        getJSObject().setMember(propertyName, propertyValue);
     }
 
     /**
@@ -154,7 +228,7 @@ public class JavascriptObject {
      * @param propertyValue The value of the property.
      */
     protected void setProperty(String propertyName, JavascriptObject propertyValue) {
-        jsObject.setMember(propertyName, propertyValue.getJSObject());
+        getJSObject().setMember(propertyName, propertyValue.getJSObject());
     }
 
     /**
@@ -167,7 +241,7 @@ public class JavascriptObject {
      * @param propertyValue The value of the property.
      */    
     protected void setProperty(String propertyName, JavascriptEnum propertyValue) {
-        jsObject.setMember(propertyName, propertyValue.getEnumValue());
+        getJSObject().setMember(propertyName, propertyValue.getEnumValue());
     }
 
     
@@ -178,7 +252,7 @@ public class JavascriptObject {
      * @return The value of the property
      */
     protected Object getProperty(String key) {
-        return checkUndefined(jsObject.getMember(key));
+        return checkUndefined(getJSObject().getMember(key));
     }
 
     /**
@@ -206,7 +280,7 @@ public class JavascriptObject {
      * @return The return value of the function call.
      */
     protected Object invokeJavascript(String function) {
-        return checkUndefined(jsObject.call(function));
+        return checkUndefined(getJSObject().call(function));
     }
 
     /**
@@ -227,7 +301,52 @@ public class JavascriptObject {
                 jsArgs[i] = args[i];
             }
         }
-        return checkUndefined(jsObject.call(function, (Object[]) jsArgs));
+        return checkUndefined(getJSObject().call(function, (Object[]) jsArgs));
+    }
+
+    /**
+     * Invokes the specified JavaScript function where the return value is not
+     * required. If the runtime is batching, the call is queued and sent to the
+     * JavaScript environment when the batch is committed.
+     * <p>
+     * Only JavascriptObjects, JavascriptEnums, numbers, booleans and nulls can be
+     * queued as arguments, since the call is built as a script.
+     *
+     * @param function The function to invoke
+     * @param args Any arguments to pass to the function
+     */
+    protected void queueJavascript(String function, Object... args) {
+        if (runtime.isBatching() && isScriptable(args)) {
+            runtime.queue(runtime.getFunction(variableName, function, args));
+        } else {
+            invokeJavascript(function, args);
+        }
+    }
+
+    /**
+     * Checks that this object, and any JavascriptObject arguments, can be
+     * referred to by variable name within a script.
+     */
+    private boolean isScriptable(Object... args) {
+        if (!isScriptable()) {
+            return false;
+        }
+        for (Object arg : args) {
+            if (arg instanceof JavascriptObject && !((JavascriptObject) arg).isScriptable()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether this object can be referred to by its variable name
+     * within a script, which is only the case for objects created from Java.
+     *
+     * @return true if the object has a global variable.
+     */
+    protected boolean isScriptable() {
+        return declared;
     }
 
     /**
@@ -272,7 +391,7 @@ public class JavascriptObject {
     
     
     protected boolean isMemberDefined(String member) {
-        Object res = jsObject.getMember(member);
+        Object res = getJSObject().getMember(member);
         return (res instanceof String && ! ((String) res).equals("undefined"));
         
     }
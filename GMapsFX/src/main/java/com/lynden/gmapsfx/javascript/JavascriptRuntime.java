@@ -30,6 +30,9 @@ public class JavascriptRuntime implements IJavascriptRuntime {
 
     public static IWebEngine engine;
 
+    protected final StringBuilder batch = new StringBuilder();
+    protected int batchDepth = 0;
+
     /**
      * Gets a singleton instance of this class, creating one if it doesn't yet
      * exist.
@@ -60,6 +63,7 @@ public class JavascriptRuntime implements IJavascriptRuntime {
      */
     @Override
     public JSObject execute(String command) {
+        flushBatch();
         Object returnValue = engine.executeScript(command);
         if (returnValue instanceof JSObject) {
             return (JSObject) returnValue;
@@ -78,7 +82,10 @@ public class JavascriptRuntime implements IJavascriptRuntime {
      */
     @Override
     public String getConstructor(String javascriptObjectType, Object... args) {
-        return getFunction("new " + javascriptObjectType, args);
+        try (ScriptBuilder sb = ScriptBuilder.get()) {
+            return sb.append("new ").append(javascriptObjectType)
+                    .append('(').appendArgs(args).append(')').build();
+        }
     }
 
     /**
@@ -92,8 +99,13 @@ public class JavascriptRuntime implements IJavascriptRuntime {
      */
     @Override
     public String getArrayConstructor(String javascriptObjectType, Object[] ary) {
-        String fn = getArrayFunction("new " + javascriptObjectType, ary);
-        return fn;
+        if (ary == null || ary.length == 0) {
+            return getArrayFunction("new " + javascriptObjectType, ary);
+        }
+        try (ScriptBuilder sb = ScriptBuilder.get()) {
+            return sb.append("new ").append(javascriptObjectType)
+                    .append("([").appendArgs(ary).append("])").build();
+        }
     }
 
     /**
@@ -108,7 +120,10 @@ public class JavascriptRuntime implements IJavascriptRuntime {
      */
     @Override
     public String getFunction(String variable, String function, Object... args) {
-        return getFunction(variable + "." + function, args);
+        try (ScriptBuilder sb = ScriptBuilder.get()) {
+            return sb.append(variable).append('.').append(function)
+                    .append('(').appendArgs(args).append(')').build();
+        }
     }
 
     /**
@@ -125,14 +140,9 @@ public class JavascriptRuntime implements IJavascriptRuntime {
         if (args == null) {
             return function + "();";
         }
-        StringBuilder sb = new StringBuilder();
-        sb.append(function).append("(");
-        for (Object arg : args) {
-            sb.append(getArgString(arg)).append(",");
+        try (ScriptBuilder sb = ScriptBuilder.get()) {
+            return sb.append(function).append('(').appendArgs(args).append(')').build();
         }
-        sb.replace(sb.length() - 1, sb.length(), ")");
-
-        return sb.toString();
     }
 
     /**
@@ -149,21 +159,75 @@ public class JavascriptRuntime implements IJavascriptRuntime {
         if (ary == null || ary.length == 0) {
             return function + "([]);";
         }
-        StringBuilder sb = new StringBuilder();
-        sb.append(function).append("([");
-        for (Object arg : ary) {
-            if (arg instanceof JavascriptObject) {
-                sb.append(((JavascriptObject) arg).getVariableName()).append(",");
-            } else {
-                sb.append(getArgString(arg)).append(",");
-            }
+        try (ScriptBuilder sb = ScriptBuilder.get()) {
+            return sb.append(function).append("([").appendArgs(ary).append("])").build();
         }
-        sb.replace(sb.length() - 1, sb.length(), "]").append(")");
-
-        return sb.toString();
     }
     
     
+    /**
+     * Starts a batch. While a batch is open, commands passed to queue() are
+     * collected rather than executed, and are sent to the JavaScript
+     * environment as a single script when the outermost batch is committed.
+     * Batches may be nested.
+     */
+    @Override
+    public void beginBatch() {
+        batchDepth++;
+    }
+
+    /**
+     * Commits the current batch. If this is the outermost batch, all of the
+     * queued commands are executed in one call to the JavaScript environment.
+     */
+    @Override
+    public void commitBatch() {
+        if (batchDepth == 0) {
+            throw new IllegalStateException("No batch has been started");
+        }
+        if (--batchDepth == 0) {
+            flushBatch();
+        }
+    }
+
+    /**
+     * Checks whether a batch is currently open.
+     *
+     * @return true if commands passed to queue() are currently being deferred.
+     */
+    @Override
+    public boolean isBatching() {
+        return batchDepth > 0;
+    }
+
+    /**
+     * Queues the specified command for execution when the current batch is
+     * committed. If no batch is open the command is executed immediately.
+     *
+     * @param command The JavaScript command to execute. No value is returned.
+     */
+    @Override
+    public void queue(String command) {
+        if (batchDepth == 0) {
+            engine.executeScript(command);
+        } else {
+            batch.append(command).append(";\n");
+        }
+    }
+
+    /**
+     * Executes any commands which have been queued so far as a single script.
+     * This is also called before any direct call to execute() so that commands
+     * are always run in the order they were issued.
+     */
+    protected void flushBatch() {
+        if (batch.length() > 0) {
+            String script = batch.toString();
+            batch.setLength(0);
+            engine.executeScript(script);
+        }
+    }
+
     /**
      * Sets a Javascript runtime to use.  Should only be used by unit tests to set a mock runtime
      * @param testRuntime The runtime to use
@@ -179,16 +243,11 @@ public class JavascriptRuntime implements IJavascriptRuntime {
      * @return A String representation of the argument.
      */
     protected String getArgString(Object arg) {
-        //if (arg instanceof LatLong) {
-        //    return ((LatLong) arg).getVariableName();
-        //} else 
-        if (arg instanceof JavascriptObject) {
-             return ((JavascriptObject) arg).getVariableName();
-           // return ((JavascriptObject) arg).getPropertiesAsString();
-        } else if( arg instanceof JavascriptEnum ) {
-            return ((JavascriptEnum) arg).getEnumValue().toString();
-        } else {
-            return arg.toString();
+        if (arg instanceof String) {
+            return (String) arg;
+        }
+        try (ScriptBuilder sb = ScriptBuilder.get()) {
+            return sb.appendArg(arg).build();
         }
     }
 }
@@ -0,0 +1,274 @@
+/*
+ * Copyright 2026 Lynden, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lynden.gmapsfx.javascript;
+
+/**
+ * Utility methods for writing Java values into JavaScript source, used where
+ * bulk data is sent to the helper functions in GmapsFx.js as a single call.
+ */
+public class JavascriptUtils {
+
+    private JavascriptUtils() {
+    }
+
+    /**
+     * Quotes the supplied String as a JavaScript string literal, escaping any
+     * characters that would otherwise end or break the literal.
+     *
+     * @param value The String to quote, may be null.
+     * @return The quoted literal, or the literal null if the value is null.
+     */
+    public static String quote(String value) {
+        if (value == null) {
+            return "null";
+        }
+        StringBuilder sb = new StringBuilder(value.length() + 2);
+        appendQuoted(sb, value);
+        return sb.toString();
+    }
+
+    /**
+     * Appends the supplied String to the builder as a JavaScript string literal.
+     *
+     * @param sb The builder to append to.
+     * @param value The String to quote.
+     */
+    public static void appendQuoted(StringBuilder sb, String value) {
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    sb.append("\\\"");
+                    break;
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20 || c == 0x2028 || c == 0x2029) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+        sb.append('"');
+    }
+
+    /**
+     * Builds a JavaScript array literal of quoted strings.
+     *
+     * @param values The Strings to include, null elements are written as null.
+     * @return The array literal.
+     */
+    public static String toArrayLiteral(String[] values) {
+        StringBuilder sb = new StringBuilder(values.length * 16);
+        sb.append('[');
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            if (values[i] == null) {
+                sb.append("null");
+            } else {
+                appendQuoted(sb, values[i]);
+            }
+        }
+        return sb.append(']').toString();
+    }
+
+    private static final int MAX_FAST_DECIMALS = 9;
+    private static final double[] POWERS_OF_TEN = {1, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9};
+    private static final long MAX_EXACT_LONG = 1L << 53;
+
+    /**
+     * Appends a number as a Javascript numeric literal which parses back to
+     * exactly the same double.
+     * <p>
+     * Whole numbers, and numbers with up to nine decimal places such as most
+     * coordinates, are written from a scaled long without going through
+     * Double.toString(), which is much slower. A value v written this way as
+     * the digits of m with k decimal places satisfies m / 10^k == v in double
+     * arithmetic, where m and 10^k are exact, so the decimal m * 10^-k
+     * rounds to v when it is parsed. Other values, including NaN, the
+     * infinities and negative zero, fall back to Double.toString(), whose
+     * output is also a valid Javascript literal.
+     *
+     * @param sb The builder to append to.
+     * @param value The number.
+     */
+    public static void appendNumber(StringBuilder sb, double value) {
+        double abs = Math.abs(value);
+        if (abs < MAX_EXACT_LONG && value != 0) {
+            int k = MAX_FAST_DECIMALS;
+            while (k > 0 && abs * POWERS_OF_TEN[k] >= MAX_EXACT_LONG) {
+                k--;
+            }
+            long m = Math.round(abs * POWERS_OF_TEN[k]);
+            if (m / POWERS_OF_TEN[k] == abs) {
+                // Trailing zeros don't change the decimal, so it still parses to abs.
+                while (k > 0 && m % 10 == 0) {
+                    m /= 10;
+                    k--;
+                }
+                if (value < 0) {
+                    sb.append('-');
+                }
+                appendScaled(sb, m, k);
+                return;
+            }
+        } else if (value == 0 && 1 / value > 0) {
+            sb.append('0');
+            return;
+        }
+        sb.append(value);
+    }
+
+    /**
+     * Appends m * 10^-k, where m is not negative.
+     */
+    private static void appendScaled(StringBuilder sb, long m, int k) {
+        if (k == 0) {
+            sb.append(m);
+            return;
+        }
+        long divisor = (long) POWERS_OF_TEN[k];
+        sb.append(m / divisor).append('.');
+        long fraction = m % divisor;
+        for (long d = divisor / 10; d > fraction && d > 1; d /= 10) {
+            sb.append('0');
+        }
+        sb.append(fraction);
+    }
+
+    /**
+     * Packs the latitudes and longitudes into a single comma separated String
+     * of interleaved lat,lng values, which can be decoded by
+     * gmapsfx.toLatLngs().
+     *
+     * @param lats The latitudes.
+     * @param lngs The longitudes, must be the same length as the latitudes.
+     * @return The packed coordinates.
+     */
+    public static String packCoordinates(double[] lats, double[] lngs) {
+        return packCoordinates(lats, lngs, null);
+    }
+
+    /**
+     * Packs the latitudes, longitudes and optional weights into a single comma
+     * separated String of interleaved values, lat,lng when there are no
+     * weights and lat,lng,weight otherwise, which can be decoded by
+     * gmapsfx.toLatLngs() or gmapsfx.toHeatmapData() respectively.
+     *
+     * @param lats The latitudes.
+     * @param lngs The longitudes, must be the same length as the latitudes.
+     * @param weights The weights, must be the same length as the latitudes,
+     * or null to pack the coordinates only.
+     * @return The packed coordinates.
+     */
+    public static String packCoordinates(double[] lats, double[] lngs, double[] weights) {
+        if (lats.length != lngs.length || (weights != null && weights.length != lats.length)) {
+            throw new IllegalArgumentException("Latitude, longitude and weight arrays must be the same length");
+        }
+        int stride = weights == null ? 2 : 3;
+        StringBuilder sb = new StringBuilder(lats.length * stride * 12);
+        for (int i = 0; i < lats.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            appendNumber(sb, lats[i]);
+            sb.append(',');
+            appendNumber(sb, lngs[i]);
+            if (weights != null) {
+                sb.append(',');
+                appendNumber(sb, weights[i]);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Packs the supplied values into a single comma separated String, which
+     * can be decoded by gmapsfx.unpack().
+     *
+     * @param values The values to pack.
+     * @param offset The index of the first value to pack.
+     * @param length The number of values to pack.
+     * @return The packed values.
+     */
+    public static String pack(double[] values, int offset, int length) {
+        StringBuilder sb = new StringBuilder(length * 12);
+        for (int i = offset; i < offset + length; i++) {
+            if (i > offset) {
+                sb.append(',');
+            }
+            appendNumber(sb, values[i]);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Decodes a string of comma separated numbers, as packed by pack() or by
+     * an Array.join(',') in Javascript, into an array. Empty or unparseable
+     * values, such as those produced by undefined in Javascript, are NaN.
+     *
+     * @param packed The packed values, may be null or empty.
+     * @return The values.
+     */
+    public static double[] unpack(String packed) {
+        if (packed == null || packed.isEmpty()) {
+            return new double[0];
+        }
+        int count = 1;
+        for (int i = 0; i < packed.length(); i++) {
+            if (packed.charAt(i) == ',') {
+                count++;
+            }
+        }
+        double[] values = new double[count];
+        int start = 0;
+        for (int v = 0; v < count; v++) {
+            int end = packed.indexOf(',', start);
+            if (end < 0) {
+                end = packed.length();
+            }
+            values[v] = parseDouble(packed, start, end);
+            start = end + 1;
+        }
+        return values;
+    }
+
+    private static double parseDouble(String packed, int start, int end) {
+        if (start == end) {
+            return Double.NaN;
+        }
+        try {
+            return Double.parseDouble(packed.substring(start, end));
+        } catch (NumberFormatException ex) {
+            return Double.NaN;
+        }
+    }
+
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 Lynden, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lynden.gmapsfx.javascript;
+
+import java.lang.ref.PhantomReference;
+import java.lang.ref.ReferenceQueue;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tracks the global Javascript variables created for JavascriptObjects, so
+ * that the variable can be deleted once the Java object has been disposed of
+ * or garbage collected. Without this the global variable keeps the
+ * Javascript object alive for the life of the page.
+ * <p>
+ * Collected objects are picked up from a reference queue and their variables
+ * deleted the next time reclaim() is called. This is done whenever a new
+ * JavascriptObject is created, so it always happens on the thread that is
+ * allowed to use the web engine.
+ */
+class PeerReclaimer {
+
+    private static final ReferenceQueue<JavascriptObject> queue = new ReferenceQueue<>();
+    private static final Set<PeerReference> references = Collections.newSetFromMap(new ConcurrentHashMap<PeerReference, Boolean>());
+    private static final AtomicInteger liveCount = new AtomicInteger();
+
+    private PeerReclaimer() {
+    }
+
+    /**
+     * Starts tracking the global variable belonging to the supplied object.
+     *
+     * @param object The object which owns the variable.
+     * @param runtime The runtime the variable was created in.
+     * @param variableName The name of the global variable.
+     * @return A reference which can be used to release the variable early.
+     */
+    static PeerReference register(JavascriptObject object, IJavascriptRuntime runtime, String variableName) {
+        PeerReference ref = new PeerReference(object, runtime, variableName);
+        references.add(ref);
+        liveCount.incrementAndGet();
+        return ref;
+    }
+
+    /**
+     * Deletes the global variables of any objects which have been garbage
+     * collected since the last call. The deletes are sent in a single batch,
+     * so a collection which frees many objects costs one call into the web
+     * engine rather than one per object.
+     */
+    static void reclaim() {
+        PeerReference ref = (PeerReference) queue.poll();
+        if (ref == null) {
+            return;
+        }
+        IJavascriptRuntime runtime = ref.runtime;
+        runtime.beginBatch();
+        try {
+            do {
+                ref.release();
+            } while ((ref = (PeerReference) queue.poll()) != null);
+        } finally {
+            runtime.commitBatch();
+        }
+    }
+
+    /**
+     * Gets the number of global variables which are currently held for
+     * JavascriptObjects.
+     *
+     * @return The number of live variables.
+     */
+    static int getLiveCount() {
+        return liveCount.get();
+    }
+
+    static class PeerReference extends PhantomReference<JavascriptObject> {
+
+        private final IJavascriptRuntime runtime;
+        private final String variableName;
+        private boolean released;
+
+        PeerReference(JavascriptObject object, IJavascriptRuntime runtime, String variableName) {
+            super(object, queue);
+            this.runtime = runtime;
+            this.variableName = variableName;
+        }
+
+        /**
+         * Deletes the global variable, if it hasn't been deleted already.
+         */
+        synchronized void release() {
+            if (!released) {
+                released = true;
+                clear();
+                references.remove(this);
+                liveCount.decrementAndGet();
+                runtime.queue("delete window." + variableName);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2026 Lynden, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lynden.gmapsfx.javascript;
+
+/**
+ * Builds the scripts passed to the JavaScript runtime.
+ * <p>
+ * Each thread keeps one builder whose buffer is reused from call to call, so
+ * building a constructor or function call does not allocate anything other
+ * than the resulting String. Numbers are written by
+ * {@link JavascriptUtils#appendNumber(StringBuilder, double)}, which is exact,
+ * does not depend on the default Locale, and avoids Double.toString() for
+ * values with few decimal places, such as most coordinates. If a builder is
+ * requested while the thread's builder is already in use, for example because
+ * converting an argument creates another Javascript object, a new builder is
+ * returned instead.
+ * <p>
+ * A builder is released by close(), so it should be used in a
+ * try-with-resources statement, which releases it even if building the script
+ * fails:
+ * <pre>
+ * try (ScriptBuilder sb = ScriptBuilder.get()) {
+ *     return sb.append(function).append('(').appendArgs(args).append(')').build();
+ * }
+ * </pre>
+ */
+public class ScriptBuilder implements AutoCloseable {
+
+    private static final int INITIAL_CAPACITY = 256;
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+
+    private static final ThreadLocal<ScriptBuilder> cache = new ThreadLocal<ScriptBuilder>() {
+        @Override
+        protected ScriptBuilder initialValue() {
+            return new ScriptBuilder();
+        }
+    };
+
+    private StringBuilder sb = new StringBuilder(INITIAL_CAPACITY);
+    private boolean inUse;
+
+    private ScriptBuilder() {
+    }
+
+    /**
+     * Gets an empty builder for the current thread. The builder must be
+     * released with a call to close().
+     *
+     * @return An empty builder.
+     */
+    public static ScriptBuilder get() {
+        ScriptBuilder builder = cache.get();
+        if (builder.inUse) {
+            builder = new ScriptBuilder();
+        }
+        builder.inUse = true;
+        builder.sb.setLength(0);
+        return builder;
+    }
+
+    /**
+     * Appends a fragment of script, as is.
+     *
+     * @param script The script to append.
+     * @return This builder.
+     */
+    public ScriptBuilder append(String script) {
+        sb.append(script);
+        return this;
+    }
+
+    public ScriptBuilder append(char c) {
+        sb.append(c);
+        return this;
+    }
+
+    public ScriptBuilder append(int value) {
+        sb.append(value);
+        return this;
+    }
+
+    public ScriptBuilder append(double value) {
+        JavascriptUtils.appendNumber(sb, value);
+        return this;
+    }
+
+    /**
+     * Appends the supplied String as a quoted, escaped JavaScript string
+     * literal.
+     *
+     * @param value The String, may be null.
+     * @return This builder.
+     */
+    public ScriptBuilder appendString(String value) {
+        if (value == null) {
+            sb.append("null");
+        } else {
+            JavascriptUtils.appendQuoted(sb, value);
+        }
+        return this;
+    }
+
+    /**
+     * Appends an argument to a constructor or function call. JavascriptObjects
+     * are referred to by their variable name, JavascriptEnums by their value,
+     * and numbers are written directly. Strings are appended as they are, so
+     * that they can be used to pass script expressions; use appendString() for
+     * a String value.
+     *
+     * @param arg The argument to append.
+     * @return This builder.
+     */
+    public ScriptBuilder appendArg(Object arg) {
+        if (arg == null) {
+            sb.append("null");
+        } else if (arg instanceof JavascriptObject) {
+            sb.append(((JavascriptObject) arg).getVariableName());
+        } else if (arg instanceof JavascriptEnum) {
+            sb.append(((JavascriptEnum) arg).getEnumValue());
+        } else if (arg instanceof Double) {
+            JavascriptUtils.appendNumber(sb, (Double) arg);
+        } else if (arg instanceof Float) {
+            sb.append(((Float) arg).floatValue());
+        } else if (arg instanceof Integer || arg instanceof Long || arg instanceof Short || arg instanceof Byte) {
+            sb.append(((Number) arg).longValue());
+        } else {
+            sb.append(arg);
+        }
+        return this;
+    }
+
+    /**
+     * Appends the arguments, separated by commas.
+     *
+     * @param args The arguments to append, or null for no arguments.
+     * @return This builder.
+     */
+    public ScriptBuilder appendArgs(Object[] args) {
+        if (args == null) {
+            return this;
+        }
+        for (int i = 0; i < args.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            appendArg(args[i]);
+        }
+        return this;
+    }
+
+    /**
+     * Gets the script that has been built.
+     *
+     * @return The script.
+     */
+    public String build() {
+        return sb.toString();
+    }
+
+    /**
+     * Releases this builder for reuse by the current thread.
+     */
+    @Override
+    public void close() {
+        if (sb.capacity() > MAX_RETAINED_CAPACITY) {
+            sb = new StringBuilder(INITIAL_CAPACITY);
+        }
+        inUse = false;
+    }
+
+}
@@ -16,10 +16,11 @@
 package com.lynden.gmapsfx.javascript.event;
 
 import com.lynden.gmapsfx.javascript.object.LatLong;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.UUID;
+import com.lynden.gmapsfx.javascript.object.MapViewState;
+import java.util.Arrays;
 import netscape.javascript.JSObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * This object forms the bridge between Javascript events and the Java events.
@@ -33,10 +34,14 @@ import netscape.javascript.JSObject;
  * type in the Google Maps event model. See addUIEventHandler and
  * addStateEventHandler.
  * <p>
- * This class uses a key based on a UUID to map the Javascript event handlers
+ * This class uses an integer key to map the Javascript event handlers
  * registered against the Google Maps model back to our Java event handlers
- * stored here. The addXXEventHandler methods in GoogleMap create functions that
- * call back into this class using the supplied key.
+ * stored here. Keys are small, dense indexes into an array of registrations,
+ * and the keys of unregistered handlers are reused, so dispatching an event is
+ * a single array lookup. The type of handler is resolved when it is
+ * registered rather than on every event. The addXXEventHandler methods in
+ * GoogleMap create functions that call back into this class using the supplied
+ * key.
  * <p>
  * Currently an instance of this class is registered as:
  * <code>document.jsHandlers</code>
@@ -47,7 +52,7 @@ import netscape.javascript.JSObject;
  * <p>
  * <blockquote><pre><code>
  * google.maps.event.addListener(map, 'event_type', function(event) {
- *      document.jsHandlers.handleUIEvent('key', event.latLng);
+ *      document.jsHandlers.handleUIEvent(key, event);
  * });
  * </code></pre></blockquote>
  * <p>
@@ -55,7 +60,7 @@ import netscape.javascript.JSObject;
  * <p>
  * <blockquote><pre><code>
  *  google.maps.event.addListener(map, 'event_type', function() {
- *      document.jsHandlers.handleStateEvent('key');
+ *      document.jsHandlers.handleStateEvent(key);
  *  });
  * </code></pre></blockquote>
  *
@@ -64,7 +69,15 @@ import netscape.javascript.JSObject;
  */
 public class EventHandlers {
 
-    private final Map<String, GFXEventHandler> handlers = new HashMap<>();
+    private static final Logger logger = LoggerFactory.getLogger(EventHandlers.class);
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private Registration[] registrations = new Registration[INITIAL_CAPACITY];
+    private int[] freeKeys = new int[INITIAL_CAPACITY];
+    private int freeCount;
+    private int nextKey;
+    private int count;
 
     public EventHandlers() {
     }
@@ -74,12 +87,65 @@ public class EventHandlers {
      * Javascript.
      *
      * @param handler Handler to be registered.
-     * @return A String random UUID that can be used as the callback key.
+     * @return A key that can be used as the callback key, and to unregister
+     * the handler.
+     * @throws IllegalArgumentException if the handler is not a
+     * {@link UIEventHandler}, {@link MouseEventHandler},
+     * {@link StateEventHandler} or {@link ViewStateEventHandler}.
      */
-    public String registerHandler(GFXEventHandler handler) {
-        String uuid = UUID.randomUUID().toString();
-        handlers.put(uuid, handler);
-        return uuid;
+    public int registerHandler(GFXEventHandler handler) {
+        Registration registration = new Registration(handler);
+        int key;
+        if (freeCount > 0) {
+            key = freeKeys[--freeCount];
+        } else {
+            key = nextKey++;
+            if (key == registrations.length) {
+                registrations = Arrays.copyOf(registrations, key * 2);
+            }
+        }
+        registrations[key] = registration;
+        count++;
+        return key;
+    }
+
+    /**
+     * Removes a previously registered handler. The key may be handed out again
+     * by a later call to {@link #registerHandler}, so the Javascript listener
+     * that calls back with the key should be removed at the same time.
+     *
+     * @param callbackKey Key generated by the call to registerHandler.
+     * @return true if a handler was registered against the key.
+     */
+    public boolean unregisterHandler(int callbackKey) {
+        if (getRegistration(callbackKey) == null) {
+            return false;
+        }
+        registrations[callbackKey] = null;
+        if (freeCount == freeKeys.length) {
+            freeKeys = Arrays.copyOf(freeKeys, freeCount * 2);
+        }
+        freeKeys[freeCount++] = callbackKey;
+        count--;
+        return true;
+    }
+
+    /**
+     * Returns the handler registered against a key.
+     *
+     * @param callbackKey Key generated by the call to registerHandler.
+     * @return The handler, or null if there is none.
+     */
+    public GFXEventHandler getHandler(int callbackKey) {
+        Registration registration = getRegistration(callbackKey);
+        return registration == null ? null : registration.handler;
+    }
+
+    /**
+     * @return The number of handlers currently registered.
+     */
+    public int getHandlerCount() {
+        return count;
     }
 
     /**
@@ -93,13 +159,14 @@ public class EventHandlers {
      * @param callbackKey Key generated by the call to registerHandler.
      * @param result Currently the event object from the Google Maps event.
      */
-    public void handleUIEvent(String callbackKey, JSObject result) {
-        if (handlers.containsKey(callbackKey) && handlers.get(callbackKey) instanceof UIEventHandler) {
-            ((UIEventHandler) handlers.get(callbackKey)).handle(result);
-        } else if (handlers.containsKey(callbackKey) && handlers.get(callbackKey) instanceof MouseEventHandler) {
-            ((MouseEventHandler) handlers.get(callbackKey)).handle(buildMouseEvent(result));
+    public void handleUIEvent(int callbackKey, JSObject result) {
+        Registration registration = getRegistration(callbackKey);
+        if (registration != null && registration.uiHandler != null) {
+            registration.uiHandler.handle(result);
+        } else if (registration != null && registration.mouseHandler != null) {
+            registration.mouseHandler.handle(buildMouseEvent(result));
         } else {
-            System.err.println("Error in handle: " + callbackKey + " for result: " + result);
+            logger.warn("No UI event handler registered for key {}", callbackKey);
         }
     }
 
@@ -110,18 +177,65 @@ public class EventHandlers {
      *
      * @param callbackKey Key generated by the call to registerHandler.
      */
-    public void handleStateEvent(String callbackKey) {
-        if (handlers.containsKey(callbackKey) && handlers.get(callbackKey) instanceof StateEventHandler) {
-            ((StateEventHandler) handlers.get(callbackKey)).handle();
+    public void handleStateEvent(int callbackKey) {
+        Registration registration = getRegistration(callbackKey);
+        if (registration != null && registration.stateHandler != null) {
+            registration.stateHandler.handle();
+        } else {
+            logger.warn("No state event handler registered for key {}", callbackKey);
+        }
+    }
+
+    /**
+     * This method is called from Javascript, passing in the previously created
+     * callback key and a snapshot of the view of the map, packed by
+     * <code>gmapsfx.viewState()</code>.
+     *
+     * @param callbackKey Key generated by the call to registerHandler.
+     * @param packedState The packed view state.
+     */
+    public void handleViewStateEvent(int callbackKey, String packedState) {
+        Registration registration = getRegistration(callbackKey);
+        if (registration != null && registration.viewStateHandler != null) {
+            registration.viewStateHandler.handle(MapViewState.parse(packedState));
         } else {
-            System.err.println("Error in handle: " + callbackKey + " for state handler ");
+            logger.warn("No view state handler registered for key {}", callbackKey);
         }
     }
 
-    
-    
     protected GMapMouseEvent buildMouseEvent(JSObject jsObject) {
         LatLong latLong = new LatLong((JSObject) jsObject.getMember("latLng"));
         return new GMapMouseEvent(latLong);
     }
+
+    private Registration getRegistration(int callbackKey) {
+        if (callbackKey < 0 || callbackKey >= nextKey) {
+            return null;
+        }
+        return registrations[callbackKey];
+    }
+
+    /**
+     * A registered handler, cast once to each of the handler types it
+     * implements.
+     */
+    private static final class Registration {
+
+        private final GFXEventHandler handler;
+        private final UIEventHandler uiHandler;
+        private final MouseEventHandler mouseHandler;
+        private final StateEventHandler stateHandler;
+        private final ViewStateEventHandler viewStateHandler;
+
+        private Registration(GFXEventHandler handler) {
+            this.handler = handler;
+            this.uiHandler = handler instanceof UIEventHandler ? (UIEventHandler) handler : null;
+            this.mouseHandler = handler instanceof MouseEventHandler ? (MouseEventHandler) handler : null;
+            this.stateHandler = handler instanceof StateEventHandler ? (StateEventHandler) handler : null;
+            this.viewStateHandler = handler instanceof ViewStateEventHandler ? (ViewStateEventHandler) handler : null;
+            if (uiHandler == null && mouseHandler == null && stateHandler == null && viewStateHandler == null) {
+                throw new IllegalArgumentException("Unsupported event handler: " + handler);
+            }
+        }
+    }
 }
@@ -0,0 +1,27 @@
+/*
+ * Copyright 2026 Lynden, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lynden.gmapsfx.javascript.event;
+
+import com.lynden.gmapsfx.javascript.object.MapViewState;
+
+/** Handles snapshots of the view of a map, pushed from Javascript once the
+ * map has finished a burst of changes to its center, zoom, bounds, heading or
+ * tilt.
+ */
+public interface ViewStateEventHandler extends GFXEventHandler {
+
+    public void handle(MapViewState state);
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 Lynden, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lynden.gmapsfx.javascript.object;
+
+import com.lynden.gmapsfx.clustering.ClusterIndex;
+import com.lynden.gmapsfx.clustering.Clusters;
+import com.lynden.gmapsfx.javascript.JavascriptObject;
+import javafx.beans.value.ChangeListener;
+
+/**
+ * Shows the clusters of a {@link ClusterIndex} on a map.
+ * <p>
+ * Each time the view of the map changes the clusters within the new bounds
+ * are looked up in the index, in Java, and sent to gmapsfx.ClusterLayer in
+ * GmapsFx.js as a single packed String, which shows them as markers. Only the
+ * clusters in view are ever sent to the map, whatever the number of points.
+ * <p>
+ * Building a ClusterIndex for a large number of points takes some time, so
+ * it may be built on a background thread and passed to
+ * {@link #setIndex(ClusterIndex)} on the JavaFX Application Thread.
+ */
+public class ClusterLayer extends JavascriptObject {
+
+    protected final GoogleMap map;
+    private final ChangeListener<MapViewState> viewStateListener = (obs, o, n) -> refresh(n);
+    private ClusterIndex index;
+    private Clusters clusters;
+
+    public ClusterLayer(GoogleMap map) {
+        super(GMapObjectType.OBJECT, "new gmapsfx.ClusterLayer(" + map.getVariableName() + ")");
+        this.map = map;
+        map.viewStateProperty().addListener(viewStateListener);
+    }
+
+    /**
+     * Builds an index over the supplied points, with the default settings,
+     * and shows it.
+     *
+     * @param lats The latitudes of the points.
+     * @param lngs The longitudes of the points.
+     */
+    public void setPoints(double[] lats, double[] lngs) {
+        setIndex(new ClusterIndex(lats, lngs));
+    }
+
+    /**
+     * Shows the clusters of an index in place of any shown before.
+     *
+     * @param index The index, or null to show nothing.
+     */
+    public void setIndex(ClusterIndex index) {
+        if (this.index != null && index != this.index) {
+            // Ids are only stable within one index, so markers can't be kept.
+            runtime.queue(getVariableName() + ".release()");
+        }
+        this.index = index;
+        refresh();
+    }
+
+    public ClusterIndex getIndex() {
+        return index;
+    }
+
+    /**
+     * @return The clusters currently shown, or null.
+     */
+    public Clusters getClusters() {
+        return clusters;
+    }
+
+    /**
+     * Shows the clusters for the current view of the map.
+     */
+    public void refresh() {
+        refresh(map.getViewState());
+    }
+
+    protected void refresh(MapViewState state) {
+        if (index == null) {
+            clusters = null;
+            runtime.queue(getVariableName() + ".release()");
+            return;
+        }
+        if (state == null || !state.hasBounds()) {
+            return;
+        }
+        LatLongBounds bounds = state.getBounds();
+        clusters = index.getClusters(bounds.getSouthWest().getLongitude(), bounds.getSouthWest().getLatitude(),
+                bounds.getNorthEast().getLongitude(), bounds.getNorthEast().getLatitude(), state.getZoom());
+        runtime.queue(getVariableName() + ".update('" + clusters.pack() + "')");
+    }
+
+    /**
+     * Removes the clusters from the map and stops following its view.
+     */
+    @Override
+    public void dispose() {
+        map.viewStateProperty().removeListener(viewStateListener);
+        index = null;
+        clusters = null;
+        runtime.queue(getVariableName() + ".release()");
+        super.dispose();
+    }
+}
@@ -8,6 +8,7 @@ package com.lynden.gmapsfx.javascript.object;
 public class ClusteredGoogleMap extends GoogleMap {
 
     private MarkerClusterer markerClusterer;
+    private ClusterLayer clusterLayer;
 
 
     public ClusteredGoogleMap() {
@@ -36,4 +37,19 @@ public class ClusteredGoogleMap extends GoogleMap {
     public MarkerClusterer getMarkerClusterer() {
         return markerClusterer;
     }
+
+    /**
+     * Gets a layer which clusters points in Java rather than in
+     * markerclusterer.js, and only sends the clusters in view to the map.
+     * This scales to far more points than adding markers to the
+     * MarkerClusterer.
+     *
+     * @return The cluster layer for this map.
+     */
+    public ClusterLayer getClusterLayer() {
+        if (clusterLayer == null) {
+            clusterLayer = new ClusterLayer(this);
+        }
+        return clusterLayer;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2026 Lynden, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lynden.gmapsfx.javascript.object;
+
+import com.lynden.gmapsfx.javascript.JavascriptUtils;
+import java.util.Arrays;
+
+/**
+ * A growable list of coordinates stored as interleaved lat,lng values in a
+ * double[], for building polyline and polygon paths without creating a
+ * LatLong object per vertex.
+ * <p>
+ * The buffer is converted to a google.maps.MVCArray of LatLng objects in a
+ * single call, the coordinates being sent as one packed String and decoded by
+ * gmapsfx.toPath() in GmapsFx.js.
+ */
+public class CoordinateBuffer {
+
+    private static final int DEFAULT_CAPACITY = 64;
+
+    protected double[] coords;
+    protected int size;
+
+    public CoordinateBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity The number of points the buffer can hold before it needs
+     * to grow.
+     */
+    public CoordinateBuffer(int capacity) {
+        coords = new double[Math.max(capacity, 1) * 2];
+    }
+
+    /**
+     * Creates a buffer holding the supplied points.
+     *
+     * @param lats The latitudes.
+     * @param lngs The longitudes, must be the same length as lats.
+     */
+    public CoordinateBuffer(double[] lats, double[] lngs) {
+        this(lats.length);
+        if (lats.length != lngs.length) {
+            throw new IllegalArgumentException("Latitude and longitude arrays must be the same length");
+        }
+        for (int i = 0; i < lats.length; i++) {
+            add(lats[i], lngs[i]);
+        }
+    }
+
+    /**
+     * Adds a point to the end of the buffer.
+     *
+     * @param lat The latitude.
+     * @param lng The longitude.
+     * @return This buffer.
+     */
+    public CoordinateBuffer add(double lat, double lng) {
+        ensureCapacity(size + 1);
+        coords[size * 2] = lat;
+        coords[size * 2 + 1] = lng;
+        size++;
+        return this;
+    }
+
+    /**
+     * Adds a point to the end of the buffer.
+     *
+     * @param latLong The point to add.
+     * @return This buffer.
+     */
+    public CoordinateBuffer add(LatLong latLong) {
+        return add(latLong.getLatitude(), latLong.getLongitude());
+    }
+
+    /**
+     * Ensures the buffer can hold at least the specified number of points
+     * without growing.
+     *
+     * @param capacity The number of points.
+     */
+    public void ensureCapacity(int capacity) {
+        if (capacity * 2 > coords.length) {
+            coords = Arrays.copyOf(coords, Math.max(capacity * 2, coords.length * 2));
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public double getLatitude(int index) {
+        checkIndex(index);
+        return coords[index * 2];
+    }
+
+    public double getLongitude(int index) {
+        checkIndex(index);
+        return coords[index * 2 + 1];
+    }
+
+    /**
+     * Removes all of the points from the buffer, retaining its capacity.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Gets a copy of the points as interleaved lat,lng values.
+     *
+     * @return An array of length size() * 2.
+     */
+    public double[] toArray() {
+        return Arrays.copyOf(coords, size * 2);
+    }
+
+    /**
+     * Gets the points as a packed String which can be decoded by
+     * gmapsfx.toLatLngs() or gmapsfx.toPath().
+     *
+     * @return The packed coordinates.
+     */
+    public String pack() {
+        return JavascriptUtils.pack(coords, 0, size * 2);
+    }
+
+    /**
+     * Creates a google.maps.MVCArray containing these points, which can be
+     * used as the path of a Polyline or Polygon.
+     *
+     * @return The new MVCArray.
+     */
+    public MVCArray toMVCArray() {
+        return new MVCArray("gmapsfx.toPath('" + pack() + "')");
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2026 Lynden, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lynden.gmapsfx.javascript.object;
+
+import com.lynden.gmapsfx.geojson.GeoJsonReader;
+import com.lynden.gmapsfx.javascript.JavascriptObject;
+import com.lynden.gmapsfx.javascript.JavascriptUtils;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import javafx.application.Platform;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Wraps a google.maps.Data layer, which shows GeoJSON features on a map.
+ * <p>
+ * Large GeoJSON files can be loaded with {@link #loadGeoJson(Path)}, which
+ * reads the file on a background thread with a {@link GeoJsonReader} and
+ * adds the features to the layer in chunks on the JavaFX Application Thread.
+ * Only a couple of chunks are held in memory at once, and the FX thread is
+ * free between chunks, so the map stays responsive while the file loads.
+ */
+public class DataLayer extends JavascriptObject {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DataLayer.class);
+
+    /** The default maximum number of features added to the layer at once. */
+    public static final int DEFAULT_CHUNK_FEATURES = 500;
+
+    /** The default maximum size of a chunk, in characters. */
+    public static final int DEFAULT_CHUNK_CHARS = 1 << 20;
+
+    // The number of chunks read ahead of those added to the layer.
+    private static final int CHUNKS_IN_FLIGHT = 2;
+
+    private int chunkFeatures = DEFAULT_CHUNK_FEATURES;
+    private int chunkChars = DEFAULT_CHUNK_CHARS;
+
+    public DataLayer() {
+        super(GMapObjectType.DATA);
+    }
+
+    /**
+     * Creates a layer and shows it on a map.
+     *
+     * @param map The map.
+     */
+    public DataLayer(GoogleMap map) {
+        this();
+        setMap(map);
+    }
+
+    /**
+     * Shows the layer on a map.
+     *
+     * @param map The map, or null to remove the layer from its map.
+     */
+    public void setMap(GoogleMap map) {
+        invokeJavascript("setMap", map);
+    }
+
+    /**
+     * Sets the style of all of the features in the layer. Shape options, such
+     * as PolygonOptions, may be used, as the style options of a Data layer
+     * have the same names.
+     *
+     * @param style The style.
+     */
+    public void setStyle(JavascriptObject style) {
+        invokeJavascript("setStyle", style);
+    }
+
+    /**
+     * Adds the features of a GeoJSON document to the layer.
+     *
+     * @param geoJson The document.
+     */
+    public void addGeoJson(String geoJson) {
+        runtime.execute(getVariableName() + ".addGeoJson(JSON.parse(" + JavascriptUtils.quote(geoJson) + "))");
+    }
+
+    /**
+     * Removes all of the features from the layer.
+     */
+    public void clear() {
+        runtime.execute("(function(d){d.forEach(function(f){d.remove(f);});})(" + getVariableName() + ")");
+    }
+
+    /**
+     * Sets the size of the chunks used when loading GeoJSON files.
+     *
+     * @param maxFeatures The maximum number of features in a chunk.
+     * @param maxChars The size, in characters, at which a chunk is ended.
+     */
+    public void setChunkSize(int maxFeatures, int maxChars) {
+        this.chunkFeatures = Math.max(1, maxFeatures);
+        this.chunkChars = Math.max(1, maxChars);
+    }
+
+    /**
+     * Loads a UTF-8 GeoJSON file into the layer. The file is read on a
+     * background thread and its features added in chunks.
+     *
+     * @param file The file.
+     * @return A future completed on the JavaFX Application Thread with the
+     * number of features loaded. Cancelling it stops the load, leaving the
+     * features already added.
+     */
+    public CompletableFuture<Integer> loadGeoJson(Path file) {
+        CompletableFuture<Integer> future = new CompletableFuture<>();
+        start(future, () -> Files.newBufferedReader(file, StandardCharsets.UTF_8), file.toString());
+        return future;
+    }
+
+    /**
+     * Loads a GeoJSON document into the layer. The reader is read on a
+     * background thread, and closed once the load is complete.
+     *
+     * @param reader The source of the document.
+     * @return A future completed on the JavaFX Application Thread with the
+     * number of features loaded. Cancelling it stops the load, leaving the
+     * features already added.
+     */
+    public CompletableFuture<Integer> loadGeoJson(Reader reader) {
+        CompletableFuture<Integer> future = new CompletableFuture<>();
+        start(future, () -> reader, "reader");
+        return future;
+    }
+
+    private interface ReaderSource {
+
+        Reader open() throws IOException;
+    }
+
+    private void start(CompletableFuture<Integer> future, ReaderSource source, String name) {
+        Thread thread = new Thread(() -> load(future, source), "GeoJSON loader " + name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void load(CompletableFuture<Integer> future, ReaderSource source) {
+        Semaphore inFlight = new Semaphore(CHUNKS_IN_FLIGHT);
+        Throwable[] failure = new Throwable[1];
+        int count = 0;
+        try (GeoJsonReader reader = new GeoJsonReader(source.open())) {
+            String chunk;
+            while (!future.isDone() && (chunk = reader.readChunk(chunkFeatures, chunkChars)) != null) {
+                inFlight.acquire();
+                String script = getVariableName() + ".addGeoJson(JSON.parse(" + JavascriptUtils.quote(chunk) + "))";
+                Platform.runLater(() -> {
+                    try {
+                        if (!future.isDone()) {
+                            runtime.execute(script);
+                        }
+                    } catch (RuntimeException ex) {
+                        failure[0] = ex;
+                        future.completeExceptionally(ex);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+            count = reader.getFeatureCount();
+            inFlight.acquire(CHUNKS_IN_FLIGHT);
+        } catch (IOException | RuntimeException ex) {
+            LOG.warn("Error loading GeoJSON", ex);
+            failure[0] = ex;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            failure[0] = ex;
+        }
+        int loaded = count;
+        Platform.runLater(() -> {
+            if (failure[0] != null) {
+                future.completeExceptionally(failure[0]);
+            } else {
+                future.complete(loaded);
+            }
+        });
+    }
+
+}
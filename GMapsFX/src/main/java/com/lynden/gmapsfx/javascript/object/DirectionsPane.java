@@ -208,11 +208,11 @@ public class DirectionsPane extends JavascriptObject{
      * @param h Event handler to be registered.
      * @return Callback key that Javascript will use to find this handler.
      */
-    private String registerEventHandler(GFXEventHandler h) {
+    private int registerEventHandler(GFXEventHandler h) {
         //checkInitialized();
         if (!registeredOnJS) {
             JSObject doc = (JSObject) runtime.execute("document");
-            doc.setMember("jsHandlers", jsHandlers);
+            doc.setMember("jsDirectionsHandlers", jsHandlers);
             registeredOnJS = true;
         }
         return jsHandlers.registerHandler(h);
@@ -223,9 +223,10 @@ public class DirectionsPane extends JavascriptObject{
      *
      * @param type Type of the event to register against.
      * @param h Handler that will be called when the event occurs.
+     * @return Key that can be passed to {@link #removeEventHandler(int)}.
      */
-    public void addUIEventHandler(UIEventType type, UIEventHandler h) {
-        this.addUIEventHandler(this, type, h);
+    public int addUIEventHandler(UIEventType type, UIEventHandler h) {
+        return this.addUIEventHandler(this, type, h);
     }
 
     /**
@@ -234,13 +235,15 @@ public class DirectionsPane extends JavascriptObject{
      * @param obj The object that the event should be registered on.
      * @param type Type of the event to register against.
      * @param h Handler that will be called when the event occurs.
+     * @return Key that can be passed to {@link #removeEventHandler(int)}.
      */
-    public void addUIEventHandler(JavascriptObject obj, UIEventType type, UIEventHandler h) {
-        String key = registerEventHandler(h);
-        String mcall = "google.maps.event.addListener(" + obj.getVariableName() + ", '" + type.name() + "', "
-                + "function(event) {document.jsHandlers.handleUIEvent('" + key + "', event);});";//.latLng
+    public int addUIEventHandler(JavascriptObject obj, UIEventType type, UIEventHandler h) {
+        int key = registerEventHandler(h);
+        String mcall = "gmapsfx.listen('" + getVariableName() + "', " + key + ", " + obj.getVariableName() + ", '" + type.name() + "', "
+                + "function(event) {document.jsDirectionsHandlers.handleUIEvent(" + key + ", event);});";//.latLng
         //System.out.println("addUIEventHandler mcall: " + mcall);
         runtime.execute(mcall);
+        return key;
     }
 
     /**
@@ -253,13 +256,29 @@ public class DirectionsPane extends JavascriptObject{
      *
      * @param type Type of the event to register against.
      * @param h Handler that will be called when the event occurs.
+     * @return Key that can be passed to {@link #removeEventHandler(int)}.
      */
-    public void addStateEventHandler(MapStateEventType type, StateEventHandler h) {
-        String key = registerEventHandler(h);
-        String mcall = "google.maps.event.addListener(" + getVariableName() + ", '" + type.name() + "', "
-                + "function() {document.jsHandlers.handleStateEvent('" + key + "');});";
+    public int addStateEventHandler(MapStateEventType type, StateEventHandler h) {
+        int key = registerEventHandler(h);
+        String mcall = "gmapsfx.listen('" + getVariableName() + "', " + key + ", " + getVariableName() + ", '" + type.name() + "', "
+                + "function() {document.jsDirectionsHandlers.handleStateEvent(" + key + ");});";
         //System.out.println("addStateEventHandler mcall: " + mcall);
         runtime.execute(mcall);
+        return key;
+    }
 
+    /**
+     * Removes an event handler added by one of the addXXEventHandler methods,
+     * along with the Google Maps listener that calls it.
+     *
+     * @param key Key returned when the handler was added.
+     * @return true if a handler was registered against the key.
+     */
+    public boolean removeEventHandler(int key) {
+        if (!jsHandlers.unregisterHandler(key)) {
+            return false;
+        }
+        runtime.execute("gmapsfx.unlisten('" + getVariableName() + "', " + key + ")");
+        return true;
     }
 }
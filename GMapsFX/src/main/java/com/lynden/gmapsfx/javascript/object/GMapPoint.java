@@ -28,6 +28,14 @@ public class GMapPoint extends JavascriptObject {
     public GMapPoint(JSObject obj) {
         super(GMapObjectType.POINT, obj);
     }
+
+    /**
+     * @param x The x coordinate, in pixels.
+     * @param y The y coordinate, in pixels.
+     */
+    public GMapPoint(double x, double y) {
+        super(GMapObjectType.POINT, x, y);
+    }
     
     public double getX() {
         return getProperty("x", Double.class );
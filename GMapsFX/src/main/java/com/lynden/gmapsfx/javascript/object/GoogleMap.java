@@ -15,6 +15,8 @@
  */
 package com.lynden.gmapsfx.javascript.object;
 
+import com.lynden.gmapsfx.geometry.SpatialIndex;
+import com.lynden.gmapsfx.geometry.WebMercatorProjection;
 import com.lynden.gmapsfx.javascript.JavascriptObject;
 import com.lynden.gmapsfx.javascript.JavascriptRuntime;
 
@@ -25,13 +27,19 @@ import com.lynden.gmapsfx.javascript.event.MouseEventHandler;
 import com.lynden.gmapsfx.javascript.event.StateEventHandler;
 import com.lynden.gmapsfx.javascript.event.UIEventHandler;
 import com.lynden.gmapsfx.javascript.event.UIEventType;
+import com.lynden.gmapsfx.javascript.event.ViewStateEventHandler;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.ReadOnlyDoubleWrapper;
 import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.beans.property.ReadOnlyObjectWrapper;
 import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
 import javafx.geometry.Point2D;
 import javafx.util.Callback;
@@ -55,11 +63,23 @@ public class GoogleMap extends JavascriptObject {
     private ReadOnlyObjectWrapper<LatLong> center;
     private IntegerProperty zoom;
     private ReadOnlyObjectWrapper<LatLongBounds> bounds;
+    private ReadOnlyDoubleWrapper heading;
+    private ReadOnlyDoubleWrapper tilt;
+    private ReadOnlyObjectWrapper<MapViewState> viewState;
+    private boolean viewStateStale;
+    private WebMercatorProjection mercatorProjection;
 
     private final EventHandlers jsHandlers = new EventHandlers();
     private boolean registeredOnJS;
 
     private Set<Marker> markers;
+    private Set<MarkerBatch> markerBatches;
+    private final SpatialIndex<Marker> markerIndex = new SpatialIndex<>();
+    private boolean markerCulling;
+    private double markerCullingMargin = 0.25;
+    private Set<Marker> attachedMarkers = new HashSet<>();
+    private double[] cullingRegion;
+    private final ChangeListener<MapViewState> cullingListener = (obs, o, n) -> cullMarkers();
 
     public GoogleMap() {
         super(GMapObjectType.MAP, divArg);
@@ -73,15 +93,19 @@ public class GoogleMap extends JavascriptObject {
         initialize();
     }
 
+    /**
+     * Sets up the properties that track the view of the map. The map pushes a
+     * {@link MapViewState} snapshot once per burst of changes, and all of the
+     * properties are updated from that, without calling back into Javascript.
+     */
     protected void initialize(){
-        zoom = new SimpleIntegerProperty(internalGetZoom());
-        addStateEventHandler(MapStateEventType.zoom_changed, () -> {
-            if (!userPromptedZoomChange) {
-                mapPromptedZoomChange = true;
-                zoom.set(internalGetZoom());
-                mapPromptedZoomChange = false;
-            }
-        });
+        MapViewState state = internalGetViewState();
+        viewState = new ReadOnlyObjectWrapper<>(state);
+        zoom = new SimpleIntegerProperty(state.getZoom());
+        center = new ReadOnlyObjectWrapper<>(state.getCenter());
+        heading = new ReadOnlyDoubleWrapper(state.getHeading());
+        tilt = new ReadOnlyDoubleWrapper(state.getTilt());
+
         zoom.addListener((ObservableValue<? extends Number> obs, Number o, Number n) -> {
             if (!mapPromptedZoomChange) {
                 userPromptedZoomChange = true;
@@ -90,10 +114,86 @@ public class GoogleMap extends JavascriptObject {
             }
         });
 
-        center = new ReadOnlyObjectWrapper<>(getCenter());
-        addStateEventHandler(MapStateEventType.center_changed, () -> {
-            center.set(getCenter());
-        });
+        int key = registerEventHandler((ViewStateEventHandler) this::updateViewState);
+        int staleKey = registerEventHandler((StateEventHandler) this::invalidateViewState);
+        runtime.queue("gmapsfx.watchViewState(" + getVariableName() + ", "
+                + "function(state) {document.jsHandlers.handleViewStateEvent(" + key + ", state);}, "
+                + "function() {document.jsHandlers.handleStateEvent(" + staleKey + ");});");
+    }
+
+    private MapViewState internalGetViewState() {
+        JSObject helpers = runtime.execute("gmapsfx");
+        return MapViewState.parse((String) helpers.call("viewState", getJSObject()));
+    }
+
+    /**
+     * Updates the view properties from a snapshot pushed by the map. Center
+     * and bounds objects are only created when they have changed.
+     *
+     * @param state The new view state.
+     */
+    protected void updateViewState(MapViewState state) {
+        MapViewState previous = viewState.get();
+        viewState.set(state);
+        viewStateStale = false;
+        mercatorProjection = null;
+        if (!userPromptedZoomChange && zoom.get() != state.getZoom()) {
+            mapPromptedZoomChange = true;
+            zoom.set(state.getZoom());
+            mapPromptedZoomChange = false;
+        }
+        if (!state.isSameCenter(previous)) {
+            center.set(state.getCenter());
+        }
+        if (bounds != null && state.hasBounds() && !state.isSameBounds(previous)) {
+            bounds.set(state.getBounds());
+        }
+        heading.set(state.getHeading());
+        tilt.set(state.getTilt());
+    }
+
+    /**
+     * The most recent snapshot of the view of the map, updated once per burst
+     * of changes to the center, zoom, bounds, heading or tilt.
+     *
+     * @return The view state property.
+     */
+    public final ReadOnlyObjectProperty<MapViewState> viewStateProperty() {
+        return viewState.getReadOnlyProperty();
+    }
+
+    public MapViewState getViewState() {
+        return viewState.get();
+    }
+
+    /**
+     * Marks the view state as out of date, so that it is read again before it
+     * is next used to project points. This is called after the view has been
+     * changed from Java, and by the map, synchronously, on the first change
+     * made by the user since the state was last read, so that handlers for
+     * events such as bounds_changed see the new view. The map pushes the new
+     * state itself, but not until the next animation frame.
+     */
+    private void invalidateViewState() {
+        viewStateStale = true;
+    }
+
+    /**
+     * Returns a Java implementation of the map's projection for its current
+     * view, which converts between LatLongs and screen coordinates without
+     * calling into Javascript. The projection is rebuilt whenever the view
+     * changes.
+     *
+     * @return The projection for the current view.
+     */
+    public WebMercatorProjection getMercatorProjection() {
+        if (viewStateStale) {
+            updateViewState(internalGetViewState());
+        }
+        if (mercatorProjection == null) {
+            mercatorProjection = WebMercatorProjection.fromViewState(viewState.get());
+        }
+        return mercatorProjection;
     }
 
 
@@ -105,11 +205,8 @@ public class GoogleMap extends JavascriptObject {
         return zoomProperty().get();
     }
 
-    private int internalGetZoom() {
-        return (int) invokeJavascript("getZoom");
-    }
-
     private void internalSetZoom(int zoom) {
+        invalidateViewState();
         invokeJavascript("setZoom", zoom);
     }
 
@@ -138,6 +235,7 @@ public class GoogleMap extends JavascriptObject {
     }
 
     public void setCenter(LatLong latLong) {
+        invalidateViewState();
         invokeJavascript("setCenter", latLong);
     }
 
@@ -164,29 +262,51 @@ public class GoogleMap extends JavascriptObject {
      * @param bounds
      */
     public void fitBounds(LatLongBounds bounds) {
+        invalidateViewState();
         invokeJavascript("fitBounds", bounds);
     }
 
     public void panToBounds(LatLongBounds bounds) {
+        invalidateViewState();
         invokeJavascript("panToBounds", bounds);
     }
 
     /**
-     * A property tied to the map, updated when the idle state event is fired.
+     * A property tied to the map, updated from the view state snapshots that
+     * the map pushes as its view changes.
      *
      * @return
      */
     public final ReadOnlyObjectProperty<LatLongBounds> boundsProperty() {
         if (bounds == null) {
-            bounds = new ReadOnlyObjectWrapper<>(getBounds());
-            addStateEventHandler(MapStateEventType.idle, () -> {
-                bounds.set(getBounds());
-            });
+            MapViewState state = viewState.get();
+            bounds = new ReadOnlyObjectWrapper<>(state.hasBounds() ? state.getBounds() : getBounds());
         }
         return bounds.getReadOnlyProperty();
     }
 
+    /**
+     * A property tied to the heading of the map, updated from the view state
+     * snapshots that the map pushes as its view changes.
+     *
+     * @return
+     */
+    public final ReadOnlyDoubleProperty headingProperty() {
+        return heading.getReadOnlyProperty();
+    }
+
+    /**
+     * A property tied to the tilt of the map, updated from the view state
+     * snapshots that the map pushes as its view changes.
+     *
+     * @return
+     */
+    public final ReadOnlyDoubleProperty tiltProperty() {
+        return tilt.getReadOnlyProperty();
+    }
+
     public void setHeading(double heading) {
+        invalidateViewState();
         invokeJavascript("setHeading", heading);
     }
 
@@ -204,7 +324,16 @@ public class GoogleMap extends JavascriptObject {
             markers = new HashSet<>();
         }
         markers.add(marker);
-        marker.setMap(this);
+        indexMarker(marker);
+        if (markerCulling) {
+            marker.setOwner(this);
+            if (isInCullingRegion(marker)) {
+                attachedMarkers.add(marker);
+                marker.setAttached(true);
+            }
+        } else {
+            marker.setMap(this);
+        }
     }
 
     /**
@@ -216,6 +345,8 @@ public class GoogleMap extends JavascriptObject {
         if (markers != null && markers.contains(marker)) {
             markers.remove(marker);
         }
+        markerIndex.remove(marker);
+        attachedMarkers.remove(marker);
         marker.setMap(null);
     }
 
@@ -225,16 +356,30 @@ public class GoogleMap extends JavascriptObject {
      */
     public void clearMarkers() {
         if (markers != null && !markers.isEmpty()) {
-            markers.forEach((m) -> {
-                m.setMap(null);
-            });
+            runtime.beginBatch();
+            try {
+                markers.forEach((m) -> {
+                    m.setMap(null);
+                });
+            } finally {
+                runtime.commitBatch();
+            }
             markers.clear();
+            markerIndex.clear();
+            attachedMarkers.clear();
+        }
+        if (markerBatches != null && !markerBatches.isEmpty()) {
+            markerBatches.forEach((b) -> {
+                b.setMap(null);
+            });
+            markerBatches.clear();
         }
     }
 
     /**
      * Adds all of the markers in the supplied collection to the map. Existing
-     * markers, if any, are retained.
+     * markers, if any, are retained. The markers are attached in a single
+     * batch.
      *
      * @param col
      */
@@ -244,21 +389,86 @@ public class GoogleMap extends JavascriptObject {
         } else {
             markers.addAll(col);
         }
-        col.forEach((m) -> {
-            m.setMap(this);
-        });
+        if (markerCulling) {
+            col.forEach((m) -> {
+                indexMarker(m);
+                m.setOwner(this);
+            });
+            cullMarkers();
+            return;
+        }
+        runtime.beginBatch();
+        try {
+            col.forEach((m) -> {
+                indexMarker(m);
+                m.setMap(this);
+            });
+        } finally {
+            runtime.commitBatch();
+        }
     }
 
+    /**
+     * Adds all of the markers in the supplied collection to the map, as
+     * {@link #addMarkers(Collection)} does, with a handler for an event on
+     * each.
+     *
+     * @param col
+     * @param type
+     * @param h Supplies the handler for each marker.
+     */
     public void addMarkers(Collection<Marker> col, UIEventType type, Callback<Marker, UIEventHandler> h) {
-        if (markers == null) {
-            markers = new HashSet<>(col);
-        } else {
-            markers.addAll(col);
+        runtime.beginBatch();
+        try {
+            col.forEach((m) -> {
+                addUIEventHandler(m, type, h.call(m));
+            });
+        } finally {
+            runtime.commitBatch();
         }
-        col.forEach((m) -> {
-            m.setMap(this);
-            addUIEventHandler(m, type, h.call(m));
-        });
+        addMarkers(col);
+    }
+
+    /**
+     * Creates markers at the supplied positions and adds them to the map. The
+     * coordinates are sent to the JavaScript runtime in a single packed String
+     * and the markers are created there in one call, which is much faster than
+     * building a Marker for each position when there are many markers.
+     *
+     * @param lats The latitudes of the markers.
+     * @param lngs The longitudes of the markers.
+     * @param titles The titles of the markers, or null.
+     * @return A MarkerBatch providing a handle to each of the new markers.
+     */
+    public MarkerBatch addMarkers(double[] lats, double[] lngs, String[] titles) {
+        MarkerBatch batch = new MarkerBatch(lats, lngs, titles);
+        addMarkers(batch);
+        return batch;
+    }
+
+    /**
+     * Adds all of the markers in the supplied batch to the map.
+     *
+     * @param batch
+     */
+    public void addMarkers(MarkerBatch batch) {
+        if (markerBatches == null) {
+            markerBatches = new HashSet<>();
+        }
+        markerBatches.add(batch);
+        batch.setMap(this);
+    }
+
+    /**
+     * Removes all of the markers in the supplied batch from the map.
+     *
+     * @param batch
+     */
+    public void removeMarkers(MarkerBatch batch) {
+        if (markerBatches != null) {
+            markerBatches.remove(batch);
+        }
+        batch.setMap(null);
     }
 
     /**
@@ -269,12 +479,243 @@ public class GoogleMap extends JavascriptObject {
     public void removeMarkers(Collection<Marker> col) {
         if (markers != null && !markers.isEmpty()) {
             markers.removeAll(col);
-            col.forEach((m) -> {
-                m.setMap(null);
+            runtime.beginBatch();
+            try {
+                col.forEach((m) -> {
+                    markerIndex.remove(m);
+                    attachedMarkers.remove(m);
+                    m.setMap(null);
+                });
+            } finally {
+                runtime.commitBatch();
+            }
+        }
+    }
+
+    /**
+     * Called by a marker on this map when it is moved, to keep the marker
+     * index up to date.
+     *
+     * @param marker The marker that moved.
+     */
+    void markerMoved(Marker marker) {
+        if (markers != null && markers.contains(marker)) {
+            indexMarker(marker);
+            if (markerCulling) {
+                if (isInCullingRegion(marker)) {
+                    if (attachedMarkers.add(marker)) {
+                        marker.setAttached(true);
+                    }
+                } else if (attachedMarkers.remove(marker)) {
+                    marker.setAttached(false);
+                }
+            }
+        }
+    }
+
+    /**
+     * Turns marker culling on or off. With culling on, markers added with
+     * addMarker or addMarkers are kept in Java and only those within the
+     * visible area of the map, plus a margin, are attached to the map. As the
+     * view changes, markers coming into view are attached and those leaving
+     * it are detached. A detached marker keeps its Javascript object, so it
+     * can be attached again cheaply. The work done for each change of view is
+     * proportional to the number of markers in view, not the total, which
+     * keeps panning responsive with tens of thousands of markers.
+     * <p>
+     * Markers dragged by the user are culled by the position they were last
+     * given from Java.
+     *
+     * @param culling true to cull markers outside the view.
+     */
+    public void setMarkerCulling(boolean culling) {
+        if (culling == markerCulling) {
+            return;
+        }
+        markerCulling = culling;
+        if (culling) {
+            attachedMarkers = markers == null ? new HashSet<>() : new HashSet<>(markers);
+            viewState.addListener(cullingListener);
+            cullMarkers();
+        } else {
+            viewState.removeListener(cullingListener);
+            cullingRegion = null;
+            if (markers != null) {
+                runtime.beginBatch();
+                try {
+                    for (Marker m : markers) {
+                        if (!attachedMarkers.contains(m)) {
+                            m.setAttached(true);
+                        }
+                    }
+                } finally {
+                    runtime.commitBatch();
+                }
+            }
+            attachedMarkers = new HashSet<>();
+        }
+    }
+
+    public boolean isMarkerCulling() {
+        return markerCulling;
+    }
+
+    /**
+     * Sets how far beyond the visible area markers are attached when culling,
+     * as a fraction of the width and height of the view. A margin means small
+     * pans do not attach any markers.
+     *
+     * @param margin The margin, 0.25 by default.
+     */
+    public void setMarkerCullingMargin(double margin) {
+        this.markerCullingMargin = Math.max(0, margin);
+        cullMarkers();
+    }
+
+    public double getMarkerCullingMargin() {
+        return markerCullingMargin;
+    }
+
+    /**
+     * @return The number of markers currently attached to the map when
+     * culling, or the number of markers on the map otherwise.
+     */
+    public int getAttachedMarkerCount() {
+        if (markerCulling) {
+            return attachedMarkers.size();
+        }
+        return markers == null ? 0 : markers.size();
+    }
+
+    /**
+     * Attaches the markers within the culling region for the current view,
+     * and detaches those previously attached which are now outside it.
+     */
+    protected void cullMarkers() {
+        if (!markerCulling) {
+            return;
+        }
+        MapViewState state = viewState.get();
+        if (state == null || !state.hasBounds()) {
+            return;
+        }
+        LatLongBounds bounds = state.getBounds();
+        double south = bounds.getSouthWest().getLatitude();
+        double west = bounds.getSouthWest().getLongitude();
+        double north = bounds.getNorthEast().getLatitude();
+        double east = bounds.getNorthEast().getLongitude();
+        double lngSpan = east >= west ? east - west : east + 360 - west;
+        double latMargin = (north - south) * markerCullingMargin;
+        double lngMargin = lngSpan * markerCullingMargin;
+        if (lngSpan + 2 * lngMargin >= 360) {
+            cullingRegion = new double[]{-180, south - latMargin, 180, north + latMargin};
+        } else {
+            cullingRegion = new double[]{west - lngMargin, south - latMargin, east + lngMargin, north + latMargin};
+        }
+
+        Set<Marker> previous = attachedMarkers;
+        Set<Marker> next = new HashSet<>();
+        runtime.beginBatch();
+        try {
+            markerIndex.query(cullingRegion[0], cullingRegion[1], cullingRegion[2], cullingRegion[3], (m) -> {
+                next.add(m);
+                if (!previous.remove(m)) {
+                    m.setAttached(true);
+                }
             });
+            for (Marker m : previous) {
+                m.setAttached(false);
+            }
+        } finally {
+            runtime.commitBatch();
+        }
+        attachedMarkers = next;
+    }
+
+    private boolean isInCullingRegion(Marker marker) {
+        LatLong position = marker.getPosition();
+        if (cullingRegion == null || position == null) {
+            return false;
+        }
+        double lat = position.getLatitude();
+        if (lat < cullingRegion[1] || lat > cullingRegion[3]) {
+            return false;
+        }
+        double lng = position.getLongitude();
+        double west = cullingRegion[0];
+        double east = cullingRegion[2];
+        if (east - west >= 360) {
+            return true;
+        }
+        if (east < west) {
+            // The region crosses the antimeridian
+            east += 360;
+        }
+        lng = lng - Math.floor((lng - west) / 360.0) * 360.0;
+        return lng <= east;
+    }
+
+    private void indexMarker(Marker marker) {
+        LatLong position = marker.getPosition();
+        if (position == null) {
+            markerIndex.remove(marker);
+        } else {
+            markerIndex.put(marker, position.getLatitude(), position.getLongitude());
         }
     }
 
+    /**
+     * Gets the markers on the map within the supplied bounds. The markers are
+     * found with a spatial index held in Java, using the positions the markers
+     * were created with or last moved to, so no calls are made into
+     * Javascript.
+     *
+     * @param bounds The bounds to search.
+     * @return The markers within the bounds.
+     */
+    public List<Marker> getMarkers(LatLongBounds bounds) {
+        LatLong sw = bounds.getSouthWest();
+        LatLong ne = bounds.getNorthEast();
+        return markerIndex.query(sw.getLongitude(), sw.getLatitude(), ne.getLongitude(), ne.getLatitude());
+    }
+
+    /**
+     * Gets the markers within the visible area of the map, as of the most
+     * recent view state.
+     *
+     * @return The visible markers.
+     */
+    public List<Marker> getVisibleMarkers() {
+        MapViewState state = getViewState();
+        if (state == null || !state.hasBounds()) {
+            return Collections.emptyList();
+        }
+        return getMarkers(state.getBounds());
+    }
+
+    /**
+     * Gets the markers on the map within a distance of a point.
+     *
+     * @param center The point to search around.
+     * @param radius The distance in metres.
+     * @return The markers within the distance.
+     */
+    public List<Marker> getMarkersWithin(LatLong center, double radius) {
+        return markerIndex.within(center.getLatitude(), center.getLongitude(), radius);
+    }
+
+    /**
+     * Gets the markers on the map closest to a point, for example to find
+     * what was clicked on.
+     *
+     * @param point The point to search from.
+     * @param count The maximum number of markers to return.
+     * @return The closest markers, nearest first.
+     */
+    public List<Marker> getNearestMarkers(LatLong point, int count) {
+        return markerIndex.nearest(point.getLatitude(), point.getLongitude(), count);
+    }
+
     /**
      * Sets the map type. This is equivalent to the javascript method
      * setMapTypeId.
@@ -306,6 +747,7 @@ public class GoogleMap extends JavascriptObject {
      */
     public void panBy(double x, double y) {
 //        System.out.println("panBy x: " + x + ", y: " + y);
+        invalidateViewState();
         invokeJavascript("panBy", new Object[]{x, y});
     }
 
@@ -315,41 +757,37 @@ public class GoogleMap extends JavascriptObject {
      * @param latLong
      */
     public void panTo(LatLong latLong) {
+        invalidateViewState();
         invokeJavascript("panTo", latLong);
     }
 
     /**
-     * Returns the screen point for the provided LatLong. Note: Unexpected
-     * results can be obtained if this method is called as a result of a zoom
-     * change, as the zoom event is fired before the bounds are updated, and
-     * bounds need to be used to obtain the answer!
+     * Returns the screen point for the provided LatLong, in pixels from the
+     * top left of the map. The point is calculated in Java by
+     * {@link #getMercatorProjection()}, so no calls are made into Javascript
+     * unless the view has changed since the last snapshot. It may be called
+     * from handlers for view events such as bounds_changed, which are
+     * registered after the map is created.
      * <p>
-     * One workaround is to only operate off bounds_changed events.
+     * To position many points, use the bulk project methods of the
+     * projection.
      *
      * @param loc
      * @return
      */
     public Point2D fromLatLngToPoint(LatLong loc) {
-//        System.out.println("GoogleMap.fromLatLngToPoint loc: " + loc);
-        Projection proj = getProjection();
-        //System.out.println("map.fromLatLngToPoint Projection: " + proj);
-        LatLongBounds llb = getBounds();
-//        System.out.println("GoogleMap.fromLatLngToPoint Bounds: " + llb);
-
-        GMapPoint topRight = proj.fromLatLngToPoint(llb.getNorthEast());
-//        System.out.println("GoogleMap.fromLatLngToPoint topRight: " + topRight);
-        GMapPoint bottomLeft = proj.fromLatLngToPoint(llb.getSouthWest());
-//        System.out.println("GoogleMap.fromLatLngToPoint bottomLeft: " + bottomLeft);
-
-        double scale = Math.pow(2, getZoom());
-        GMapPoint worldPoint = proj.fromLatLngToPoint(loc);
-//        System.out.println("GoogleMap.fromLatLngToPoint worldPoint: " + worldPoint);
-
-        double x = (worldPoint.getX() - bottomLeft.getX()) * scale;
-        double y = (worldPoint.getY() - topRight.getY()) * scale;
+        return getMercatorProjection().project(loc);
+    }
 
-//        System.out.println("GoogleMap.fromLatLngToPoint x: " + x + " y: " + y);
-        return new Point2D(x, y);
+    /**
+     * Returns the LatLong at a screen point, in pixels from the top left of
+     * the map. This is the inverse of {@link #fromLatLngToPoint(LatLong)}.
+     *
+     * @param point
+     * @return
+     */
+    public LatLong fromPointToLatLng(Point2D point) {
+        return getMercatorProjection().unproject(point.getX(), point.getY());
     }
 
     /**
@@ -359,7 +797,7 @@ public class GoogleMap extends JavascriptObject {
      * @param h Event handler to be registered.
      * @return Callback key that Javascript will use to find this handler.
      */
-    private String registerEventHandler(GFXEventHandler h) {
+    private int registerEventHandler(GFXEventHandler h) {
         //checkInitialized();
         if (!registeredOnJS) {
             JSObject doc = (JSObject) runtime.execute("document");
@@ -374,9 +812,10 @@ public class GoogleMap extends JavascriptObject {
      *
      * @param type Type of the event to register against.
      * @param h Handler that will be called when the event occurs.
+     * @return Key that can be passed to {@link #removeEventHandler(int)}.
      */
-    public void addUIEventHandler(UIEventType type, UIEventHandler h) {
-        this.addUIEventHandler(this, type, h);
+    public int addUIEventHandler(UIEventType type, UIEventHandler h) {
+        return this.addUIEventHandler(this, type, h);
     }
 
     /**
@@ -385,9 +824,10 @@ public class GoogleMap extends JavascriptObject {
      * @param obj The object that the event should be registered on.
      * @param type Type of the event to register against.
      * @param h Handler that will be called when the event occurs.
+     * @return Key that can be passed to {@link #removeEventHandler(int)}.
      */
-    public void addUIEventHandler(JavascriptObject obj, UIEventType type, UIEventHandler h) {
-        addUIHandler(obj, type, h);
+    public int addUIEventHandler(JavascriptObject obj, UIEventType type, UIEventHandler h) {
+        return addUIHandler(obj, type, h);
     }
 
     /**
@@ -396,17 +836,19 @@ public class GoogleMap extends JavascriptObject {
      * 
      * @param type The type of event to listen for
      * @param h The MouseEventHandler that will handle the event.
+     * @return Key that can be passed to {@link #removeEventHandler(int)}.
      */
-    public void addMouseEventHandler(UIEventType type, MouseEventHandler h) {
-        addUIHandler(this, type, h);
+    public int addMouseEventHandler(UIEventType type, MouseEventHandler h) {
+        return addUIHandler(this, type, h);
     }
 
-    protected void addUIHandler(JavascriptObject obj, UIEventType type, GFXEventHandler h) {
-        String key = registerEventHandler(h);
-        String mcall = "google.maps.event.addListener(" + obj.getVariableName() + ", '" + type.name() + "', "
-                + "function(event) {document.jsHandlers.handleUIEvent('" + key + "', event);});";//.latLng
+    protected int addUIHandler(JavascriptObject obj, UIEventType type, GFXEventHandler h) {
+        int key = registerEventHandler(h);
+        String mcall = "gmapsfx.listen('" + getVariableName() + "', " + key + ", " + obj.getVariableName() + ", '" + type.name() + "', "
+                + "function(event) {document.jsHandlers.handleUIEvent(" + key + ", event);});";//.latLng
         //System.out.println("addUIEventHandler mcall: " + mcall);
-        runtime.execute(mcall);
+        runtime.queue(mcall);
+        return key;
     }
 
     /**
@@ -419,14 +861,30 @@ public class GoogleMap extends JavascriptObject {
      *
      * @param type Type of the event to register against.
      * @param h Handler that will be called when the event occurs.
+     * @return Key that can be passed to {@link #removeEventHandler(int)}.
      */
-    public void addStateEventHandler(MapStateEventType type, StateEventHandler h) {
-        String key = registerEventHandler(h);
-        String mcall = "google.maps.event.addListener(" + getVariableName() + ", '" + type.name() + "', "
-                + "function() {document.jsHandlers.handleStateEvent('" + key + "');});";
+    public int addStateEventHandler(MapStateEventType type, StateEventHandler h) {
+        int key = registerEventHandler(h);
+        String mcall = "gmapsfx.listen('" + getVariableName() + "', " + key + ", " + getVariableName() + ", '" + type.name() + "', "
+                + "function() {document.jsHandlers.handleStateEvent(" + key + ");});";
         //System.out.println("addStateEventHandler mcall: " + mcall);
-        runtime.execute(mcall);
+        runtime.queue(mcall);
+        return key;
+    }
 
+    /**
+     * Removes an event handler added by one of the addXXEventHandler methods,
+     * along with the Google Maps listener that calls it.
+     *
+     * @param key Key returned when the handler was added.
+     * @return true if a handler was registered against the key.
+     */
+    public boolean removeEventHandler(int key) {
+        if (!jsHandlers.unregisterHandler(key)) {
+            return false;
+        }
+        runtime.queue("gmapsfx.unlisten('" + getVariableName() + "', " + key + ")");
+        return true;
     }
 
 }
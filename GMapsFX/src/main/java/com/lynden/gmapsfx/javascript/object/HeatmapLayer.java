@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026 Lynden, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lynden.gmapsfx.javascript.object;
+
+import com.lynden.gmapsfx.javascript.JavascriptObject;
+import com.lynden.gmapsfx.javascript.JavascriptUtils;
+import netscape.javascript.JSObject;
+
+/**
+ * Wraps a google.maps.visualization.HeatmapLayer, which shows the density of
+ * a set of points, optionally weighted, as a colored overlay.
+ * <p>
+ * Points are given as arrays of primitives and sent to the map as a single
+ * packed String, which gmapsfx.toHeatmapData() in GmapsFx.js turns into the
+ * data of the layer, so no LatLong objects are created in Java. Data can be
+ * replaced incrementally with {@link #update(int, double[], double[], double[])},
+ * which drops the oldest points and appends new ones in one call, for
+ * example to show a rolling window of recent events.
+ * <p>
+ * The visualization library is loaded by the map pages shipped with GMapsFX.
+ * Pages supplied by an application must include libraries=visualization in
+ * the URL of the Maps API.
+ */
+public class HeatmapLayer extends JavascriptObject {
+
+    private int size;
+
+    public HeatmapLayer() {
+        this(new HeatmapLayerOptions());
+    }
+
+    public HeatmapLayer(HeatmapLayerOptions opts) {
+        super(GMapObjectType.HEATMAP_LAYER, opts);
+    }
+
+    /**
+     * Shows the layer on a map.
+     *
+     * @param map The map, or null to remove the layer from its map.
+     */
+    public void setMap(GoogleMap map) {
+        invokeJavascript("setMap", map);
+    }
+
+    /**
+     * Replaces the data of the layer with an MVCArray of LatLng or
+     * WeightedLocation objects.
+     *
+     * @param data The new data.
+     */
+    public void setData(MVCArray data) {
+        invokeJavascript("setData", data);
+        size = data.getLength();
+    }
+
+    public MVCArray getData() {
+        return new MVCArray((JSObject) invokeJavascript("getData"));
+    }
+
+    /**
+     * Replaces the data of the layer with unweighted points.
+     *
+     * @param points The points.
+     */
+    public void setData(CoordinateBuffer points) {
+        runtime.queue(getVariableName() + ".setData(new google.maps.MVCArray(gmapsfx.toHeatmapData('"
+                + points.pack() + "',false)))");
+        size = points.size();
+    }
+
+    /**
+     * Replaces the data of the layer.
+     *
+     * @param lats The latitudes of the points.
+     * @param lngs The longitudes of the points.
+     * @param weights The weights of the points, or null if all of the points
+     * have a weight of 1.
+     */
+    public void setData(double[] lats, double[] lngs, double[] weights) {
+        String packed = JavascriptUtils.packCoordinates(lats, lngs, weights);
+        runtime.queue(getVariableName() + ".setData(new google.maps.MVCArray(gmapsfx.toHeatmapData('"
+                + packed + "'," + (weights != null) + ")))");
+        size = lats.length;
+    }
+
+    /**
+     * Adds points to the end of the data of the layer.
+     *
+     * @param lats The latitudes of the points.
+     * @param lngs The longitudes of the points.
+     * @param weights The weights of the points, or null if all of the points
+     * have a weight of 1.
+     */
+    public void addData(double[] lats, double[] lngs, double[] weights) {
+        update(0, lats, lngs, weights);
+    }
+
+    /**
+     * Removes the oldest points from the data of the layer.
+     *
+     * @param count The number of points to remove.
+     */
+    public void removeData(int count) {
+        update(count, new double[0], new double[0], null);
+    }
+
+    /**
+     * Removes the oldest points from the data of the layer and adds new points
+     * to the end, in a single call, so the heatmap is only redrawn once. Only
+     * the new points are sent to the map.
+     *
+     * @param removeCount The number of points to remove from the start of the
+     * data.
+     * @param lats The latitudes of the points to add.
+     * @param lngs The longitudes of the points to add.
+     * @param weights The weights of the points to add, or null if all of the
+     * points have a weight of 1.
+     */
+    public void update(int removeCount, double[] lats, double[] lngs, double[] weights) {
+        int removed = Math.max(0, Math.min(removeCount, size));
+        if (removed == 0 && lats.length == 0) {
+            return;
+        }
+        String packed = JavascriptUtils.packCoordinates(lats, lngs, weights);
+        runtime.queue("gmapsfx.updateHeatmap(" + getVariableName() + "," + removed + ",'"
+                + packed + "'," + (weights != null) + ")");
+        size = size - removed + lats.length;
+    }
+
+    /**
+     * @return The number of points in the layer.
+     */
+    public int getSize() {
+        return size;
+    }
+
+}
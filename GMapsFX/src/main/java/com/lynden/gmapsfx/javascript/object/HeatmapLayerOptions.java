@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 Lynden, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lynden.gmapsfx.javascript.object;
+
+import com.lynden.gmapsfx.javascript.JavascriptObject;
+import com.lynden.gmapsfx.javascript.JavascriptUtils;
+
+/**
+ * Options for a HeatmapLayer. This class corresponds to <a href="https://developers.google.com/maps/documentation/javascript/reference#HeatmapLayerOptions">google.maps.visualization.HeatmapLayerOptions</a>
+ * in the Google Maps JavaScript API.
+ */
+public class HeatmapLayerOptions extends JavascriptObject {
+
+    public HeatmapLayerOptions() {
+        super(GMapObjectType.OBJECT);
+    }
+
+    /**
+     * Whether the heatmap dissipates on zoom. When false the radius of
+     * influence grows with the zoom level. Defaults to true.
+     *
+     * @param dissipating true if the heatmap should dissipate.
+     * @return this instance of the HeatmapLayerOptions
+     */
+    public HeatmapLayerOptions dissipating(boolean dissipating) {
+        setProperty("dissipating", dissipating);
+        return this;
+    }
+
+    /**
+     * The color gradient of the heatmap, as CSS colors from the lowest
+     * intensity to the highest.
+     *
+     * @param colors The colors.
+     * @return this instance of the HeatmapLayerOptions
+     */
+    public HeatmapLayerOptions gradient(String... colors) {
+        setProperty("gradient", runtime.execute(JavascriptUtils.toArrayLiteral(colors)));
+        return this;
+    }
+
+    /**
+     * The maximum intensity of the heatmap. By default the colors are scaled
+     * to the densest point on the map.
+     *
+     * @param maxIntensity The intensity shown with the last color of the
+     * gradient.
+     * @return this instance of the HeatmapLayerOptions
+     */
+    public HeatmapLayerOptions maxIntensity(double maxIntensity) {
+        setProperty("maxIntensity", maxIntensity);
+        return this;
+    }
+
+    /**
+     * The opacity of the heatmap, from 0 to 1. Defaults to 0.6.
+     *
+     * @param opacity The opacity.
+     * @return this instance of the HeatmapLayerOptions
+     */
+    public HeatmapLayerOptions opacity(double opacity) {
+        setProperty("opacity", opacity);
+        return this;
+    }
+
+    /**
+     * The radius of influence of each point, in pixels.
+     *
+     * @param radius The radius.
+     * @return this instance of the HeatmapLayerOptions
+     */
+    public HeatmapLayerOptions radius(int radius) {
+        setProperty("radius", radius);
+        return this;
+    }
+
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026 Lynden, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lynden.gmapsfx.javascript.object;
+
+import com.lynden.gmapsfx.javascript.JavascriptObject;
+
+/**
+ * Icon object corresponding to <a href="https://developers.google.com/maps/documentation/javascript/reference#Icon">google.maps.Icon</a>,
+ * describing the image used for a marker.
+ * <p>
+ * An Icon is a single Javascript object, so when the same instance is given
+ * to many markers the image URL, which may be a large data URI, is only sent
+ * to the map once and the markers share a reference to it.
+ */
+public class Icon extends JavascriptObject {
+
+    protected final String url;
+
+    /**
+     * @param url The URL of the image, which may be a data URI.
+     */
+    public Icon(String url) {
+        super(GMapObjectType.OBJECT);
+        this.url = url;
+        setProperty("url", url);
+    }
+
+    /**
+     * Creates an icon from a script which evaluates to an Icon object.
+     *
+     * @param url The URL of the image.
+     * @param script The script to evaluate.
+     */
+    protected Icon(String url, String script) {
+        super(GMapObjectType.OBJECT, script);
+        this.url = url;
+    }
+
+    /**
+     * Creates an icon for one image within a sprite sheet. The new icon refers
+     * to the URL of the sheet's Javascript object rather than holding a copy
+     * of it, so many sprites can share a large data URI.
+     *
+     * @param sheet The icon for the whole sheet.
+     * @param x The left of the sprite within the sheet, in pixels.
+     * @param y The top of the sprite within the sheet, in pixels.
+     * @param width The width of the sprite.
+     * @param height The height of the sprite.
+     * @return The new icon.
+     */
+    public static Icon sprite(Icon sheet, int x, int y, int width, int height) {
+        Icon icon = new Icon(sheet.url, "({url: " + sheet.getVariableName() + ".url})");
+        return icon.origin(new GMapPoint(x, y)).size(new Size(width, height));
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * The position at which to anchor the image, relative to its top left.
+     * Defaults to the center of the bottom edge.
+     *
+     * @param anchor The anchor, in pixels.
+     * @return this instance of the Icon
+     */
+    public Icon anchor(GMapPoint anchor) {
+        setProperty("anchor", anchor);
+        return this;
+    }
+
+    /**
+     * The position of the image within a sprite sheet.
+     *
+     * @param origin The top left of the image, in pixels.
+     * @return this instance of the Icon
+     */
+    public Icon origin(GMapPoint origin) {
+        setProperty("origin", origin);
+        return this;
+    }
+
+    /**
+     * The position of the marker label relative to the top left of the image.
+     *
+     * @param labelOrigin The origin of the label, in pixels.
+     * @return this instance of the Icon
+     */
+    public Icon labelOrigin(GMapPoint labelOrigin) {
+        setProperty("labelOrigin", labelOrigin);
+        return this;
+    }
+
+    /**
+     * The display size of the image, or of the sprite within a sheet.
+     *
+     * @param size The size, in pixels.
+     * @return this instance of the Icon
+     */
+    public Icon size(Size size) {
+        setProperty("size", size);
+        return this;
+    }
+
+    /**
+     * The size of the whole image after scaling, used to scale a sprite
+     * sheet.
+     *
+     * @param scaledSize The scaled size, in pixels.
+     * @return this instance of the Icon
+     */
+    public Icon scaledSize(Size scaledSize) {
+        setProperty("scaledSize", scaledSize);
+        return this;
+    }
+
+}
@@ -24,6 +24,13 @@ import com.lynden.gmapsfx.javascript.JavascriptObject;
 import netscape.javascript.JSObject;
 
 /**
+ * An immutable latitude/longitude point.
+ * <p>
+ * The coordinates are held on the Java side, so reading them and any of the
+ * geodesic calculations below do not need to call into the JavaScript
+ * runtime. The underlying google.maps.LatLng object is only created the first
+ * time this point is passed to the map. A LatLong wrapping an existing
+ * google.maps.LatLng reads its coordinates once, on first use.
  *
  * @author Rob Terpilowski
  */
@@ -31,21 +38,79 @@ public class LatLong extends JavascriptObject {
 
     public static final double EarthRadiusMeters = 6378137.0; // meters
 
+    private double latitude;
+    private double longitude;
+    private boolean resolved;
+    private boolean created;
 
     public LatLong(double latitude, double longitude) {
-        super(GMapObjectType.LAT_LNG, latitude, longitude);
+        super();
+        this.latitude = latitude;
+        this.longitude = longitude;
+        resolved = true;
     }
 
     public LatLong(JSObject jsObject) {
         super(GMapObjectType.LAT_LNG, jsObject);
+        created = true;
     }
 
     public double getLatitude() {
-        return invokeJavascriptReturnValue("lat", Number.class ).doubleValue();
+        resolve();
+        return latitude;
     }
 
     public double getLongitude() {
-        return invokeJavascriptReturnValue("lng", Number.class ).doubleValue();
+        resolve();
+        return longitude;
+    }
+
+    /**
+     * Reads the coordinates from the underlying google.maps.LatLng, if this
+     * LatLong was created from one. LatLng objects are immutable, so this is
+     * only done once.
+     */
+    private void resolve() {
+        if (!resolved) {
+            latitude = invokeJavascriptReturnValue("lat", Number.class).doubleValue();
+            longitude = invokeJavascriptReturnValue("lng", Number.class).doubleValue();
+            resolved = true;
+        }
+    }
+
+    /**
+     * Creates the google.maps.LatLng for this point if it doesn't exist yet.
+     */
+    private void create() {
+        if (!created) {
+            created = true;
+            createPeer(runtime.getConstructor(GMapObjectType.LAT_LNG, latitude, longitude));
+        }
+    }
+
+    /**
+     * Gets the underlying google.maps.LatLng object, creating it if this is the
+     * first time it has been required.
+     *
+     * @return The underlying Javascript object
+     */
+    @Override
+    public JSObject getJSObject() {
+        create();
+        return super.getJSObject();
+    }
+
+    /**
+     * Gets the name of the variable for this point within the Javascript
+     * runtime, creating the google.maps.LatLng object if this is the first
+     * time it has been required.
+     *
+     * @return The name of this variable.
+     */
+    @Override
+    public String getVariableName() {
+        create();
+        return super.getVariableName();
     }
 
     /**
@@ -149,8 +214,37 @@ public class LatLong extends JavascriptObject {
         return Math.toDegrees(angle);
     }
 
-    
-    
+
+    /**
+     * A LatLong created from coordinates can always be used within a script,
+     * as its google.maps.LatLng is created on demand.
+     *
+     * @return true unless this LatLong wraps an existing Javascript object.
+     */
+    @Override
+    protected boolean isScriptable() {
+        return !created || super.isScriptable();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof LatLong)) {
+            return false;
+        }
+        LatLong other = (LatLong) obj;
+        return Double.compare(getLatitude(), other.getLatitude()) == 0
+                && Double.compare(getLongitude(), other.getLongitude()) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        long bits = Double.doubleToLongBits(getLatitude());
+        bits = 31 * bits + Double.doubleToLongBits(getLongitude());
+        return (int) (bits ^ (bits >>> 32));
+    }
 
     @Override
     public String toString() {
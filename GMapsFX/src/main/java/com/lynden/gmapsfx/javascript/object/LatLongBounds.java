@@ -20,39 +20,111 @@ import com.lynden.gmapsfx.javascript.JavascriptObject;
 import netscape.javascript.JSObject;
 
 /**
+ * A rectangle in geographical coordinates.
+ * <p>
+ * Bounds created from their corners keep the corners on the Java side, so
+ * reading them, or testing whether a point is contained, does not call into
+ * the Javascript runtime. The underlying google.maps.LatLngBounds object is
+ * only created the first time these bounds are passed to the map, or are
+ * extended.
  *
  * @author Geoff Capper
  */
 public class LatLongBounds extends JavascriptObject {
+
+    private LatLong southWest;
+    private LatLong northEast;
+    private boolean created;
     
     public LatLongBounds() {
         super(GMapObjectType.LAT_LNG_BOUNDS);
+        created = true;
     }
     
     public LatLongBounds(LatLong sw, LatLong ne) {
-        super(GMapObjectType.LAT_LNG_BOUNDS, sw, ne);
+        super();
+        this.southWest = sw;
+        this.northEast = ne;
     }
     
     public LatLongBounds(JSObject obj) {
         super(GMapObjectType.LAT_LNG_BOUNDS, obj);
+        created = true;
+    }
+
+    /**
+     * Creates the google.maps.LatLngBounds for these bounds if it doesn't exist
+     * yet.
+     */
+    private void create() {
+        if (!created) {
+            created = true;
+            createPeer(runtime.getConstructor(GMapObjectType.LAT_LNG_BOUNDS, southWest, northEast));
+        }
+    }
+
+    @Override
+    public JSObject getJSObject() {
+        create();
+        return super.getJSObject();
+    }
+
+    @Override
+    public String getVariableName() {
+        create();
+        return super.getVariableName();
+    }
+
+    /**
+     * Bounds created from their corners can always be used within a script, as
+     * their google.maps.LatLngBounds is created on demand.
+     *
+     * @return true unless these bounds wrap an existing Javascript object.
+     */
+    @Override
+    protected boolean isScriptable() {
+        return southWest != null || super.isScriptable();
     }
     
     public LatLong getNorthEast() {
+        if (northEast != null) {
+            return northEast;
+        }
         Object obj = invokeJavascript("getNorthEast");
         return new LatLong((JSObject) obj);
     }
     
     public LatLong getSouthWest() {
+        if (southWest != null) {
+            return southWest;
+        }
         Object obj = invokeJavascript("getSouthWest");
         return new LatLong((JSObject) obj);
     }
 
     public void extend(LatLong latLong) {
+        create();
         invokeJavascript("extend", latLong);
+        southWest = null;
+        northEast = null;
     }
 
     public boolean contains(LatLong latLong){
-        return invokeJavascriptReturnValue("contains", Boolean.class, latLong);
+        if (southWest == null || northEast == null) {
+            return invokeJavascriptReturnValue("contains", Boolean.class, latLong);
+        }
+        double lat = latLong.getLatitude();
+        if (lat < southWest.getLatitude() || lat > northEast.getLatitude()) {
+            return false;
+        }
+        double lng = latLong.getLongitude();
+        double west = southWest.getLongitude();
+        double east = northEast.getLongitude();
+        if (west <= east) {
+            return lng >= west && lng <= east;
+        }
+        // The bounds cross the antimeridian.
+        return lng >= west || lng <= east;
     }
     
     @Override
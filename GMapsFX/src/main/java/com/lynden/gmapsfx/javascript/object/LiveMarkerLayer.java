@@ -0,0 +1,255 @@
+/*
+ * Copyright 2026 Lynden, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lynden.gmapsfx.javascript.object;
+
+import com.lynden.gmapsfx.MapUpdateQueue;
+import com.lynden.gmapsfx.javascript.JavascriptObject;
+import com.lynden.gmapsfx.javascript.JavascriptUtils;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A layer of markers whose positions are updated at a high rate, for example
+ * from a live tracking feed.
+ * <p>
+ * Position updates are keyed by marker id and may be posted from any thread.
+ * Only the latest position for each marker is kept. Once per frame the
+ * changed positions are sent to the JavaScript runtime as a single packed
+ * String, where gmapsfx.LiveLayer in GmapsFx.js applies them on the next
+ * animation frame.
+ * <p>
+ * Markers must be added to the layer, and to the map, on the JavaFX
+ * Application Thread.
+ */
+public class LiveMarkerLayer extends JavascriptObject {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    protected final MapUpdateQueue updateQueue;
+
+    private final Map<String, Integer> slots = new HashMap<>();
+    private final Map<String, Marker> markers = new HashMap<>();
+    private double[] lats = new double[INITIAL_CAPACITY];
+    private double[] lngs = new double[INITIAL_CAPACITY];
+    private boolean[] dirty = new boolean[INITIAL_CAPACITY];
+    private int[] dirtySlots = new int[INITIAL_CAPACITY];
+    private int dirtyCount;
+    private int nextSlot;
+    // Slots released by removeMarker, reused before new slots are allocated
+    // so that the arrays here and in Javascript stay as large as the most
+    // markers the layer has held at once.
+    private int[] freeSlots = new int[INITIAL_CAPACITY];
+    private int freeCount;
+
+    private long updateCount;
+    private long coalescedCount;
+    private long droppedCount;
+
+    /**
+     * Creates a new layer, using the supplied queue to send updates to the map
+     * once per frame.
+     *
+     * @param updateQueue The queue for the map view, see
+     * GoogleMapView.getUpdateQueue().
+     */
+    public LiveMarkerLayer(MapUpdateQueue updateQueue) {
+        super(GMapObjectType.OBJECT, "new gmapsfx.LiveLayer()");
+        this.updateQueue = updateQueue;
+    }
+
+    /**
+     * Adds a marker to the layer so that its position can be updated by id.
+     *
+     * @param id The id used to post updates for the marker.
+     * @param marker The marker.
+     */
+    public void addMarker(String id, Marker marker) {
+        int slot;
+        synchronized (this) {
+            Integer existing = slots.get(id);
+            if (existing == null) {
+                if (freeCount > 0) {
+                    slot = freeSlots[--freeCount];
+                } else {
+                    slot = nextSlot++;
+                    ensureCapacity(nextSlot);
+                }
+                slots.put(id, slot);
+            } else {
+                slot = existing;
+            }
+            markers.put(id, marker);
+        }
+        invokeJavascript("add", slot, marker);
+    }
+
+    /**
+     * Removes the marker with the specified id from the layer. Any further
+     * updates for the id are dropped.
+     *
+     * @param id The id of the marker.
+     * @return The marker that was removed, or null if there was none.
+     */
+    public Marker removeMarker(String id) {
+        Integer slot;
+        Marker marker;
+        synchronized (this) {
+            slot = slots.remove(id);
+            marker = markers.remove(id);
+            if (slot != null) {
+                if (dirty[slot]) {
+                    dirty[slot] = false;
+                    removeDirtySlot(slot);
+                }
+                if (freeCount == freeSlots.length) {
+                    freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+                }
+                freeSlots[freeCount++] = slot;
+            }
+        }
+        if (slot != null) {
+            invokeJavascript("remove", slot);
+        }
+        return marker;
+    }
+
+    public synchronized Marker getMarker(String id) {
+        return markers.get(id);
+    }
+
+    /**
+     * Posts a new position for a marker. This may be called from any thread.
+     * If the marker has not been added to the layer the update is dropped.
+     *
+     * @param id The id of the marker.
+     * @param lat The new latitude.
+     * @param lng The new longitude.
+     */
+    public void updatePosition(String id, double lat, double lng) {
+        synchronized (this) {
+            updateCount++;
+            Integer slot = slots.get(id);
+            if (slot == null) {
+                droppedCount++;
+                return;
+            }
+            lats[slot] = lat;
+            lngs[slot] = lng;
+            if (dirty[slot]) {
+                coalescedCount++;
+                return;
+            }
+            dirty[slot] = true;
+            dirtySlots[dirtyCount++] = slot;
+        }
+        updateQueue.post(this, "positions", this::flush);
+    }
+
+    /**
+     * Sends all of the positions which have changed since the last flush to
+     * the JavaScript runtime. This is called by the update queue once per
+     * frame.
+     */
+    protected void flush() {
+        StringBuilder sb;
+        synchronized (this) {
+            if (dirtyCount == 0) {
+                return;
+            }
+            sb = new StringBuilder(dirtyCount * 32);
+            for (int i = 0; i < dirtyCount; i++) {
+                int slot = dirtySlots[i];
+                if (!dirty[slot]) {
+                    continue;
+                }
+                dirty[slot] = false;
+                if (sb.length() > 0) {
+                    sb.append(',');
+                }
+                sb.append(slot).append(',');
+                JavascriptUtils.appendNumber(sb, lats[slot]);
+                sb.append(',');
+                JavascriptUtils.appendNumber(sb, lngs[slot]);
+            }
+            dirtyCount = 0;
+        }
+        if (sb.length() > 0) {
+            runtime.queue(getVariableName() + ".update('" + sb + "')");
+        }
+    }
+
+    /**
+     * Gets the total number of position updates posted to this layer.
+     *
+     * @return The number of updates.
+     */
+    public synchronized long getUpdateCount() {
+        return updateCount;
+    }
+
+    /**
+     * Gets the number of updates which were replaced by a newer position for
+     * the same marker before they were sent to the map.
+     *
+     * @return The number of coalesced updates.
+     */
+    public synchronized long getCoalescedCount() {
+        return coalescedCount;
+    }
+
+    /**
+     * Gets the number of updates which were dropped because no marker had been
+     * added to the layer with their id.
+     *
+     * @return The number of dropped updates.
+     */
+    public synchronized long getDroppedCount() {
+        return droppedCount;
+    }
+
+    /**
+     * Removes a slot from the list waiting to be flushed, so that the list
+     * never holds more entries than there are slots.
+     */
+    private void removeDirtySlot(int slot) {
+        for (int i = 0; i < dirtyCount; i++) {
+            if (dirtySlots[i] == slot) {
+                dirtySlots[i] = dirtySlots[--dirtyCount];
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return The number of slots allocated, which is the most markers the
+     * layer has held at once.
+     */
+    public synchronized int getCapacity() {
+        return nextSlot;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > lats.length) {
+            int newLength = Math.max(capacity, lats.length * 2);
+            lats = Arrays.copyOf(lats, newLength);
+            lngs = Arrays.copyOf(lngs, newLength);
+            dirty = Arrays.copyOf(dirty, newLength);
+            dirtySlots = Arrays.copyOf(dirtySlots, newLength);
+        }
+    }
+
+}
@@ -16,6 +16,7 @@
 package com.lynden.gmapsfx.javascript.object;
 
 import com.lynden.gmapsfx.javascript.JavascriptObject;
+import com.lynden.gmapsfx.javascript.JavascriptUtils;
 import netscape.javascript.JSObject;
 
 /**
@@ -38,6 +39,58 @@ public class MVCArray extends JavascriptObject {
         super(GMapObjectType.MVC_ARRAY, obj);
     }
 
+    /**
+     * Creates an MVCArray from a script which evaluates to a
+     * google.maps.MVCArray, such as one of the helpers in GmapsFx.js.
+     *
+     * @param stringRepresentation The script to evaluate.
+     */
+    protected MVCArray(String stringRepresentation) {
+        super(GMapObjectType.MVC_ARRAY, stringRepresentation);
+    }
+
+    /**
+     * Creates an MVCArray of MVCArrays, one for each of the supplied buffers,
+     * in a single call. This is the form used for a Polygon with multiple
+     * paths.
+     *
+     * @param buffers The paths.
+     * @return The new MVCArray.
+     */
+    public static MVCArray fromPaths(CoordinateBuffer... buffers) {
+        StringBuilder sb = new StringBuilder("gmapsfx.toPaths([");
+        for (int i = 0; i < buffers.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append('\'').append(buffers[i].pack()).append('\'');
+        }
+        return new MVCArray(sb.append("])").toString());
+    }
+
+    /**
+     * Creates an MVCArray of LatLng objects from a path in the encoded
+     * polyline format, which is decoded by the browser in a single call.
+     *
+     * @param encoded The encoded path.
+     * @return The new MVCArray.
+     * @see com.lynden.gmapsfx.geometry.PolylineEncoding
+     */
+    public static MVCArray fromEncodedPath(String encoded) {
+        return new MVCArray("gmapsfx.decodePath(" + JavascriptUtils.quote(encoded) + ")");
+    }
+
+    /**
+     * Creates an MVCArray of MVCArrays from paths in the encoded polyline
+     * format, as used for a Polygon with multiple paths.
+     *
+     * @param encoded The encoded paths.
+     * @return The new MVCArray.
+     */
+    public static MVCArray fromEncodedPaths(String... encoded) {
+        return new MVCArray("gmapsfx.decodePaths(" + JavascriptUtils.toArrayLiteral(encoded) + ")");
+    }
+
     /**
      * Removes all elements from the array.
      *
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2026 Lynden, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lynden.gmapsfx.javascript.object;
+
+import com.lynden.gmapsfx.javascript.JavascriptUtils;
+
+/**
+ * An immutable snapshot of the visible area of a map: its center, zoom,
+ * bounds, heading, tilt and size in pixels.
+ * <p>
+ * Snapshots are packed by <code>gmapsfx.viewState()</code> into a single
+ * string of numbers, so that the whole view can be pushed to Java in one call
+ * rather than being pulled back one getter at a time. The center and bounds
+ * are only turned into {@link LatLong} and {@link LatLongBounds} objects when
+ * asked for, and neither creates a Javascript object until it is passed back
+ * to the map.
+ */
+public class MapViewState {
+
+    private static final int CENTER_LAT = 0;
+    private static final int CENTER_LNG = 1;
+    private static final int ZOOM = 2;
+    private static final int SW_LAT = 3;
+    private static final int SW_LNG = 4;
+    private static final int NE_LAT = 5;
+    private static final int NE_LNG = 6;
+    private static final int HEADING = 7;
+    private static final int TILT = 8;
+    private static final int WIDTH = 9;
+    private static final int HEIGHT = 10;
+    private static final int SIZE = 11;
+
+    private final double[] values;
+
+    protected MapViewState(double[] values) {
+        if (values.length < SIZE) {
+            throw new IllegalArgumentException("Expected " + SIZE + " values but got " + values.length);
+        }
+        this.values = values;
+    }
+
+    /**
+     * Decodes a snapshot packed by <code>gmapsfx.viewState()</code>.
+     *
+     * @param packed The packed snapshot.
+     * @return The snapshot.
+     */
+    public static MapViewState parse(String packed) {
+        return new MapViewState(JavascriptUtils.unpack(packed));
+    }
+
+    public double getCenterLatitude() {
+        return values[CENTER_LAT];
+    }
+
+    public double getCenterLongitude() {
+        return values[CENTER_LNG];
+    }
+
+    public LatLong getCenter() {
+        return new LatLong(values[CENTER_LAT], values[CENTER_LNG]);
+    }
+
+    public int getZoom() {
+        return (int) values[ZOOM];
+    }
+
+    /**
+     * The bounds are not known until the map has been laid out.
+     *
+     * @return true if this snapshot includes the bounds of the map.
+     */
+    public boolean hasBounds() {
+        return !Double.isNaN(values[SW_LAT]) && !Double.isNaN(values[NE_LAT]);
+    }
+
+    /**
+     * @return The bounds of the visible area, or null if they are not yet
+     * known.
+     */
+    public LatLongBounds getBounds() {
+        if (!hasBounds()) {
+            return null;
+        }
+        return new LatLongBounds(new LatLong(values[SW_LAT], values[SW_LNG]),
+                new LatLong(values[NE_LAT], values[NE_LNG]));
+    }
+
+    public double getHeading() {
+        return values[HEADING];
+    }
+
+    public double getTilt() {
+        return values[TILT];
+    }
+
+    /**
+     * @return The width of the map in pixels.
+     */
+    public double getWidth() {
+        return values[WIDTH];
+    }
+
+    /**
+     * @return The height of the map in pixels.
+     */
+    public double getHeight() {
+        return values[HEIGHT];
+    }
+
+    /**
+     * @param other Another snapshot, may be null.
+     * @return true if the other snapshot has the same center.
+     */
+    public boolean isSameCenter(MapViewState other) {
+        return other != null && sameValues(other, CENTER_LAT, CENTER_LNG);
+    }
+
+    /**
+     * @param other Another snapshot, may be null.
+     * @return true if the other snapshot has the same bounds.
+     */
+    public boolean isSameBounds(MapViewState other) {
+        return other != null && sameValues(other, SW_LAT, NE_LNG);
+    }
+
+    private boolean sameValues(MapViewState other, int from, int to) {
+        for (int i = from; i <= to; i++) {
+            if (Double.compare(values[i], other.values[i]) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "MapViewState[center=" + values[CENTER_LAT] + "," + values[CENTER_LNG]
+                + ", zoom=" + values[ZOOM]
+                + ", sw=" + values[SW_LAT] + "," + values[SW_LNG]
+                + ", ne=" + values[NE_LAT] + "," + values[NE_LNG]
+                + ", heading=" + values[HEADING] + ", tilt=" + values[TILT]
+                + ", size=" + values[WIDTH] + "x" + values[HEIGHT] + "]";
+    }
+}
@@ -24,6 +24,9 @@ import com.lynden.gmapsfx.javascript.JavascriptObject;
  * @author Rob Terpilowski
  */
 public class Marker extends JavascriptObject {
+
+    private LatLong position;
+    private GoogleMap map;
     
     /**
      * Contructs a new map Marker with the specified options
@@ -31,6 +34,7 @@ public class Marker extends JavascriptObject {
      */
     public Marker(MarkerOptions markerOptions) {
         super(GMapObjectType.MARKER, markerOptions);
+        position = markerOptions.position;
     }
     
     
@@ -53,7 +57,29 @@ public class Marker extends JavascriptObject {
      * @param map The map to add this Marker to.
      */
     protected void setMap( GoogleMap map ) {
-        invokeJavascript("setMap", map);
+        this.map = map;
+        queueJavascript("setMap", map);
+    }
+
+    /**
+     * Records the map this marker belongs to, without showing it on the map.
+     * Used by GoogleMap when culling markers outside the view.
+     *
+     * @param map The map the marker belongs to, or null.
+     */
+    void setOwner( GoogleMap map ) {
+        this.map = map;
+    }
+
+    /**
+     * Shows or hides this marker on the map it belongs to, without changing
+     * which map that is. Used by GoogleMap when culling markers outside the
+     * view.
+     *
+     * @param attached true to show the marker on its map.
+     */
+    void setAttached( boolean attached ) {
+        queueJavascript("setMap", attached ? map : null);
     }
     
     
@@ -67,15 +93,36 @@ public class Marker extends JavascriptObject {
     
     
     public void setPosition( LatLong latLong ) {
-        invokeJavascript( "setPosition", latLong );
+        queueJavascript( "setPosition", latLong );
+        position = latLong;
+        if (map != null) {
+            map.markerMoved(this);
+        }
+    }
+
+    /**
+     * Gets the position this marker was created with or last moved to from
+     * Java. This is held on the Java side, so it does not call into
+     * Javascript, and does not reflect the marker being dragged on the map.
+     *
+     * @return The position of the marker, or null if it has none.
+     */
+    public LatLong getPosition() {
+        return position;
     }
 
 	public void setOptions(MarkerOptions markerOptions2) {
 		invokeJavascript("setOptions", markerOptions2);
+		if (markerOptions2.position != null) {
+			position = markerOptions2.position;
+			if (map != null) {
+				map.markerMoved(this);
+			}
+		}
 	}
     
 	public void setVisible(boolean visible) {
-		invokeJavascript("setVisible", visible);
+		queueJavascript("setVisible", visible);
 	}
 	
 	public boolean getVisible() {
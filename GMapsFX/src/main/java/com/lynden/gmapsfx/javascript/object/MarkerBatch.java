@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 Lynden, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lynden.gmapsfx.javascript.object;
+
+import com.lynden.gmapsfx.javascript.JavascriptObject;
+import com.lynden.gmapsfx.javascript.JavascriptUtils;
+import com.lynden.gmapsfx.javascript.ScriptBuilder;
+
+/**
+ * A group of markers which are created in the JavaScript runtime with a single
+ * call, rather than building a Marker, MarkerOptions and LatLong object for
+ * each one. The coordinates are sent as one packed String and decoded by
+ * gmapsfx.createMarkers() in GmapsFx.js.
+ * <p>
+ * The underlying JavaScript object is an array of google.maps.Marker objects.
+ * Individual markers are accessed through lightweight {@link MarkerHandle}
+ * objects, which refer to the marker by index rather than holding a
+ * JavaScript peer of their own.
+ */
+public class MarkerBatch extends JavascriptObject {
+
+    protected final double[] lats;
+    protected final double[] lngs;
+
+    /**
+     * Creates a batch of markers at the supplied positions.
+     *
+     * @param lats The latitudes of the markers.
+     * @param lngs The longitudes of the markers, must be the same length as lats.
+     * @param titles The titles of the markers, or null if the markers have no
+     * titles.
+     */
+    public MarkerBatch(double[] lats, double[] lngs, String[] titles) {
+        super(GMapObjectType.OBJECT, getCreateScript(lats, lngs, titles));
+        this.lats = lats.clone();
+        this.lngs = lngs.clone();
+    }
+
+    private static String getCreateScript(double[] lats, double[] lngs, String[] titles) {
+        if (titles != null && titles.length != lats.length) {
+            throw new IllegalArgumentException("There must be one title per marker");
+        }
+        return "gmapsfx.createMarkers('" + JavascriptUtils.packCoordinates(lats, lngs) + "', "
+                + (titles == null ? "null" : JavascriptUtils.toArrayLiteral(titles)) + ")";
+    }
+
+    /**
+     * Gets the number of markers in this batch.
+     *
+     * @return The number of markers.
+     */
+    public int size() {
+        return lats.length;
+    }
+
+    /**
+     * Gets a handle to the marker at the specified index.
+     *
+     * @param index The index of the marker.
+     * @return A handle for the marker.
+     */
+    public MarkerHandle get(int index) {
+        if (index < 0 || index >= lats.length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + lats.length);
+        }
+        return new MarkerHandle(this, index);
+    }
+
+    /**
+     * This method is called from the GoogleMap.addMarkers() method, it should
+     * not be invoked directly.
+     *
+     * @param map The map to add the markers to, or null to remove them.
+     */
+    protected void setMap(GoogleMap map) {
+        runtime.queue("gmapsfx.setMap(" + variableName + ", " + (map == null ? "null" : map.getVariableName()) + ")");
+    }
+
+    protected double getLatitude(int index) {
+        return lats[index];
+    }
+
+    protected double getLongitude(int index) {
+        return lngs[index];
+    }
+
+    protected void setPosition(int index, double lat, double lng) {
+        lats[index] = lat;
+        lngs[index] = lng;
+        try (ScriptBuilder sb = ScriptBuilder.get()) {
+            runtime.queue(sb.append(variableName).append('[').append(index)
+                    .append("].setPosition(new ").append(GMapObjectType.LAT_LNG).append('(')
+                    .append(lat).append(',').append(lng).append("))").build());
+        }
+    }
+
+    protected void setTitle(int index, String title) {
+        try (ScriptBuilder sb = ScriptBuilder.get()) {
+            runtime.queue(sb.append(variableName).append('[').append(index)
+                    .append("].setTitle(").appendString(title).append(')').build());
+        }
+    }
+
+    protected void setVisible(int index, boolean visible) {
+        runtime.queue(variableName + "[" + index + "].setVisible(" + visible + ")");
+    }
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 Lynden, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lynden.gmapsfx.javascript.object;
+
+/**
+ * A lightweight reference to a single marker within a {@link MarkerBatch}.
+ * The position is held on the Java side, so reading it does not require a
+ * call into the JavaScript runtime. Updates are queued through the runtime,
+ * so many updates made within a batch are sent as a single script.
+ */
+public class MarkerHandle {
+
+    protected final MarkerBatch batch;
+    protected final int index;
+
+    protected MarkerHandle(MarkerBatch batch, int index) {
+        this.batch = batch;
+        this.index = index;
+    }
+
+    public MarkerBatch getBatch() {
+        return batch;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public double getLatitude() {
+        return batch.getLatitude(index);
+    }
+
+    public double getLongitude() {
+        return batch.getLongitude(index);
+    }
+
+    public void setPosition(double latitude, double longitude) {
+        batch.setPosition(index, latitude, longitude);
+    }
+
+    public void setTitle(String title) {
+        batch.setTitle(index, title);
+    }
+
+    public void setVisible(boolean visible) {
+        batch.setVisible(index, visible);
+    }
+
+}
@@ -59,6 +59,31 @@ public class MarkerOptions extends JavascriptObject {
         setProperty("icon", iconPath);
         return this;
     }
+
+    /**
+     * Sets the icon of the marker to a shared Icon object, so that markers
+     * using the same image hold a reference to one Javascript object rather
+     * than a copy of its URL each.
+     *
+     * @param icon The icon.
+     * @return this instance of the MarkerOptions
+     */
+    public MarkerOptions icon( Icon icon ) {
+        setProperty("icon", icon);
+        return this;
+    }
+
+    /**
+     * Sets the icon of the marker to a vector Symbol, which may be shared by
+     * many markers.
+     *
+     * @param symbol The symbol.
+     * @return this instance of the MarkerOptions
+     */
+    public MarkerOptions icon( Symbol symbol ) {
+        setProperty("icon", symbol);
+        return this;
+    }
     
     public MarkerOptions animation( Animation animation ) {
         setProperty("animation", animation);
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 Lynden, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lynden.gmapsfx.javascript.object;
+
+import com.lynden.gmapsfx.javascript.JavascriptObject;
+
+/**
+ * Symbol object corresponding to <a href="https://developers.google.com/maps/documentation/javascript/reference#Symbol">google.maps.Symbol</a>,
+ * a vector icon drawn from an SVG path.
+ * <p>
+ * Like an {@link Icon}, a Symbol given to many markers is sent to the map
+ * once and shared by reference.
+ */
+public class Symbol extends JavascriptObject {
+
+    protected final String path;
+
+    /**
+     * @param path The SVG path of the symbol, with the anchor at 0,0.
+     */
+    public Symbol(String path) {
+        super(GMapObjectType.OBJECT);
+        this.path = path;
+        setProperty("path", path);
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * The position of the symbol relative to the marker, in the coordinates
+     * of the path. Defaults to 0,0.
+     *
+     * @param anchor The anchor.
+     * @return this instance of the Symbol
+     */
+    public Symbol anchor(GMapPoint anchor) {
+        setProperty("anchor", anchor);
+        return this;
+    }
+
+    /**
+     * @param fillColor The fill color, as a CSS color.
+     * @return this instance of the Symbol
+     */
+    public Symbol fillColor(String fillColor) {
+        setProperty("fillColor", fillColor);
+        return this;
+    }
+
+    /**
+     * @param fillOpacity The fill opacity, from 0 to 1. Defaults to 0.
+     * @return this instance of the Symbol
+     */
+    public Symbol fillOpacity(double fillOpacity) {
+        setProperty("fillOpacity", fillOpacity);
+        return this;
+    }
+
+    /**
+     * The position of the marker label relative to the anchor, in the
+     * coordinates of the path.
+     *
+     * @param labelOrigin The origin of the label.
+     * @return this instance of the Symbol
+     */
+    public Symbol labelOrigin(GMapPoint labelOrigin) {
+        setProperty("labelOrigin", labelOrigin);
+        return this;
+    }
+
+    /**
+     * @param rotation The rotation of the symbol, in degrees clockwise.
+     * @return this instance of the Symbol
+     */
+    public Symbol rotation(double rotation) {
+        setProperty("rotation", rotation);
+        return this;
+    }
+
+    /**
+     * @param scale The amount the path is scaled by.
+     * @return this instance of the Symbol
+     */
+    public Symbol scale(double scale) {
+        setProperty("scale", scale);
+        return this;
+    }
+
+    /**
+     * @param strokeColor The stroke color, as a CSS color.
+     * @return this instance of the Symbol
+     */
+    public Symbol strokeColor(String strokeColor) {
+        setProperty("strokeColor", strokeColor);
+        return this;
+    }
+
+    /**
+     * @param strokeOpacity The stroke opacity, from 0 to 1.
+     * @return this instance of the Symbol
+     */
+    public Symbol strokeOpacity(double strokeOpacity) {
+        setProperty("strokeOpacity", strokeOpacity);
+        return this;
+    }
+
+    /**
+     * @param strokeWeight The stroke weight, in pixels.
+     * @return this instance of the Symbol
+     */
+    public Symbol strokeWeight(double strokeWeight) {
+        setProperty("strokeWeight", strokeWeight);
+        return this;
+    }
+
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2026 Lynden, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lynden.gmapsfx.overlay;
+
+import com.lynden.gmapsfx.geometry.WebMercatorProjection;
+import com.lynden.gmapsfx.javascript.object.GoogleMap;
+import com.lynden.gmapsfx.javascript.object.MapViewState;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import javafx.animation.AnimationTimer;
+import javafx.beans.value.ChangeListener;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.Pane;
+
+/**
+ * A JavaFX Canvas layered over the map, for drawing data natively rather than
+ * as objects in the Javascript map.
+ * <p>
+ * The overlay follows the map's view through its
+ * {@link GoogleMap#viewStateProperty() view state}, and redraws its
+ * {@link OverlayLayer layers} at most once per pulse, and only when the view
+ * has changed or a layer has asked to be redrawn. Layers are given a
+ * {@link WebMercatorProjection} for the current view to convert their data to
+ * screen coordinates.
+ * <p>
+ * The overlay does not receive mouse events, so the map underneath it can
+ * still be dragged and zoomed. Like the rest of the map API it must only be
+ * used from the JavaFX Application Thread. An instance is available from
+ * {@link com.lynden.gmapsfx.GoogleMapView#getOverlay()}.
+ */
+public class MapOverlay extends Pane {
+
+    private final Canvas canvas = new Canvas();
+    private final List<OverlayLayer> layers = new ArrayList<>();
+    private final ChangeListener<MapViewState> viewStateListener = (obs, o, n) -> requestRedraw();
+    private final AnimationTimer timer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            stop();
+            if (dirty) {
+                redraw();
+            }
+        }
+    };
+    private GoogleMap map;
+    private boolean dirty;
+    private long redrawCount;
+
+    public MapOverlay() {
+        setMouseTransparent(true);
+        getChildren().add(canvas);
+    }
+
+    /**
+     * Sets the map whose view this overlay follows.
+     *
+     * @param map The map, or null to stop following a map.
+     */
+    public void setMap(GoogleMap map) {
+        if (this.map != null) {
+            this.map.viewStateProperty().removeListener(viewStateListener);
+        }
+        this.map = map;
+        if (map != null) {
+            map.viewStateProperty().addListener(viewStateListener);
+        }
+        requestRedraw();
+    }
+
+    public GoogleMap getMap() {
+        return map;
+    }
+
+    /**
+     * Adds a layer, which is drawn above the layers already added.
+     *
+     * @param layer The layer to add.
+     */
+    public void addLayer(OverlayLayer layer) {
+        if (layer.overlay != null && layer.overlay != this) {
+            layer.overlay.removeLayer(layer);
+        }
+        layer.overlay = this;
+        layers.add(layer);
+        requestRedraw();
+    }
+
+    public void removeLayer(OverlayLayer layer) {
+        if (layers.remove(layer)) {
+            layer.overlay = null;
+            requestRedraw();
+        }
+    }
+
+    public List<OverlayLayer> getLayers() {
+        return Collections.unmodifiableList(layers);
+    }
+
+    /**
+     * Schedules a redraw on the next pulse. Any number of requests before then
+     * result in a single redraw.
+     */
+    public void requestRedraw() {
+        if (!dirty) {
+            dirty = true;
+            timer.start();
+        }
+    }
+
+    /**
+     * @return The number of times the overlay has been redrawn.
+     */
+    public long getRedrawCount() {
+        return redrawCount;
+    }
+
+    @Override
+    protected void layoutChildren() {
+        if (canvas.getWidth() != getWidth() || canvas.getHeight() != getHeight()) {
+            canvas.setWidth(getWidth());
+            canvas.setHeight(getHeight());
+            requestRedraw();
+        }
+    }
+
+    /**
+     * Clears the canvas and draws each visible layer for the current view.
+     */
+    protected void redraw() {
+        dirty = false;
+        redrawCount++;
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        if (map == null || map.getViewState() == null) {
+            return;
+        }
+        WebMercatorProjection projection = map.getMercatorProjection();
+        for (OverlayLayer layer : layers) {
+            if (layer.isVisible()) {
+                gc.save();
+                try {
+                    layer.draw(gc, projection);
+                } finally {
+                    gc.restore();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 Lynden, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lynden.gmapsfx.overlay;
+
+import com.lynden.gmapsfx.geometry.WebMercatorProjection;
+import javafx.scene.canvas.GraphicsContext;
+
+/**
+ * A layer of data drawn on a {@link MapOverlay}.
+ * <p>
+ * Subclasses draw themselves in {@link #draw}, and call {@link #invalidate()}
+ * when their data changes so that the overlay is redrawn.
+ */
+public abstract class OverlayLayer {
+
+    MapOverlay overlay;
+    private boolean visible = true;
+
+    /**
+     * Draws this layer for the current view of the map. The graphics state is
+     * saved before and restored after this call.
+     *
+     * @param gc The graphics context of the overlay canvas.
+     * @param projection The projection for the current view, which converts
+     * between LatLongs and screen coordinates.
+     */
+    protected abstract void draw(GraphicsContext gc, WebMercatorProjection projection);
+
+    /**
+     * Requests that the overlay showing this layer is redrawn.
+     */
+    protected void invalidate() {
+        if (overlay != null) {
+            overlay.requestRedraw();
+        }
+    }
+
+    public boolean isVisible() {
+        return visible;
+    }
+
+    public void setVisible(boolean visible) {
+        if (this.visible != visible) {
+            this.visible = visible;
+            invalidate();
+        }
+    }
+
+    /**
+     * @return The overlay showing this layer, or null.
+     */
+    public MapOverlay getOverlay() {
+        return overlay;
+    }
+}
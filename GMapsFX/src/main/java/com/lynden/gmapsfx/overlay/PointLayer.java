@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 Lynden, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lynden.gmapsfx.overlay;
+
+import com.lynden.gmapsfx.geometry.WebMercatorProjection;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+
+/**
+ * An overlay layer which draws a large number of points.
+ * <p>
+ * The points are converted to world coordinates once, when they are set, so
+ * that redrawing for a new view only needs a scale and an offset per point.
+ * Points outside the view are culled before they are passed to the
+ * {@link PointRenderer}.
+ */
+public class PointLayer extends OverlayLayer {
+
+    private static final double DEFAULT_MARGIN = 8;
+
+    private PointRenderer renderer;
+    private double[] world = new double[0];
+    private int count;
+    private double margin = DEFAULT_MARGIN;
+    private double[] screen = new double[0];
+    private int[] indexes = new int[0];
+    private int visibleCount;
+
+    public PointLayer() {
+        this(PointRenderer.dots(Color.DODGERBLUE, 2));
+    }
+
+    public PointLayer(PointRenderer renderer) {
+        this.renderer = renderer;
+    }
+
+    /**
+     * Replaces the points in this layer. The arrays are not retained.
+     *
+     * @param lats The latitudes in degrees.
+     * @param lngs The longitudes in degrees, the same length as lats.
+     */
+    public void setPoints(double[] lats, double[] lngs) {
+        if (lats.length != lngs.length) {
+            throw new IllegalArgumentException("Latitude and longitude arrays differ in length: "
+                    + lats.length + " and " + lngs.length);
+        }
+        count = lats.length;
+        if (world.length < count * 2) {
+            world = new double[count * 2];
+        }
+        for (int i = 0; i < count; i++) {
+            world[i * 2] = WebMercatorProjection.toWorldX(lngs[i]);
+            world[i * 2 + 1] = WebMercatorProjection.toWorldY(lats[i]);
+        }
+        invalidate();
+    }
+
+    public void clear() {
+        count = 0;
+        invalidate();
+    }
+
+    /**
+     * @return The number of points in this layer.
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * @return The number of points that were visible when the layer was last
+     * drawn.
+     */
+    public int getVisibleCount() {
+        return visibleCount;
+    }
+
+    public void setRenderer(PointRenderer renderer) {
+        this.renderer = renderer;
+        invalidate();
+    }
+
+    /**
+     * Sets how far outside the view, in pixels, a point may be and still be
+     * drawn, so that large symbols are not clipped at the edges.
+     *
+     * @param margin The margin in pixels.
+     */
+    public void setMargin(double margin) {
+        this.margin = margin;
+        invalidate();
+    }
+
+    @Override
+    protected void draw(GraphicsContext gc, WebMercatorProjection projection) {
+        if (screen.length < count * 2) {
+            screen = new double[count * 2];
+            indexes = new int[count];
+        }
+        double minX = -margin;
+        double minY = -margin;
+        double maxX = projection.getWidth() + margin;
+        double maxY = projection.getHeight() + margin;
+        int visible = 0;
+        for (int i = 0; i < count; i++) {
+            double x = projection.worldToScreenX(world[i * 2]);
+            double y = projection.worldToScreenY(world[i * 2 + 1]);
+            if (x >= minX && x <= maxX && y >= minY && y <= maxY) {
+                screen[visible * 2] = x;
+                screen[visible * 2 + 1] = y;
+                indexes[visible] = i;
+                visible++;
+            }
+        }
+        visibleCount = visible;
+        renderer.draw(gc, screen, indexes, visible);
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 Lynden, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lynden.gmapsfx.overlay;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Paint;
+
+/**
+ * Draws the visible points of a {@link PointLayer}.
+ */
+@FunctionalInterface
+public interface PointRenderer {
+
+    /**
+     * Draws points which have already been projected and culled to the view.
+     *
+     * @param gc The graphics context of the overlay canvas.
+     * @param xy The screen x and y of each visible point, interleaved.
+     * @param indexes The index in the layer's data of each visible point, so
+     * that points can be styled by their data.
+     * @param count The number of visible points.
+     */
+    void draw(GraphicsContext gc, double[] xy, int[] indexes, int count);
+
+    /**
+     * Creates a renderer which draws each point as a filled circle.
+     *
+     * @param fill The fill of the circles.
+     * @param radius The radius of the circles in pixels.
+     * @return The renderer.
+     */
+    static PointRenderer dots(Paint fill, double radius) {
+        double diameter = radius * 2;
+        return (gc, xy, indexes, count) -> {
+            gc.setFill(fill);
+            for (int i = 0; i < count; i++) {
+                gc.fillOval(xy[i * 2] - radius, xy[i * 2 + 1] - radius, diameter, diameter);
+            }
+        };
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 Lynden, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lynden.gmapsfx.service;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import javafx.application.Platform;
+
+/**
+ * The requests a map service has in flight, each held against a correlation
+ * id which is passed to the Javascript callback for the request, so that any
+ * number of requests can be outstanding at once and each response completes
+ * the future of the request it belongs to.
+ * <p>
+ * A request is removed once its future completes, whether with a response,
+ * by timing out or by being cancelled. A response for a request which has
+ * been removed is ignored.
+ *
+ * @param <T> The type of the response.
+ */
+public class PendingRequests<T> {
+
+    /** The default time to wait for a response, in milliseconds. */
+    public static final long DEFAULT_TIMEOUT_MILLIS = 30000;
+
+    private static final ScheduledExecutorService TIMER = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "GMapsFX service timeouts");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Map<Integer, CompletableFuture<T>> pending = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger();
+    private volatile long timeoutMillis = DEFAULT_TIMEOUT_MILLIS;
+    private final Executor timeoutExecutor;
+
+    public PendingRequests() {
+        this(Platform::runLater);
+    }
+
+    /**
+     * @param timeoutExecutor Runs the completion of timed out requests.
+     */
+    PendingRequests(Executor timeoutExecutor) {
+        this.timeoutExecutor = timeoutExecutor;
+    }
+
+    /**
+     * Adds a request, timing it out after the current timeout.
+     *
+     * @param future The future to complete with the response.
+     * @return The correlation id of the request.
+     */
+    public int add(CompletableFuture<T> future) {
+        return add(future, timeoutMillis);
+    }
+
+    /**
+     * Adds a request.
+     *
+     * @param future The future to complete with the response.
+     * @param timeoutMillis The time after which the future is completed with
+     * a TimeoutException on the JavaFX Application Thread, or 0 to wait
+     * indefinitely.
+     * @return The correlation id of the request.
+     */
+    public int add(CompletableFuture<T> future, long timeoutMillis) {
+        int id = nextId.incrementAndGet();
+        pending.put(id, future);
+        ScheduledFuture<?> timeout = null;
+        if (timeoutMillis > 0) {
+            // Completed on the FX thread, like a response, so that dependent
+            // stages never run on the timer thread.
+            timeout = TIMER.schedule(() -> timeoutExecutor.execute(() -> future.completeExceptionally(
+                    new TimeoutException("No response to request " + id + " after " + timeoutMillis + "ms"))),
+                    timeoutMillis, TimeUnit.MILLISECONDS);
+        }
+        ScheduledFuture<?> scheduled = timeout;
+        future.whenComplete((result, ex) -> {
+            pending.remove(id);
+            if (scheduled != null) {
+                scheduled.cancel(false);
+            }
+        });
+        return id;
+    }
+
+    /**
+     * Removes a request so that it can be completed with its response.
+     *
+     * @param id The correlation id of the request.
+     * @return The future of the request, or null if it has already completed.
+     */
+    public CompletableFuture<T> remove(int id) {
+        CompletableFuture<T> future = pending.remove(id);
+        return future == null || future.isDone() ? null : future;
+    }
+
+    /**
+     * @return The number of requests waiting for a response.
+     */
+    public int size() {
+        return pending.size();
+    }
+
+    /**
+     * Sets the time to wait for the response to a request added after this
+     * call.
+     *
+     * @param timeout The timeout, or 0 to wait indefinitely.
+     * @param unit The unit of the timeout.
+     */
+    public void setTimeout(long timeout, TimeUnit unit) {
+        this.timeoutMillis = unit.toMillis(timeout);
+    }
+
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+}
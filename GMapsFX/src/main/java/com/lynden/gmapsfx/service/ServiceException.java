@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 Lynden, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lynden.gmapsfx.service;
+
+/**
+ * Thrown, through the future of a request, when a map service responds with
+ * a status other than OK.
+ */
+public class ServiceException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String status;
+
+    /**
+     * @param status The status returned by the service, such as
+     * "OVER_QUERY_LIMIT".
+     */
+    public ServiceException(String status) {
+        super("Service request failed with status " + status);
+        this.status = status;
+    }
+
+    /**
+     * @return The status returned by the service.
+     */
+    public String getStatus() {
+        return status;
+    }
+
+}
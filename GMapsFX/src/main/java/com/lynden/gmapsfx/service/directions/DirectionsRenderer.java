@@ -68,6 +68,15 @@ public class DirectionsRenderer extends JavascriptObject{
         }
     }
     
+    /**
+     * Shows a route.
+     *
+     * @param directions The result of a directions request.
+     */
+    public void setDirections(DirectionsResult directions) {
+        invokeJavascript("setDirections", directions);
+    }
+    
     public void clearDirections() {
         setMap(null);
     }
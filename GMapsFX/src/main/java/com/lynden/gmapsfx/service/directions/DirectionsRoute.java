@@ -15,7 +15,9 @@
  */
 package com.lynden.gmapsfx.service.directions;
 
+import com.lynden.gmapsfx.geometry.PolylineEncoding;
 import com.lynden.gmapsfx.javascript.JavascriptObject;
+import com.lynden.gmapsfx.javascript.object.CoordinateBuffer;
 import com.lynden.gmapsfx.javascript.object.GMapObjectType;
 import com.lynden.gmapsfx.javascript.object.LatLong;
 import com.lynden.gmapsfx.javascript.object.LatLongBounds;
@@ -70,6 +72,33 @@ public class DirectionsRoute extends JavascriptObject{
         return result;
     }
     
+    /**
+     * Gets the overview path of the route in the encoded polyline format,
+     * which is a much smaller transfer than getOverviewPath() and can be
+     * stored as is.
+     *
+     * @return The encoded overview path, or null if the route has none.
+     */
+    public String getOverviewPolyline() {
+        Object polyline = getJSObject().getMember("overview_polyline");
+        if (polyline instanceof JSObject) {
+            // Older versions of the API wrap the string in an object.
+            polyline = ((JSObject) polyline).getMember("points");
+        }
+        return polyline instanceof String ? (String) polyline : null;
+    }
+
+    /**
+     * Gets the overview path of the route, decoded in Java from the encoded
+     * overview polyline rather than by reading each LatLng from the browser.
+     *
+     * @return The points of the overview path, empty if the route has none.
+     */
+    public CoordinateBuffer getOverviewCoordinates() {
+        String polyline = getOverviewPolyline();
+        return polyline == null ? new CoordinateBuffer() : PolylineEncoding.decode(polyline);
+    }
+
     public LatLongBounds getBounds() {
         try {
             JSObject bounds = (JSObject) getJSObject().getMember("bounds");
@@ -17,11 +17,27 @@ package com.lynden.gmapsfx.service.directions;
 
 import com.lynden.gmapsfx.javascript.JavascriptObject;
 import com.lynden.gmapsfx.javascript.object.GMapObjectType;
+import com.lynden.gmapsfx.service.PendingRequests;
+import com.lynden.gmapsfx.service.ServiceException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import netscape.javascript.JSObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
+ * Makes requests to the Google Maps Directions Service.
+ * <p>
+ * Each request is given its own correlation id, so any number of requests
+ * may be in flight on one instance at once. The async methods return a
+ * future which is completed on the JavaFX Application Thread with the
+ * result, or exceptionally with a {@link ServiceException} for a status
+ * other than OK, or a TimeoutException if there is no response within the
+ * timeout. Cancelling the future discards its response. A renderer passed
+ * with a request only shows its route if it is the latest request made for
+ * that renderer.
  *
  * @author Andre
  */
@@ -31,6 +47,10 @@ public class DirectionsService extends JavascriptObject{
     public DirectionsServiceCallback callback;
     public DirectionsRenderer renderer;
     
+    private final PendingRequests<DirectionsResult> requests = new PendingRequests<>();
+    private final Map<DirectionsRenderer, Integer> latestRequests = new ConcurrentHashMap<>();
+    private boolean registered;
+    
     public DirectionsService(){
         super(GMapObjectType.DIRECTIONS_SERVICE);
     }
@@ -39,41 +59,113 @@ public class DirectionsService extends JavascriptObject{
         this.callback = callback;
         this.renderer = renderer;
         
-        JSObject doc = (JSObject) getJSObject().eval("document");
-        doc.setMember(getVariableName(), this);
+        CompletableFuture<DirectionsResult> future = new CompletableFuture<>();
+        // As before, the callback only hears of routes which are found.
+        future.thenAccept(result -> callback.directionsReceived(result, DirectionStatus.OK));
+        send(req, renderer, future, 0);
+    }
+    
+    public CompletableFuture<DirectionsResult> getRouteAsync(DirectionsRequest req) {
+        return getRouteAsync(req, null);
+    }
+    
+    /**
+     * Requests a route. This must be called on the JavaFX Application Thread.
+     *
+     * @param req The request.
+     * @param renderer The renderer to show the route with, or null.
+     * @return A future completed with the result.
+     */
+    public CompletableFuture<DirectionsResult> getRouteAsync(DirectionsRequest req, DirectionsRenderer renderer) {
+        CompletableFuture<DirectionsResult> future = new CompletableFuture<>();
+        send(req, renderer, future, requests.getTimeoutMillis());
+        return future;
+    }
+    
+    /**
+     * Sets the time to wait for the response to an async request.
+     *
+     * @param timeout The timeout, or 0 to wait indefinitely.
+     * @param unit The unit of the timeout.
+     */
+    public void setTimeout(long timeout, TimeUnit unit) {
+        requests.setTimeout(timeout, unit);
+    }
+    
+    /**
+     * @return The number of requests waiting for a response.
+     */
+    public int getPendingRequestCount() {
+        return requests.size();
+    }
+    
+    private void send(DirectionsRequest req, DirectionsRenderer renderer, CompletableFuture<DirectionsResult> future, long timeoutMillis) {
+        if (!registered) {
+            JSObject doc = (JSObject) getJSObject().eval("document");
+            doc.setMember(getVariableName(), this);
+            registered = true;
+        }
+        int id = requests.add(future, timeoutMillis);
+        if (renderer != null) {
+            showWhenLatest(renderer, id, future);
+        }
+        
         StringBuilder r = new StringBuilder(getVariableName())
                 .append(".")
                 .append("route(")
                 .append(req.getVariableName())
                 .append(", ")
-                .append("function(results, status) {\n")
-                .append("if(status === 'OK'){\n")
-                .append(renderer.getVariableName())
-                .append(".setDirections(results);\ndocument.")
+                .append("function(results, status) {\n");
+        r.append("document.")
                 .append(getVariableName())
-                .append(".processResponse(results, status);\n}")
+                .append(".processResponse(")
+                .append(id)
+                .append(", results, status);\n")
                 .append("});");
         
         LOG.trace("Directions direct call: " + r.toString());
         try{
             getJSObject().eval(r.toString());
-        } catch(Throwable t){
+        } catch(RuntimeException t){
             LOG.error(t.getMessage());
+            future.completeExceptionally(t);
         }
     }
     
-     public void processResponse(Object results, Object status) {
-        LOG.trace("STATUS: {}",status);
-        DirectionStatus pStatus = DirectionStatus.UNKNOWN_ERROR;
-        if (status instanceof String && results instanceof JSObject) {
-            pStatus = DirectionStatus.valueOf((String) status);
-            if (DirectionStatus.OK.equals(pStatus)) {
-                LOG.trace("\n\nResults: " + results);
-                DirectionsResult ers = new DirectionsResult((JSObject) results);
-                callback.directionsReceived(ers, pStatus);
-                return;
+    /**
+     * Shows the result of a request on a renderer, provided no later request
+     * has been made for the same renderer, so a slow response can't replace
+     * a newer route. Cancelled, failed and timed out requests show nothing.
+     */
+    private void showWhenLatest(DirectionsRenderer renderer, int id, CompletableFuture<DirectionsResult> future) {
+        latestRequests.put(renderer, id);
+        future.whenComplete((result, ex) -> {
+            if (latestRequests.remove(renderer, id) && result != null) {
+                renderer.setDirections(result);
             }
+        });
+    }
+    
+    /**
+     * Called from Javascript with the response to a request.
+     *
+     * @param id The correlation id of the request.
+     * @param results The result.
+     * @param status The status.
+     */
+    public void processResponse(int id, Object results, Object status) {
+        LOG.trace("STATUS: {}",status);
+        CompletableFuture<DirectionsResult> future = requests.remove(id);
+        if (future == null) {
+            LOG.trace("Discarding response to request {}", id);
+            return;
+        }
+        if (DirectionStatus.OK.name().equals(status) && results instanceof JSObject) {
+            LOG.trace("\n\nResults: " + results);
+            future.complete(new DirectionsResult((JSObject) results));
+            return;
         }
-        callback.directionsReceived(new DirectionsResult(), pStatus);
+        future.completeExceptionally(new ServiceException(status instanceof String
+                ? (String) status : DirectionStatus.UNKNOWN_ERROR.name()));
     }
 }
@@ -8,21 +8,30 @@ package com.lynden.gmapsfx.service.elevation;
 
 import com.lynden.gmapsfx.javascript.JavascriptObject;
 import com.lynden.gmapsfx.javascript.object.GMapObjectType;
+import com.lynden.gmapsfx.service.PendingRequests;
+import com.lynden.gmapsfx.service.ServiceException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import netscape.javascript.JSObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-/** Makes a request to the Google Maps Elevation Service.
+/** Makes requests to the Google Maps Elevation Service.
  * <p>
- * Instances of this class are not safe for re-use at this stage. A new 
- * one should be created for each request.
+ * Each request is given its own correlation id, so any number of requests
+ * may be in flight on one instance at once. The async methods return a
+ * future which is completed on the JavaFX Application Thread with the
+ * results, or exceptionally with a {@link ServiceException} for a status
+ * other than OK, or a TimeoutException if there is no response within the
+ * timeout. Cancelling the future discards its response.
  *
  * @author Geoff Capper
  */
 public class ElevationService extends JavascriptObject {
     private static final Logger LOG = LoggerFactory.getLogger(ElevationService.class);
 
-    private ElevationServiceCallback callback;
+    private final PendingRequests<ElevationResult[]> requests = new PendingRequests<>();
+    private boolean registered;
     
     public ElevationService() {
         super(GMapObjectType.ELEVATION_SERVICE);
@@ -34,25 +43,7 @@ public class ElevationService extends JavascriptObject {
      * @param callback 
      */
     public void getElevationForLocations(LocationElevationRequest req, ElevationServiceCallback callback) {
-        
-        this.callback = callback;
-        
-        JSObject doc = (JSObject) getJSObject().eval("document");
-        doc.setMember(getVariableName(), this);
-        
-        StringBuilder r = new StringBuilder(getVariableName())
-              .append(".")
-              .append("getElevationForLocations(")
-              .append(req.getVariableName())
-              .append(", ")
-              .append("function(results, status) {alert('rec:'+status);\ndocument.")
-              .append(getVariableName())
-              .append(".processResponse(results, status);});");
-        
-        LOG.trace("ElevationService direct call: " + r.toString());
-        
-        getJSObject().eval(r.toString());
-        
+        send("getElevationForLocations", req, toCallback(callback), 0);
     }
 
     /** Create a request for elevations for samples along a path.
@@ -61,53 +52,131 @@ public class ElevationService extends JavascriptObject {
      * @param callback 
      */
     public void getElevationAlongPath(PathElevationRequest req, ElevationServiceCallback callback) {
-        
-        this.callback = callback;
-        
-        JSObject doc = (JSObject) getJSObject().eval("document");
-        doc.setMember(getVariableName(), this);
+        send("getElevationAlongPath", req, toCallback(callback), 0);
+    }
+    
+    /** Requests elevations for multiple locations. This must be called on 
+     * the JavaFX Application Thread.
+     * 
+     * @param req
+     * @return A future completed with the results.
+     */
+    public CompletableFuture<ElevationResult[]> getElevationForLocationsAsync(LocationElevationRequest req) {
+        CompletableFuture<ElevationResult[]> future = new CompletableFuture<>();
+        send("getElevationForLocations", req, future, requests.getTimeoutMillis());
+        return future;
+    }
+    
+    /** Requests elevations for samples along a path. This must be called on 
+     * the JavaFX Application Thread.
+     * 
+     * @param req
+     * @return A future completed with the results.
+     */
+    public CompletableFuture<ElevationResult[]> getElevationAlongPathAsync(PathElevationRequest req) {
+        CompletableFuture<ElevationResult[]> future = new CompletableFuture<>();
+        send("getElevationAlongPath", req, future, requests.getTimeoutMillis());
+        return future;
+    }
+    
+    /** Sets the time to wait for the response to an async request.
+     * 
+     * @param timeout The timeout, or 0 to wait indefinitely.
+     * @param unit The unit of the timeout.
+     */
+    public void setTimeout(long timeout, TimeUnit unit) {
+        requests.setTimeout(timeout, unit);
+    }
+    
+    /**
+     * @return The number of requests waiting for a response.
+     */
+    public int getPendingRequestCount() {
+        return requests.size();
+    }
+    
+    private CompletableFuture<ElevationResult[]> toCallback(ElevationServiceCallback callback) {
+        CompletableFuture<ElevationResult[]> future = new CompletableFuture<>();
+        future.whenComplete((results, ex) -> {
+            if (ex == null) {
+                callback.elevationsReceived(results, ElevationStatus.OK);
+            } else {
+                callback.elevationsReceived(new ElevationResult[]{}, toStatus(ex));
+            }
+        });
+        return future;
+    }
+    
+    private void send(String method, JavascriptObject req, CompletableFuture<ElevationResult[]> future, long timeoutMillis) {
+        if (!registered) {
+            JSObject doc = (JSObject) getJSObject().eval("document");
+            doc.setMember(getVariableName(), this);
+            registered = true;
+        }
+        int id = requests.add(future, timeoutMillis);
         
         StringBuilder r = new StringBuilder(getVariableName())
               .append(".")
-              .append("getElevationAlongPath(")
+              .append(method)
+              .append("(")
               .append(req.getVariableName())
               .append(", ")
               .append("function(results, status) {document.")
               .append(getVariableName())
-              .append(".processResponse(results, status);});");
+              .append(".processResponse(")
+              .append(id)
+              .append(", results, status);});");
         
-        getJSObject().eval(r.toString());
+        LOG.trace("ElevationService direct call: " + r.toString());
         
+        try {
+            getJSObject().eval(r.toString());
+        } catch (RuntimeException ex) {
+            future.completeExceptionally(ex);
+        }
     }
     
-    /** Processess the Javascript response and generates the required objects 
-     * that are then passed back to the original callback.
+    /** Processess the Javascript response to a request and completes its 
+     * future with the required objects.
      * 
+     * @param id The correlation id of the request.
      * @param results
      * @param status 
      */
-    public void processResponse(Object results, Object status) {
-        ElevationStatus pStatus = ElevationStatus.UNKNOWN_ERROR;
-        
-        if (status instanceof String && results instanceof JSObject) {
-            pStatus = ElevationStatus.valueOf((String) status);
-            if (ElevationStatus.OK.equals(pStatus)) {
-                JSObject jsres = (JSObject) results;
-                Object len = jsres.getMember("length");
-                if (len instanceof Number) {
-                    int n = ((Number)len).intValue();
-                    ElevationResult[] ers = new ElevationResult[n];
-                    for (int i = 0; i < n; i++) {
-                        Object obj = jsres.getSlot(i);
-                        if (obj instanceof JSObject) {
-                            ers[i] = new ElevationResult((JSObject) obj);
-                        }
+    public void processResponse(int id, Object results, Object status) {
+        CompletableFuture<ElevationResult[]> future = requests.remove(id);
+        if (future == null) {
+            LOG.trace("Discarding response to request {}", id);
+            return;
+        }
+        if (ElevationStatus.OK.name().equals(status) && results instanceof JSObject) {
+            JSObject jsres = (JSObject) results;
+            Object len = jsres.getMember("length");
+            if (len instanceof Number) {
+                int n = ((Number)len).intValue();
+                ElevationResult[] ers = new ElevationResult[n];
+                for (int i = 0; i < n; i++) {
+                    Object obj = jsres.getSlot(i);
+                    if (obj instanceof JSObject) {
+                        ers[i] = new ElevationResult((JSObject) obj);
                     }
-                    callback.elevationsReceived(ers, pStatus);
-                    return;
+                }
+                future.complete(ers);
+                return;
+            }
+        }
+        future.completeExceptionally(new ServiceException(status instanceof String
+                ? (String) status : ElevationStatus.UNKNOWN_ERROR.name()));
+    }
+    
+    private static ElevationStatus toStatus(Throwable ex) {
+        if (ex instanceof ServiceException) {
+            for (ElevationStatus status : ElevationStatus.values()) {
+                if (status.name().equals(((ServiceException) ex).getStatus())) {
+                    return status;
                 }
             }
         }
-        callback.elevationsReceived(new ElevationResult[]{}, pStatus);
+        return ElevationStatus.UNKNOWN_ERROR;
     }
 }
@@ -19,11 +19,23 @@ package com.lynden.gmapsfx.service.geocoding;
 import com.lynden.gmapsfx.javascript.JavascriptObject;
 import com.lynden.gmapsfx.javascript.object.GMapObjectType;
 import com.lynden.gmapsfx.javascript.object.LatLong;
+import com.lynden.gmapsfx.service.PendingRequests;
+import com.lynden.gmapsfx.service.ServiceException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import netscape.javascript.JSObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
+ * Makes requests to the Google Maps Geocoding Service.
+ * <p>
+ * Each request is given its own correlation id, so any number of requests
+ * may be in flight on one instance at once. The async methods return a
+ * future which is completed on the JavaFX Application Thread with the
+ * results, or exceptionally with a {@link ServiceException} for a status
+ * other than OK or ZERO_RESULTS, or a TimeoutException if there is no
+ * response within the timeout. Cancelling the future discards its response.
  *
  * @author Rob Terpilowski
  */
@@ -32,6 +44,9 @@ public class GeocodingService extends JavascriptObject {
     
     public GeocodingServiceCallback callback;
     
+    private final PendingRequests<GeocodingResult[]> requests = new PendingRequests<>();
+    private boolean registered;
+    
     public GeocodingService(){
         super(GMapObjectType.GEOCODER);
     }
@@ -46,47 +61,130 @@ public class GeocodingService extends JavascriptObject {
     
     public void getGeocoding(GeocoderRequest req, GeocodingServiceCallback callback){
         this.callback = callback;
-        
-        JSObject doc = (JSObject) getJSObject().eval("document");
-        doc.setMember(getVariableName(), this);
+        CompletableFuture<GeocodingResult[]> future = new CompletableFuture<>();
+        future.whenComplete((results, ex) -> {
+            if (ex == null) {
+                callback.geocodedResultsReceived(results, results.length == 0 ? GeocoderStatus.ZERO_RESULTS : GeocoderStatus.OK);
+            } else {
+                callback.geocodedResultsReceived(new GeocodingResult[]{}, toStatus(ex));
+            }
+        });
+        // Callers of the callback methods have never had a timeout.
+        send(req, future, 0);
+    }
+    
+    public CompletableFuture<GeocodingResult[]> reverseGeocodeAsync(double lat, double lon) {
+        return getGeocodingAsync(new GeocoderRequest(null, new LatLong(lat, lon), null, null, null, null));
+    }
+    
+    public CompletableFuture<GeocodingResult[]> geocodeAsync(String address) {
+        return getGeocodingAsync(new GeocoderRequest(address));
+    }
+    
+    /**
+     * Makes a geocoding request. This must be called on the JavaFX Application
+     * Thread.
+     *
+     * @param req The request.
+     * @return A future completed with the results, which are empty for a
+     * status of ZERO_RESULTS.
+     */
+    public CompletableFuture<GeocodingResult[]> getGeocodingAsync(GeocoderRequest req) {
+        CompletableFuture<GeocodingResult[]> future = new CompletableFuture<>();
+        send(req, future, requests.getTimeoutMillis());
+        return future;
+    }
+    
+    /**
+     * Sets the time to wait for the response to an async request.
+     *
+     * @param timeout The timeout, or 0 to wait indefinitely.
+     * @param unit The unit of the timeout.
+     */
+    public void setTimeout(long timeout, TimeUnit unit) {
+        requests.setTimeout(timeout, unit);
+    }
+    
+    /**
+     * @return The number of requests waiting for a response.
+     */
+    public int getPendingRequestCount() {
+        return requests.size();
+    }
+    
+    private void send(GeocoderRequest req, CompletableFuture<GeocodingResult[]> future, long timeoutMillis) {
+        if (!registered) {
+            JSObject doc = (JSObject) getJSObject().eval("document");
+            doc.setMember(getVariableName(), this);
+            registered = true;
+        }
+        int id = requests.add(future, timeoutMillis);
         
         StringBuilder r = new StringBuilder(getVariableName())
               .append(".")
               .append("geocode(")
               .append(req.getVariableName())
               .append(", ")
-              .append("function(results, status) {alert('rec:'+status);\ndocument.")
+              .append("function(results, status) {document.")
               .append(getVariableName())
-              .append(".processResponse(results, status);});");
+              .append(".processResponse(")
+              .append(id)
+              .append(", results, status);});");
         
         LOG.trace("Geocoding direct call: " + r.toString());
         
-        getJSObject().eval(r.toString());
+        try {
+            getJSObject().eval(r.toString());
+        } catch (RuntimeException ex) {
+            future.completeExceptionally(ex);
+        }
     }
     
-    
-    public void processResponse(Object results, Object status) {
-        GeocoderStatus pStatus = GeocoderStatus.UNKNOWN_ERROR;
-        if (status instanceof String && results instanceof JSObject) {
-            pStatus = GeocoderStatus.valueOf((String) status);
-            if (GeocoderStatus.OK.equals(pStatus)) {
-                JSObject jsres = (JSObject) results;
-                Object len = jsres.getMember("length");
-                if (len instanceof Number) {
-                    int n = ((Number)len).intValue();
-//                    LOG.trace("n: " + n);
-                    GeocodingResult[] ers = new GeocodingResult[n];
-                    for (int i = 0; i < n; i++) {
-                        Object obj = jsres.getSlot(i);
-                        if (obj instanceof JSObject) {
-                            ers[i] = new GeocodingResult((JSObject) obj);
-                        }
+    /**
+     * Called from Javascript with the response to a request.
+     *
+     * @param id The correlation id of the request.
+     * @param results The results.
+     * @param status The status.
+     */
+    public void processResponse(int id, Object results, Object status) {
+        CompletableFuture<GeocodingResult[]> future = requests.remove(id);
+        if (future == null) {
+            LOG.trace("Discarding response to request {}", id);
+            return;
+        }
+        if (GeocoderStatus.ZERO_RESULTS.name().equals(status)) {
+            future.complete(new GeocodingResult[]{});
+            return;
+        }
+        if (GeocoderStatus.OK.name().equals(status) && results instanceof JSObject) {
+            JSObject jsres = (JSObject) results;
+            Object len = jsres.getMember("length");
+            if (len instanceof Number) {
+                int n = ((Number)len).intValue();
+                GeocodingResult[] ers = new GeocodingResult[n];
+                for (int i = 0; i < n; i++) {
+                    Object obj = jsres.getSlot(i);
+                    if (obj instanceof JSObject) {
+                        ers[i] = new GeocodingResult((JSObject) obj);
                     }
-                    callback.geocodedResultsReceived(ers, pStatus);
-                    return;
+                }
+                future.complete(ers);
+                return;
+            }
+        }
+        future.completeExceptionally(new ServiceException(status instanceof String
+                ? (String) status : GeocoderStatus.UNKNOWN_ERROR.name()));
+    }
+    
+    private static GeocoderStatus toStatus(Throwable ex) {
+        if (ex instanceof ServiceException) {
+            for (GeocoderStatus status : GeocoderStatus.values()) {
+                if (status.name().equals(((ServiceException) ex).getStatus())) {
+                    return status;
                 }
             }
         }
-        callback.geocodedResultsReceived(new GeocodingResult[]{}, pStatus);
+        return GeocoderStatus.UNKNOWN_ERROR;
     }
 }
@@ -5,6 +5,7 @@
  */
 package com.lynden.gmapsfx.shapes;
 
+import com.lynden.gmapsfx.javascript.object.CoordinateBuffer;
 import com.lynden.gmapsfx.javascript.object.LatLong;
 import com.lynden.gmapsfx.javascript.object.MVCArray;
 import javafx.scene.shape.ArcType;
@@ -71,7 +72,7 @@ public class ArcBuilder {
     public static final MVCArray buildArcPoints(LatLong center, double startBearing, double endBearing, double radius) {
         int points = DEFAULT_ARC_POINTS;
 
-        MVCArray res = new MVCArray();
+        CoordinateBuffer res = new CoordinateBuffer(points + 1);
 
         if (startBearing > endBearing) {
             endBearing += 360.0;
@@ -79,10 +80,10 @@ public class ArcBuilder {
         double deltaBearing = endBearing - startBearing;
         deltaBearing = deltaBearing / points;
         for (int i = 0; (i < points + 1); i++) {
-            res.push(center.getDestinationPoint(startBearing + i * deltaBearing, radius));
+            res.add(center.getDestinationPoint(startBearing + i * deltaBearing, radius));
         }
 
-        return res;
+        return res.toMVCArray();
 
     }
 
@@ -16,6 +16,7 @@
 
 package com.lynden.gmapsfx.shapes;
 
+import com.lynden.gmapsfx.javascript.object.CoordinateBuffer;
 import com.lynden.gmapsfx.javascript.object.MVCArray;
 
 /**
@@ -34,6 +35,31 @@ public class PolygonOptions extends FillableMapShapeOptions<PolygonOptions> {
         this.paths = paths;
         return this;
     }
+
+    /**
+     * Sets the paths from the supplied coordinates, which are sent to the
+     * JavaScript runtime in a single call. A single buffer gives a simple
+     * polygon, additional buffers are inner paths.
+     *
+     * @param paths The vertices of each path.
+     * @return These options.
+     */
+    public PolygonOptions paths(CoordinateBuffer... paths) {
+        return paths(paths.length == 1 ? paths[0].toMVCArray() : MVCArray.fromPaths(paths));
+    }
+
+    /**
+     * Sets the paths from paths in the encoded polyline format, which are
+     * decoded by the browser in a single call. A single path gives a simple
+     * polygon, additional paths are inner paths.
+     *
+     * @param encoded The encoded paths.
+     * @return These options.
+     * @see com.lynden.gmapsfx.geometry.PolylineEncoding
+     */
+    public PolygonOptions encodedPaths(String... encoded) {
+        return paths(encoded.length == 1 ? MVCArray.fromEncodedPath(encoded[0]) : MVCArray.fromEncodedPaths(encoded));
+    }
     
     @Override
     protected PolygonOptions getMe() {
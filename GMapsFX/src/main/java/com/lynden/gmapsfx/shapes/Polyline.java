@@ -16,7 +16,10 @@
 
 package com.lynden.gmapsfx.shapes;
 
+import com.lynden.gmapsfx.geometry.SimplifiedPath;
+import com.lynden.gmapsfx.javascript.object.CoordinateBuffer;
 import com.lynden.gmapsfx.javascript.object.GMapObjectType;
+import com.lynden.gmapsfx.javascript.object.GoogleMap;
 import com.lynden.gmapsfx.javascript.object.MVCArray;
 import com.lynden.gmapsfx.javascript.object.MapShape;
 import netscape.javascript.JSObject;
@@ -27,6 +30,9 @@ import netscape.javascript.JSObject;
  */
 public class Polyline extends MapShape {
     
+    private GoogleMap map;
+    private ZoomDependentPath simplifiedPath;
+
     public Polyline() {
         super(GMapObjectType.POLYLINE);
     }
@@ -40,7 +46,60 @@ public class Polyline extends MapShape {
     }
     
     public void setPath(MVCArray path) {
+        clearSimplifiedPath();
         invokeJavascript("setPath", path);
     }
+
+    public void setPath(CoordinateBuffer path) {
+        setPath(path.toMVCArray());
+    }
+
+    /**
+     * Sets the path from a path in the encoded polyline format, which is
+     * decoded by the browser in a single call.
+     *
+     * @param encoded The encoded path.
+     */
+    public void setEncodedPath(String encoded) {
+        setPath(MVCArray.fromEncodedPath(encoded));
+    }
     
+    /**
+     * Sets the path to a SimplifiedPath, which is then kept at the version
+     * for the zoom level of the map the Polyline is on, so that only the
+     * vertices which make a visible difference are sent to the map. The path
+     * is first set when the Polyline is added to a map.
+     *
+     * @param path The simplified path.
+     */
+    public void setPath(SimplifiedPath path) {
+        clearSimplifiedPath();
+        simplifiedPath = new ZoomDependentPath(path, (level) -> invokeJavascript("setPath", level.toMVCArray()));
+        simplifiedPath.setMap(map);
+    }
+
+    /**
+     * @return The SimplifiedPath set on this Polyline, or null if its path was
+     * set directly.
+     */
+    public SimplifiedPath getSimplifiedPath() {
+        return simplifiedPath == null ? null : simplifiedPath.getPath();
+    }
+
+    @Override
+    protected void setMap(GoogleMap map) {
+        this.map = map;
+        super.setMap(map);
+        if (simplifiedPath != null) {
+            simplifiedPath.setMap(map);
+        }
+    }
+
+    private void clearSimplifiedPath() {
+        if (simplifiedPath != null) {
+            simplifiedPath.setMap(null);
+            simplifiedPath = null;
+        }
+    }
+
 }
@@ -16,6 +16,7 @@
 
 package com.lynden.gmapsfx.shapes;
 
+import com.lynden.gmapsfx.javascript.object.CoordinateBuffer;
 import com.lynden.gmapsfx.javascript.object.MVCArray;
 
 /**
@@ -37,6 +38,29 @@ public class PolylineOptions extends MapShapeOptions<PolylineOptions> {
         return this;
     }
 
+    /**
+     * Sets the path from the supplied coordinates, which are sent to the
+     * JavaScript runtime in a single call.
+     *
+     * @param coordinates The vertices of the path.
+     * @return These options.
+     */
+    public PolylineOptions path(CoordinateBuffer coordinates) {
+        return path(coordinates.toMVCArray());
+    }
+
+    /**
+     * Sets the path from a path in the encoded polyline format, which is
+     * decoded by the browser in a single call.
+     *
+     * @param encoded The encoded path.
+     * @return These options.
+     * @see com.lynden.gmapsfx.geometry.PolylineEncoding
+     */
+    public PolylineOptions encodedPath(String encoded) {
+        return path(MVCArray.fromEncodedPath(encoded));
+    }
+
     @Override
     protected PolylineOptions getMe() {
         return this;
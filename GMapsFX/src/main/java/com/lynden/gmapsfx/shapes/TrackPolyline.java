@@ -0,0 +1,180 @@
+/*
+ * Copyright 2026 Lynden, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lynden.gmapsfx.shapes;
+
+import com.lynden.gmapsfx.MapUpdateQueue;
+import com.lynden.gmapsfx.javascript.JavascriptUtils;
+import com.lynden.gmapsfx.javascript.object.CoordinateBuffer;
+import java.util.Arrays;
+
+/**
+ * A Polyline which grows as new positions are reported, such as the trail
+ * left behind a vehicle on a live tracking map.
+ * <p>
+ * Positions may be added from any thread. They are collected in Java and sent
+ * to the map once per frame through the update queue, as a single packed
+ * String which gmapsfx.appendPath() in GmapsFx.js adds to the end of the path.
+ * <p>
+ * A track can be limited to a maximum number of points, in which case the
+ * oldest points are dropped as new ones arrive, so a track left running for
+ * hours uses a fixed amount of memory. The points are held in a ring buffer in
+ * Java. In the browser the path is trimmed once it is an eighth over the
+ * limit, so that the cost of trimming is spread over many updates.
+ */
+public class TrackPolyline extends Polyline {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    protected final MapUpdateQueue updateQueue;
+    private final int maxPoints;
+
+    private double[] lats;
+    private double[] lngs;
+    private int head;
+    private int count;
+    private final CoordinateBuffer pending = new CoordinateBuffer();
+    private long pointCount;
+
+    /**
+     * Creates a track with no limit on the number of points.
+     *
+     * @param updateQueue The queue for the map view, see
+     * GoogleMapView.getUpdateQueue().
+     */
+    public TrackPolyline(MapUpdateQueue updateQueue) {
+        this(updateQueue, new PolylineOptions(), 0);
+    }
+
+    /**
+     * @param updateQueue The queue for the map view, see
+     * GoogleMapView.getUpdateQueue().
+     * @param opts The options for the polyline. Any path in the options is
+     * not part of the track's history.
+     * @param maxPoints The maximum number of points kept, or 0 for no limit.
+     */
+    public TrackPolyline(MapUpdateQueue updateQueue, PolylineOptions opts, int maxPoints) {
+        super(opts);
+        if (maxPoints < 0) {
+            throw new IllegalArgumentException("maxPoints must not be negative: " + maxPoints);
+        }
+        this.updateQueue = updateQueue;
+        this.maxPoints = maxPoints;
+        int capacity = maxPoints > 0 ? maxPoints : INITIAL_CAPACITY;
+        lats = new double[capacity];
+        lngs = new double[capacity];
+    }
+
+    /**
+     * Adds a position to the end of the track. This may be called from any
+     * thread, the position is sent to the map on the next frame.
+     *
+     * @param lat The latitude.
+     * @param lng The longitude.
+     */
+    public void addPoint(double lat, double lng) {
+        boolean schedule;
+        synchronized (this) {
+            pointCount++;
+            if (maxPoints > 0 && count == maxPoints) {
+                lats[head] = lat;
+                lngs[head] = lng;
+                head = (head + 1) % maxPoints;
+            } else {
+                if (count == lats.length) {
+                    lats = Arrays.copyOf(lats, lats.length * 2);
+                    lngs = Arrays.copyOf(lngs, lngs.length * 2);
+                }
+                lats[count] = lat;
+                lngs[count] = lng;
+                count++;
+            }
+            schedule = pending.isEmpty();
+            pending.add(lat, lng);
+        }
+        if (schedule) {
+            updateQueue.post(this, "track", this::flush);
+        }
+    }
+
+    /**
+     * Removes all of the points from the track, and from the map on the next
+     * frame.
+     */
+    public void clear() {
+        synchronized (this) {
+            head = 0;
+            count = 0;
+            pending.clear();
+        }
+        updateQueue.post(this, "clear", () -> runtime.queue(getVariableName() + ".setPath([])"));
+    }
+
+    /**
+     * @return The number of points currently in the track.
+     */
+    public synchronized int size() {
+        return count;
+    }
+
+    /**
+     * @return The maximum number of points kept, or 0 if there is no limit.
+     */
+    public int getMaxPoints() {
+        return maxPoints;
+    }
+
+    /**
+     * @return The total number of points added to the track, including any
+     * which have since been dropped.
+     */
+    public synchronized long getPointCount() {
+        return pointCount;
+    }
+
+    /**
+     * Gets a copy of the points currently in the track, oldest first.
+     *
+     * @return The points.
+     */
+    public synchronized CoordinateBuffer getPoints() {
+        CoordinateBuffer points = new CoordinateBuffer(count);
+        for (int i = 0; i < count; i++) {
+            int index = (head + i) % lats.length;
+            points.add(lats[index], lngs[index]);
+        }
+        return points;
+    }
+
+    /**
+     * Sends the points added since the last flush to the map. This is called
+     * by the update queue once per frame.
+     */
+    protected void flush() {
+        String packed;
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            // Points which would be trimmed straight away are not sent.
+            int first = maxPoints > 0 ? Math.max(0, pending.size() - maxPoints) : 0;
+            double[] coords = pending.toArray();
+            packed = JavascriptUtils.pack(coords, first * 2, coords.length - first * 2);
+            pending.clear();
+        }
+        runtime.queue("gmapsfx.appendPath(" + getVariableName() + ",'" + packed + "'," + maxPoints + ")");
+    }
+
+}
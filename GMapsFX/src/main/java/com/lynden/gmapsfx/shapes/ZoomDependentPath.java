@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 Lynden, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lynden.gmapsfx.shapes;
+
+import com.lynden.gmapsfx.geometry.SimplifiedPath;
+import com.lynden.gmapsfx.javascript.object.CoordinateBuffer;
+import com.lynden.gmapsfx.javascript.object.GoogleMap;
+import java.util.function.Consumer;
+import javafx.beans.value.ChangeListener;
+
+/**
+ * Keeps the path of a Polyline or Polygon set to the version of a
+ * SimplifiedPath for the zoom level of the map it is on. The path is only
+ * replaced when the zoom changes to a level with a different set of vertices.
+ */
+class ZoomDependentPath {
+
+    private final SimplifiedPath path;
+    private final Consumer<CoordinateBuffer> setter;
+    private final ChangeListener<Number> zoomListener = (obs, o, n) -> update();
+    private GoogleMap map;
+    private CoordinateBuffer current;
+
+    ZoomDependentPath(SimplifiedPath path, Consumer<CoordinateBuffer> setter) {
+        this.path = path;
+        this.setter = setter;
+    }
+
+    SimplifiedPath getPath() {
+        return path;
+    }
+
+    /**
+     * Follows the zoom of a map, or stops following it when the map is null.
+     * The last path set is left in place when the shape is removed from a map.
+     */
+    void setMap(GoogleMap map) {
+        if (this.map != null) {
+            this.map.zoomProperty().removeListener(zoomListener);
+        }
+        this.map = map;
+        if (map != null) {
+            map.zoomProperty().addListener(zoomListener);
+            update();
+        }
+    }
+
+    private void update() {
+        CoordinateBuffer level = path.getLevel(map.getZoom());
+        if (level != current) {
+            current = level;
+            setter.accept(level);
+        }
+    }
+
+}
@@ -15,12 +15,28 @@
  */
 package com.lynden.gmapsfx.util;
 
+import com.lynden.gmapsfx.javascript.object.Icon;
 import java.awt.image.BufferedImage;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.MalformedURLException;
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import javafx.embed.swing.SwingFXUtils;
@@ -28,11 +44,35 @@ import javafx.scene.image.Image;
 import javax.imageio.ImageIO;
 
 /**
+ * Creates data URIs for marker images packaged with an application.
+ * <p>
+ * Each image is encoded once and the result kept in a bounded, least
+ * recently used cache keyed by URI and type, so creating many markers with
+ * the same image does not read and encode it again. Images whose file
+ * extension matches the requested type are base64 encoded straight from the
+ * source as they are read, other images are decoded and re-encoded in the
+ * requested type. Encoded images can also be kept in a directory on disk, set
+ * with {@link #setDiskCacheDirectory(Path)}, so they survive a restart.
+ * <p>
+ * {@link #createMarkerIcon(String, String)} goes one step further and returns
+ * a shared {@link Icon}, so the data URI is sent to the map once and the
+ * markers using it hold a reference to it.
  *
  * @author Geoff Capper
  */
 public class MarkerImageFactory {
-    
+
+    private static final Logger LOG = Logger.getLogger(MarkerImageFactory.class.getName());
+
+    /** The default number of images held in memory. */
+    public static final int DEFAULT_CACHE_SIZE = 256;
+
+    private static int cacheSize = DEFAULT_CACHE_SIZE;
+    private static final Map<String, String> images = createCache();
+    private static final Map<String, Icon> icons = createCache();
+    private static Path diskCacheDirectory;
+    private static long encodeCount;
+
     /** Takes a URI for an image contained within an application jar file and 
      * converts it into a data URI for use in a MarkerOptions object.
      * <p>
@@ -47,77 +87,253 @@ public class MarkerImageFactory {
      * @return 
      */
     public static String createMarkerImage(String uri, String type) {
-        Logger.getLogger(MarkerImageFactory.class.getName()).log(Level.FINEST, "createMarkerImage using: {0}", uri);
-        
-        String dataURI = null;
-        
-        if (uri.startsWith("file:")) {
-            return createMarkerImageFromFile(uri, type);
-        }
-        
-        URL myURL = MarkerImageFactory.class.getResource(uri);
-        
-        if (myURL != null) {
-            String myURI = myURL.toExternalForm();
-            Image img = new Image(myURI);
-            
-            String imageMimeType = "image/" + type;
-            
-            try {
-                dataURI = "data:" + imageMimeType + ";base64,(" + 
-                        javax.xml.bind.DatatypeConverter.printBase64Binary(getImageBytes(SwingFXUtils.fromFXImage(img, null), type)) + ")";
-            } catch (IOException ioe) {
-                Logger.getLogger(MarkerImageFactory.class.getName()).log(Level.WARNING, "Cannot create marker image", ioe);
-                dataURI = null;
+        LOG.log(Level.FINEST, "createMarkerImage using: {0}", uri);
+        String key = type + '|' + uri;
+        synchronized (images) {
+            String dataURI = images.get(key);
+            if (dataURI != null) {
+                return dataURI;
+            }
+        }
+        String dataURI = loadMarkerImage(uri, type);
+        if (dataURI != null) {
+            synchronized (images) {
+                images.put(key, dataURI);
             }
         }
-        
         return dataURI;
-        
     }
-    
-    private static String createMarkerImageFromFile(String uri, String type) {
-        
+
+    /**
+     * Creates an Icon for an image contained within an application jar file,
+     * or a file: URI. The same Icon is returned for each call with the same
+     * URI and type while it is in the cache, so it should be created on the
+     * JavaFX Application Thread and shared between markers:
+     * <p>
+     * markerOptions.icon(MarkerImageFactory.createMarkerIcon("/path/to/my/image.png", "png"));
+     *
+     * @param uri The URI of the image.
+     * @param type The type of the image, such as "png".
+     * @return The icon, or null if the image can't be read.
+     */
+    public static Icon createMarkerIcon(String uri, String type) {
+        String key = type + '|' + uri;
+        synchronized (icons) {
+            Icon icon = icons.get(key);
+            if (icon != null) {
+                return icon;
+            }
+        }
+        String dataURI = createMarkerImage(uri, type);
+        if (dataURI == null) {
+            return null;
+        }
+        Icon icon = new Icon(dataURI);
+        synchronized (icons) {
+            icons.put(key, icon);
+        }
+        return icon;
+    }
+
+    /**
+     * Sets the number of images, and of icons, held in memory. The least
+     * recently used are dropped once there are more.
+     *
+     * @param size The number of images.
+     */
+    public static void setCacheSize(int size) {
+        cacheSize = Math.max(1, size);
+    }
+
+    public static int getCacheSize() {
+        return cacheSize;
+    }
+
+    /**
+     * Sets a directory in which encoded images are kept between runs of the
+     * application. An image is encoded again if its source has changed.
+     *
+     * @param directory The directory, which is created if needed, or null to
+     * not keep images on disk.
+     */
+    public static void setDiskCacheDirectory(Path directory) {
+        diskCacheDirectory = directory;
+    }
+
+    public static Path getDiskCacheDirectory() {
+        return diskCacheDirectory;
+    }
+
+    /**
+     * Removes all of the images and icons held in memory. Images kept on disk
+     * are not removed.
+     */
+    public static void clearCache() {
+        synchronized (images) {
+            images.clear();
+        }
+        synchronized (icons) {
+            icons.clear();
+        }
+    }
+
+    /**
+     * @return The number of images which have been encoded, rather than taken
+     * from the cache in memory or on disk.
+     */
+    public static synchronized long getEncodeCount() {
+        return encodeCount;
+    }
+
+    private static String loadMarkerImage(String uri, String type) {
+        URL url;
+        String prefix = "data:image/" + type + ";base64,";
+        String suffix = "";
+        if (uri.startsWith("file:")) {
+            try {
+                url = URI.create(uri).toURL();
+            } catch (MalformedURLException ex) {
+                LOG.log(Level.SEVERE, null, ex);
+                return null;
+            }
+        } else {
+            url = MarkerImageFactory.class.getResource(uri);
+            prefix = prefix + "(";
+            suffix = ")";
+        }
+        if (url == null) {
+            return null;
+        }
+
         try {
-            String dataURI = null;
-            
-            URL myURL = URI.create(uri).toURL();
-            
-            if (myURL != null) {
-                String myURLext = myURL.toExternalForm();
-                Image img = new Image(myURLext);
-                
-                String imageMimeType = "image/" + type;
-                
-                try {
-                    dataURI = "data:" + imageMimeType + ";base64," +
-                            javax.xml.bind.DatatypeConverter.printBase64Binary(getImageBytes(SwingFXUtils.fromFXImage(img, null), type)) + "";
-                } catch (IOException ioe) {
-                    Logger.getLogger(MarkerImageFactory.class.getName()).log(Level.WARNING, "Cannot create marker image", ioe);
-                    dataURI = null;
-                }
+            Path cached = getDiskCacheFile(url, type);
+            if (cached != null && Files.isRegularFile(cached)) {
+                return new String(Files.readAllBytes(cached), StandardCharsets.US_ASCII);
+            }
+
+            ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            bos.write(prefix.getBytes(StandardCharsets.US_ASCII));
+            try (OutputStream base64 = Base64.getEncoder().wrap(bos)) {
+                writeImage(url, type, base64);
+            }
+            bos.write(suffix.getBytes(StandardCharsets.US_ASCII));
+            synchronized (MarkerImageFactory.class) {
+                encodeCount++;
+            }
+            String dataURI = new String(bos.toByteArray(), StandardCharsets.US_ASCII);
+
+            if (cached != null) {
+                storeDiskCacheFile(cached, dataURI);
             }
-            
             return dataURI;
-            
-        } catch (MalformedURLException ex) {
-            Logger.getLogger(MarkerImageFactory.class.getName()).log(Level.SEVERE, null, ex);
-        }
-        
-        return null;
-        
-    }
-    
-    
-    private static byte[] getImageBytes(BufferedImage image, String type) throws IOException {
-        byte[] imageBytes;
-        try (ByteArrayOutputStream bos = new ByteArrayOutputStream()) {
-            ImageIO.write(image, type, bos);
-            imageBytes = bos.toByteArray();
-        }
-        return imageBytes;
-		
-	}
-    
-    
+        } catch (IOException ioe) {
+            LOG.log(Level.WARNING, "Cannot create marker image", ioe);
+            return null;
+        }
+    }
+
+    /**
+     * Encodes an image as a data URI of the specified type, streaming the
+     * encoded image through base64.
+     */
+    static String encodeDataURI(BufferedImage image, String type) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        bos.write(("data:image/" + type + ";base64,").getBytes(StandardCharsets.US_ASCII));
+        try (OutputStream base64 = Base64.getEncoder().wrap(bos)) {
+            if (!ImageIO.write(image, type, base64)) {
+                throw new IOException("No image writer for type " + type);
+            }
+        }
+        return new String(bos.toByteArray(), StandardCharsets.US_ASCII);
+    }
+
+    private static void writeImage(URL url, String type, OutputStream out) throws IOException {
+        if (isSameType(url, type)) {
+            try (InputStream in = url.openStream()) {
+                byte[] buffer = new byte[8192];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    out.write(buffer, 0, read);
+                }
+            }
+        } else {
+            Image img = new Image(url.toExternalForm());
+            if (!ImageIO.write(SwingFXUtils.fromFXImage(img, null), type, out)) {
+                throw new IOException("No image writer for type " + type);
+            }
+        }
+    }
+
+    private static boolean isSameType(URL url, String type) {
+        String path = url.getPath().toLowerCase(Locale.ROOT);
+        String t = type.toLowerCase(Locale.ROOT);
+        if (t.equals("jpg") || t.equals("jpeg")) {
+            return path.endsWith(".jpg") || path.endsWith(".jpeg");
+        }
+        return path.endsWith("." + t);
+    }
+
+    /**
+     * Gets the file an image is kept in on disk, named by a hash of its URL,
+     * type, size and modification time, so a changed image gets a new file.
+     */
+    private static Path getDiskCacheFile(URL url, String type) throws IOException {
+        Path directory = diskCacheDirectory;
+        if (directory == null) {
+            return null;
+        }
+        String version = url.toExternalForm() + '|' + type + '|' + getVersion(url);
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(version.getBytes(StandardCharsets.UTF_8));
+            StringBuilder name = new StringBuilder(digest.length * 2 + 4);
+            for (byte b : digest) {
+                name.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+            }
+            return directory.resolve(name.append(".txt").toString());
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IOException(ex);
+        }
+    }
+
+    /**
+     * Gets the size and modification time of an image. Files are read with
+     * {@link Files}, other URLs through a connection that is closed again.
+     */
+    private static String getVersion(URL url) throws IOException {
+        if ("file".equalsIgnoreCase(url.getProtocol())) {
+            try {
+                Path file = Paths.get(url.toURI());
+                return Files.size(file) + "|" + Files.getLastModifiedTime(file).toMillis();
+            } catch (URISyntaxException | IllegalArgumentException ex) {
+                throw new IOException("Cannot read image " + url, ex);
+            }
+        }
+        URLConnection connection = url.openConnection();
+        try {
+            return connection.getContentLengthLong() + "|" + connection.getLastModified();
+        } finally {
+            connection.getInputStream().close();
+        }
+    }
+
+    private static void storeDiskCacheFile(Path file, String dataURI) {
+        try {
+            Files.createDirectories(file.getParent());
+            Path temp = Files.createTempFile(file.getParent(), "marker", ".tmp");
+            Files.write(temp, dataURI.getBytes(StandardCharsets.US_ASCII));
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ex) {
+            LOG.log(Level.WARNING, "Cannot store marker image in " + file.getParent(), ex);
+        }
+    }
+
+    private static <V> Map<String, V> createCache() {
+        return new LinkedHashMap<String, V>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
 }
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2026 Lynden, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lynden.gmapsfx.util;
+
+import com.lynden.gmapsfx.javascript.object.Icon;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.imageio.ImageIO;
+
+/**
+ * Packs many marker images into a single sprite sheet, so that the browser
+ * loads and decodes one image rather than one per icon.
+ * <p>
+ * Images are added by name, then {@link #build()} packs them into rows and
+ * encodes the sheet as a PNG data URI. This may be done on a background
+ * thread. {@link #getIcon(String)} then gives an {@link Icon} for each image,
+ * with the origin and size of the image within the sheet. The Icons share the
+ * sheet's URL, which is sent to the map once, and each Icon is created once,
+ * on the JavaFX Application Thread, and shared by all of the markers using it.
+ * <p>
+ * Usage:
+ * <p>
+ * MarkerSpriteAtlas atlas = new MarkerSpriteAtlas().add("truck", "/icons/truck.png").add("van", "/icons/van.png").build();
+ * <p>
+ * markerOptions.icon(atlas.getIcon("truck"));
+ */
+public class MarkerSpriteAtlas {
+
+    // Space left around each image so neighbours don't bleed in when scaled.
+    private static final int PADDING = 1;
+
+    private final Map<String, BufferedImage> images = new LinkedHashMap<>();
+    private final Map<String, Rectangle> bounds = new HashMap<>();
+    private final Map<String, Icon> icons = new HashMap<>();
+    private BufferedImage sheet;
+    private String dataURI;
+    private Icon sheetIcon;
+
+    /**
+     * Adds an image to the atlas.
+     *
+     * @param name The name the image is looked up by.
+     * @param image The image.
+     * @return This atlas.
+     */
+    public MarkerSpriteAtlas add(String name, BufferedImage image) {
+        checkNotBuilt();
+        images.put(name, image);
+        return this;
+    }
+
+    /**
+     * Adds an image contained within an application jar file, or a file: URI,
+     * to the atlas.
+     *
+     * @param name The name the image is looked up by.
+     * @param uri The URI of the image, as for
+     * MarkerImageFactory.createMarkerImage().
+     * @return This atlas.
+     * @throws IOException if the image can't be read.
+     */
+    public MarkerSpriteAtlas add(String name, String uri) throws IOException {
+        URL url = uri.startsWith("file:") ? URI.create(uri).toURL() : MarkerSpriteAtlas.class.getResource(uri);
+        if (url == null) {
+            throw new IOException("Image not found: " + uri);
+        }
+        BufferedImage image = ImageIO.read(url);
+        if (image == null) {
+            throw new IOException("Unsupported image: " + uri);
+        }
+        return add(name, image);
+    }
+
+    /**
+     * Packs the images into the sheet and encodes it. No more images can be
+     * added once the atlas is built.
+     *
+     * @return This atlas.
+     * @throws IOException if the sheet can't be encoded.
+     */
+    public MarkerSpriteAtlas build() throws IOException {
+        checkNotBuilt();
+        List<String> names = new ArrayList<>(images.keySet());
+        // Tallest first, so each row wastes little height.
+        Collections.sort(names, (a, b) -> Integer.compare(images.get(b).getHeight(), images.get(a).getHeight()));
+
+        long area = 0;
+        int widest = 1;
+        for (BufferedImage image : images.values()) {
+            int w = image.getWidth() + PADDING * 2;
+            area += (long) w * (image.getHeight() + PADDING * 2);
+            widest = Math.max(widest, w);
+        }
+        int width = Math.max(widest, (int) Math.ceil(Math.sqrt(area)));
+
+        int x = 0;
+        int y = 0;
+        int rowHeight = 0;
+        for (String name : names) {
+            BufferedImage image = images.get(name);
+            int w = image.getWidth() + PADDING * 2;
+            int h = image.getHeight() + PADDING * 2;
+            if (x + w > width) {
+                x = 0;
+                y += rowHeight;
+                rowHeight = 0;
+            }
+            bounds.put(name, new Rectangle(x + PADDING, y + PADDING, image.getWidth(), image.getHeight()));
+            x += w;
+            rowHeight = Math.max(rowHeight, h);
+        }
+        int height = Math.max(1, y + rowHeight);
+
+        sheet = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = sheet.createGraphics();
+        try {
+            for (String name : names) {
+                Rectangle r = bounds.get(name);
+                g.drawImage(images.get(name), r.x, r.y, null);
+            }
+        } finally {
+            g.dispose();
+        }
+        dataURI = MarkerImageFactory.encodeDataURI(sheet, "png");
+        images.clear();
+        return this;
+    }
+
+    /**
+     * Gets the Icon for an image in the atlas. The same Icon is returned each
+     * time for a name. This must be called on the JavaFX Application Thread.
+     *
+     * @param name The name of the image.
+     * @return The icon, or null if there is no image with the name.
+     */
+    public Icon getIcon(String name) {
+        checkBuilt();
+        Icon icon = icons.get(name);
+        if (icon == null) {
+            Rectangle r = bounds.get(name);
+            if (r == null) {
+                return null;
+            }
+            if (sheetIcon == null) {
+                sheetIcon = new Icon(dataURI);
+            }
+            icon = Icon.sprite(sheetIcon, r.x, r.y, r.width, r.height);
+            icons.put(name, icon);
+        }
+        return icon;
+    }
+
+    /**
+     * Gets the position and size of an image within the sheet.
+     *
+     * @param name The name of the image.
+     * @return The bounds, or null if there is no image with the name.
+     */
+    public Rectangle getBounds(String name) {
+        checkBuilt();
+        Rectangle r = bounds.get(name);
+        return r == null ? null : new Rectangle(r);
+    }
+
+    public Set<String> getNames() {
+        return Collections.unmodifiableSet(bounds.isEmpty() ? images.keySet() : bounds.keySet());
+    }
+
+    /**
+     * @return The packed sheet.
+     */
+    public BufferedImage getSheet() {
+        checkBuilt();
+        return sheet;
+    }
+
+    /**
+     * @return The sheet as a PNG data URI.
+     */
+    public String getDataURI() {
+        checkBuilt();
+        return dataURI;
+    }
+
+    public boolean isBuilt() {
+        return dataURI != null;
+    }
+
+    private void checkBuilt() {
+        if (dataURI == null) {
+            throw new IllegalStateException("The atlas has not been built");
+        }
+    }
+
+    private void checkNotBuilt() {
+        if (dataURI != null) {
+            throw new IllegalStateException("The atlas has already been built");
+        }
+    }
+
+}
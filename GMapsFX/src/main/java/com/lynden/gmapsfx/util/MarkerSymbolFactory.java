@@ -0,0 +1,457 @@
+/*
+ * Copyright 2026 Lynden, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lynden.gmapsfx.util;
+
+import com.lynden.gmapsfx.javascript.object.GMapPoint;
+import com.lynden.gmapsfx.javascript.object.Icon;
+import com.lynden.gmapsfx.javascript.object.Size;
+import com.lynden.gmapsfx.javascript.object.Symbol;
+import java.awt.AlphaComposite;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Path2D;
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Creates parameterized marker symbols, such as pins colored by status, so
+ * that an application doesn't need to ship an image for every variant.
+ * <p>
+ * A symbol is described by a {@link Style}: its shape, fill and stroke,
+ * scale, rotation and an optional label glyph. A style can be turned into a
+ * vector {@link Symbol}, drawn by the map from the SVG path of the shape, or
+ * into an {@link Icon} rasterized in Java, which is needed to draw a glyph
+ * inside the shape. Either way, each distinct style is created once and the
+ * same Javascript object is shared by every marker using it, so a marker
+ * carries a reference rather than an image. The symbols and icons are held in
+ * bounded, least recently used caches, and rotations are rounded to
+ * {@link #ROTATION_STEP} degrees, so a stream of headings reuses at most 360
+ * variants of a style rather than creating one per angle.
+ * <p>
+ * Symbols and icons must be created on the JavaFX Application Thread.
+ */
+public class MarkerSymbolFactory {
+
+    /** The default number of symbols, and of icons, held in memory. */
+    public static final int DEFAULT_CACHE_SIZE = 512;
+
+    /** The step, in degrees, to which rotations are rounded. */
+    public static final double ROTATION_STEP = 1;
+
+    /**
+     * The shapes available for symbols, as SVG paths with the anchor at 0,0.
+     * The paths only use absolute M, L, C and Z commands so they can also be
+     * drawn in Java.
+     */
+    public enum SymbolShape {
+
+        /** A map pin, 40 units tall, anchored at its point. */
+        PIN("M 0,0 C -2,-20 -10,-22 -10,-30 C -10,-36 -5,-40 0,-40 C 5,-40 10,-36 10,-30 C 10,-22 2,-20 0,0 Z", 0, -30, 8),
+        /** A circle of radius 10, anchored at its center. */
+        CIRCLE("M -10,0 C -10,-5.5 -5.5,-10 0,-10 C 5.5,-10 10,-5.5 10,0 C 10,5.5 5.5,10 0,10 C -5.5,10 -10,5.5 -10,0 Z", 0, 0, 8),
+        /** An arrow pointing up, anchored at its center, for headings. */
+        ARROW("M 0,-12 L 8,8 L 0,3 L -8,8 Z", 0, 2, 4);
+
+        private final String path;
+        private final double labelX;
+        private final double labelY;
+        private final double labelRadius;
+
+        private SymbolShape(String path, double labelX, double labelY, double labelRadius) {
+            this.path = path;
+            this.labelX = labelX;
+            this.labelY = labelY;
+            this.labelRadius = labelRadius;
+        }
+
+        public String getPath() {
+            return path;
+        }
+    }
+
+    /**
+     * The appearance of a symbol. Styles are immutable, each method returning
+     * a modified copy, and equal styles give the same symbol.
+     */
+    public static final class Style {
+
+        private final SymbolShape shape;
+        private final String fillColor;
+        private final double fillOpacity;
+        private final String strokeColor;
+        private final double strokeWeight;
+        private final double scale;
+        private final double rotation;
+        private final String glyph;
+        private final String glyphColor;
+
+        /**
+         * Creates a style with a white outline and a white glyph.
+         *
+         * @param shape The shape.
+         * @param fillColor The fill color, as #rgb or #rrggbb.
+         */
+        public Style(SymbolShape shape, String fillColor) {
+            this(shape, fillColor, 1, "#ffffff", 1, 1, 0, null, "#ffffff");
+        }
+
+        private Style(SymbolShape shape, String fillColor, double fillOpacity, String strokeColor,
+                double strokeWeight, double scale, double rotation, String glyph, String glyphColor) {
+            this.shape = Objects.requireNonNull(shape);
+            this.fillColor = Objects.requireNonNull(fillColor);
+            this.fillOpacity = fillOpacity;
+            this.strokeColor = Objects.requireNonNull(strokeColor);
+            this.strokeWeight = strokeWeight;
+            this.scale = scale;
+            this.rotation = quantizeRotation(rotation);
+            this.glyph = glyph;
+            this.glyphColor = Objects.requireNonNull(glyphColor);
+        }
+
+        public static Style pin(String fillColor) {
+            return new Style(SymbolShape.PIN, fillColor);
+        }
+
+        public static Style circle(String fillColor) {
+            return new Style(SymbolShape.CIRCLE, fillColor);
+        }
+
+        public static Style arrow(String fillColor) {
+            return new Style(SymbolShape.ARROW, fillColor);
+        }
+
+        public Style fill(String color, double opacity) {
+            return new Style(shape, color, opacity, strokeColor, strokeWeight, scale, rotation, glyph, glyphColor);
+        }
+
+        public Style stroke(String color, double weight) {
+            return new Style(shape, fillColor, fillOpacity, color, weight, scale, rotation, glyph, glyphColor);
+        }
+
+        public Style scale(double scale) {
+            return new Style(shape, fillColor, fillOpacity, strokeColor, strokeWeight, scale, rotation, glyph, glyphColor);
+        }
+
+        /**
+         * @param rotation The rotation, in degrees clockwise. It is rounded
+         * to the nearest {@link #ROTATION_STEP} degrees.
+         * @return The new style.
+         */
+        public Style rotation(double rotation) {
+            return new Style(shape, fillColor, fillOpacity, strokeColor, strokeWeight, scale, rotation, glyph, glyphColor);
+        }
+
+        /**
+         * Sets a glyph, usually a single character, drawn in the middle of
+         * the shape. Glyphs are only drawn in rasterized icons.
+         *
+         * @param glyph The glyph, or null for none.
+         * @param color The color of the glyph, as #rgb or #rrggbb.
+         * @return The new style.
+         */
+        public Style glyph(String glyph, String color) {
+            return new Style(shape, fillColor, fillOpacity, strokeColor, strokeWeight, scale, rotation, glyph, color);
+        }
+
+        public SymbolShape getShape() {
+            return shape;
+        }
+
+        public String getFillColor() {
+            return fillColor;
+        }
+
+        public String getStrokeColor() {
+            return strokeColor;
+        }
+
+        public String getGlyph() {
+            return glyph;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Style)) {
+                return false;
+            }
+            Style other = (Style) obj;
+            return shape == other.shape
+                    && fillColor.equalsIgnoreCase(other.fillColor)
+                    && Double.compare(fillOpacity, other.fillOpacity) == 0
+                    && strokeColor.equalsIgnoreCase(other.strokeColor)
+                    && Double.compare(strokeWeight, other.strokeWeight) == 0
+                    && Double.compare(scale, other.scale) == 0
+                    && Double.compare(rotation, other.rotation) == 0
+                    && Objects.equals(glyph, other.glyph)
+                    && glyphColor.equalsIgnoreCase(other.glyphColor);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(shape, fillColor.toLowerCase(Locale.ROOT), fillOpacity, strokeColor.toLowerCase(Locale.ROOT),
+                    strokeWeight, scale, rotation, glyph, glyphColor.toLowerCase(Locale.ROOT));
+        }
+
+        @Override
+        public String toString() {
+            return "Style[" + shape + ", " + fillColor + ", " + strokeColor + ", scale " + scale
+                    + ", rotation " + rotation + (glyph == null ? "" : ", '" + glyph + "'") + "]";
+        }
+    }
+
+    // Icons are drawn at twice their size so they stay sharp on HiDPI screens.
+    private static final int PIXEL_RATIO = 2;
+
+    private static int cacheSize = DEFAULT_CACHE_SIZE;
+    private static final Map<Style, Symbol> symbols = createCache();
+    private static final Map<Style, Icon> icons = createCache();
+
+    /**
+     * Gets the vector symbol for a style. Glyphs are not drawn, use a marker
+     * label for text on a vector symbol.
+     *
+     * @param style The style.
+     * @return The symbol, the same instance for equal styles.
+     */
+    public static synchronized Symbol getSymbol(Style style) {
+        Symbol symbol = symbols.get(style);
+        if (symbol == null) {
+            SymbolShape shape = style.shape;
+            symbol = new Symbol(shape.path)
+                    .fillColor(style.fillColor)
+                    .fillOpacity(style.fillOpacity)
+                    .strokeColor(style.strokeColor)
+                    .strokeWeight(style.strokeWeight)
+                    .scale(style.scale)
+                    .rotation(style.rotation)
+                    .labelOrigin(new GMapPoint(shape.labelX, shape.labelY));
+            symbols.put(style, symbol);
+        }
+        return symbol;
+    }
+
+    /**
+     * Gets a rasterized icon for a style, including its glyph.
+     *
+     * @param style The style.
+     * @return The icon, the same instance for equal styles.
+     */
+    public static synchronized Icon getIcon(Style style) {
+        Icon icon = icons.get(style);
+        if (icon == null) {
+            RenderedSymbol rendered = render(style);
+            String dataURI;
+            try {
+                dataURI = MarkerImageFactory.encodeDataURI(rendered.image, "png");
+            } catch (IOException ex) {
+                throw new IllegalStateException("Cannot encode symbol " + style, ex);
+            }
+            int width = rendered.image.getWidth() / PIXEL_RATIO;
+            int height = rendered.image.getHeight() / PIXEL_RATIO;
+            icon = new Icon(dataURI)
+                    .size(new Size(width, height))
+                    .scaledSize(new Size(width, height))
+                    .anchor(new GMapPoint(rendered.anchorX / PIXEL_RATIO, rendered.anchorY / PIXEL_RATIO));
+            icons.put(style, icon);
+        }
+        return icon;
+    }
+
+    /**
+     * Draws a style into an image, at twice its display size. This does not
+     * need the JavaFX Application Thread.
+     *
+     * @param style The style.
+     * @return The image.
+     */
+    public static BufferedImage renderImage(Style style) {
+        return render(style).image;
+    }
+
+    /**
+     * Sets the number of symbols, and of icons, held in memory. The least
+     * recently used are dropped once there are more, and a new one is created
+     * if the style is used again.
+     *
+     * @param size The number of symbols.
+     */
+    public static synchronized void setCacheSize(int size) {
+        cacheSize = Math.max(1, size);
+    }
+
+    public static synchronized int getCacheSize() {
+        return cacheSize;
+    }
+
+    /**
+     * Removes all of the symbols and icons held by the factory.
+     */
+    public static synchronized void clearCache() {
+        symbols.clear();
+        icons.clear();
+    }
+
+    private static double quantizeRotation(double rotation) {
+        double rounded = Math.round(rotation / ROTATION_STEP) * ROTATION_STEP;
+        rounded %= 360;
+        return rounded < 0 ? rounded + 360 : rounded + 0.0;
+    }
+
+    private static <V> Map<Style, V> createCache() {
+        return new LinkedHashMap<Style, V>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Style, V> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    private static final class RenderedSymbol {
+
+        private final BufferedImage image;
+        private final double anchorX;
+        private final double anchorY;
+
+        private RenderedSymbol(BufferedImage image, double anchorX, double anchorY) {
+            this.image = image;
+            this.anchorX = anchorX;
+            this.anchorY = anchorY;
+        }
+    }
+
+    private static RenderedSymbol render(Style style) {
+        double scale = style.scale * PIXEL_RATIO;
+        AffineTransform transform = new AffineTransform();
+        transform.rotate(Math.toRadians(style.rotation));
+        transform.scale(scale, scale);
+        Shape shape = transform.createTransformedShape(parsePath(style.shape.path));
+
+        double stroke = style.strokeWeight * PIXEL_RATIO;
+        Rectangle2D bounds = shape.getBounds2D();
+        double margin = stroke / 2 + 1;
+        int width = (int) Math.ceil(bounds.getWidth() + margin * 2);
+        int height = (int) Math.ceil(bounds.getHeight() + margin * 2);
+        // Keep the size even so it halves exactly.
+        width += width % 2;
+        height += height % 2;
+        double offsetX = margin - bounds.getX();
+        double offsetY = margin - bounds.getY();
+
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            g.translate(offsetX, offsetY);
+            g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, (float) style.fillOpacity));
+            g.setColor(parseColor(style.fillColor));
+            g.fill(shape);
+            g.setComposite(AlphaComposite.SrcOver);
+            if (style.strokeWeight > 0) {
+                g.setColor(parseColor(style.strokeColor));
+                g.setStroke(new BasicStroke((float) stroke, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+                g.draw(shape);
+            }
+            if (style.glyph != null && !style.glyph.isEmpty()) {
+                Point2D center = transform.transform(new Point2D.Double(style.shape.labelX, style.shape.labelY), null);
+                float size = (float) (style.shape.labelRadius * 1.5 * scale);
+                g.setFont(new Font(Font.SANS_SERIF, Font.BOLD, Math.max(1, Math.round(size))));
+                FontMetrics metrics = g.getFontMetrics();
+                g.setColor(parseColor(style.glyphColor));
+                g.drawString(style.glyph,
+                        (float) (center.getX() - metrics.stringWidth(style.glyph) / 2.0),
+                        (float) (center.getY() + (metrics.getAscent() - metrics.getDescent()) / 2.0));
+            }
+        } finally {
+            g.dispose();
+        }
+        return new RenderedSymbol(image, offsetX, offsetY);
+    }
+
+    /**
+     * Parses an SVG path made of absolute M, L, C and Z commands.
+     */
+    static Path2D parsePath(String path) {
+        Path2D.Double result = new Path2D.Double();
+        String[] tokens = path.trim().split("[\\s,]+|(?=[A-Za-z])|(?<=[A-Za-z])");
+        char command = 'M';
+        double[] args = new double[6];
+        int count = 0;
+        for (String token : tokens) {
+            if (token.isEmpty()) {
+                continue;
+            }
+            char c = token.charAt(0);
+            if (Character.isLetter(c)) {
+                command = c;
+                count = 0;
+                if (c == 'Z' || c == 'z') {
+                    result.closePath();
+                }
+                continue;
+            }
+            args[count++] = Double.parseDouble(token);
+            switch (command) {
+                case 'M':
+                    if (count == 2) {
+                        result.moveTo(args[0], args[1]);
+                        command = 'L';
+                        count = 0;
+                    }
+                    break;
+                case 'L':
+                    if (count == 2) {
+                        result.lineTo(args[0], args[1]);
+                        count = 0;
+                    }
+                    break;
+                case 'C':
+                    if (count == 6) {
+                        result.curveTo(args[0], args[1], args[2], args[3], args[4], args[5]);
+                        count = 0;
+                    }
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unsupported path command '" + command + "' in " + path);
+            }
+        }
+        return result;
+    }
+
+    private static Color parseColor(String color) {
+        String c = color.trim();
+        if (c.length() == 4 && c.charAt(0) == '#') {
+            c = "#" + c.charAt(1) + c.charAt(1) + c.charAt(2) + c.charAt(2) + c.charAt(3) + c.charAt(3);
+        }
+        return Color.decode(c);
+    }
+
+}
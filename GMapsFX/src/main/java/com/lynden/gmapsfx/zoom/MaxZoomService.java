@@ -9,26 +9,75 @@ package com.lynden.gmapsfx.zoom;
 import com.lynden.gmapsfx.javascript.JavascriptObject;
 import com.lynden.gmapsfx.javascript.object.GMapObjectType;
 import com.lynden.gmapsfx.javascript.object.LatLong;
+import com.lynden.gmapsfx.service.PendingRequests;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import netscape.javascript.JSObject;
 
 /**
+ * Makes requests to the Google Maps Max Zoom Service.
+ * <p>
+ * Each request is given its own correlation id, so any number of requests
+ * may be in flight on one instance at once. The async method returns a
+ * future which is completed on the JavaFX Application Thread with the result,
+ * whose status should be checked, or exceptionally with a TimeoutException
+ * if there is no response within the timeout. Cancelling the future discards
+ * its response.
  *
  * @author Geoff Capper
  */
 public class MaxZoomService extends JavascriptObject {
     
-    private MaxZoomServiceCallback callback;
+    private final PendingRequests<MaxZoomResult> requests = new PendingRequests<>();
+    private boolean registered;
     
     public MaxZoomService() {
         super(GMapObjectType.MAX_ZOOM_SERVICE);
     }
     
     public void getMaxZoomAtLatLng(LatLong loc, MaxZoomServiceCallback callback) {
-        
-        this.callback = callback;
-        
-        JSObject doc = (JSObject) getJSObject().eval("document");
-        doc.setMember(getVariableName(), this);
+        CompletableFuture<MaxZoomResult> future = new CompletableFuture<>();
+        future.thenAccept(callback::maxZoomReceived);
+        send(loc, future, 0);
+    }
+    
+    /**
+     * Requests the maximum zoom level of the imagery at a location. This must
+     * be called on the JavaFX Application Thread.
+     *
+     * @param loc The location.
+     * @return A future completed with the result.
+     */
+    public CompletableFuture<MaxZoomResult> getMaxZoomAtLatLngAsync(LatLong loc) {
+        CompletableFuture<MaxZoomResult> future = new CompletableFuture<>();
+        send(loc, future, requests.getTimeoutMillis());
+        return future;
+    }
+    
+    /**
+     * Sets the time to wait for the response to an async request.
+     *
+     * @param timeout The timeout, or 0 to wait indefinitely.
+     * @param unit The unit of the timeout.
+     */
+    public void setTimeout(long timeout, TimeUnit unit) {
+        requests.setTimeout(timeout, unit);
+    }
+    
+    /**
+     * @return The number of requests waiting for a response.
+     */
+    public int getPendingRequestCount() {
+        return requests.size();
+    }
+    
+    private void send(LatLong loc, CompletableFuture<MaxZoomResult> future, long timeoutMillis) {
+        if (!registered) {
+            JSObject doc = (JSObject) getJSObject().eval("document");
+            doc.setMember(getVariableName(), this);
+            registered = true;
+        }
+        int id = requests.add(future, timeoutMillis);
         
         StringBuilder r = new StringBuilder(getVariableName())
               .append(".")
@@ -37,23 +86,32 @@ public class MaxZoomService extends JavascriptObject {
               .append(", ")
               .append("function(result) {document.")
               .append(getVariableName())
-              .append(".processResponse(result);});");
-        
-//        System.out.println("MaxZoomService direct call: " + r.toString());
-        
-        getJSObject().eval(r.toString());
+              .append(".processResponse(")
+              .append(id)
+              .append(", result);});");
         
+        try {
+            getJSObject().eval(r.toString());
+        } catch (RuntimeException ex) {
+            future.completeExceptionally(ex);
+        }
     }
     
-    /** Processess the Javascript response and generates the required objects 
-     * that are then passed back to the original callback.
+    /** Processess the Javascript response to a request and completes its 
+     * future with the required objects.
      * 
+     * @param id The correlation id of the request.
      * @param result
      */
-    public void processResponse(Object result) {
+    public void processResponse(int id, Object result) {
+        CompletableFuture<MaxZoomResult> future = requests.remove(id);
+        if (future == null) {
+            return;
+        }
         if (result instanceof JSObject) {
-            MaxZoomResult mzr = new MaxZoomResult((JSObject) result);
-            callback.maxZoomReceived(mzr);
+            future.complete(new MaxZoomResult((JSObject) result));
+        } else {
+            future.complete(new MaxZoomResult(MaxZoomStatus.ERROR));
         }
     }
     
@@ -16,3 +16,369 @@
 
 
 
+/*
+ * Helper functions used by GMapsFX to move bulk data between Java and the
+ * Google Maps API in as few calls as possible. This script is injected by
+ * GoogleMapView once the page has loaded.
+ */
+var gmapsfx = gmapsfx || {};
+
+/*
+ * Decodes a packed string of comma separated numbers, as created by
+ * JavascriptUtils.pack(), into an array of numbers.
+ */
+gmapsfx.unpack = function (packed) {
+    if (!packed) {
+        return [];
+    }
+    var parts = packed.split(',');
+    var values = new Array(parts.length);
+    for (var i = 0; i < parts.length; i++) {
+        values[i] = +parts[i];
+    }
+    return values;
+};
+
+/*
+ * Converts a packed string of interleaved lat,lng values into an array of
+ * google.maps.LatLng objects.
+ */
+gmapsfx.toLatLngs = function (packed) {
+    var coords = gmapsfx.unpack(packed);
+    var n = coords.length >> 1;
+    var path = new Array(n);
+    for (var i = 0; i < n; i++) {
+        path[i] = new google.maps.LatLng(coords[2 * i], coords[2 * i + 1]);
+    }
+    return path;
+};
+
+/*
+ * Creates one marker for each lat,lng pair in the packed string. Titles are
+ * optional and, if supplied, are matched to the markers by index.
+ */
+gmapsfx.createMarkers = function (packed, titles) {
+    var positions = gmapsfx.toLatLngs(packed);
+    var markers = new Array(positions.length);
+    for (var i = 0; i < positions.length; i++) {
+        var opts = {position: positions[i]};
+        if (titles && titles[i] !== null && titles[i] !== undefined) {
+            opts.title = titles[i];
+        }
+        markers[i] = new google.maps.Marker(opts);
+    }
+    return markers;
+};
+
+/*
+ * Attaches, or with a null map detaches, all of the supplied markers.
+ */
+gmapsfx.setMap = function (markers, map) {
+    for (var i = 0; i < markers.length; i++) {
+        markers[i].setMap(map);
+    }
+};
+
+/*
+ * Converts a packed string of interleaved lat,lng values into a
+ * google.maps.MVCArray suitable for use as a Polyline or Polygon path.
+ */
+gmapsfx.toPath = function (packed) {
+    return new google.maps.MVCArray(gmapsfx.toLatLngs(packed));
+};
+
+/*
+ * Decodes a path in Google's encoded polyline format into an MVCArray of
+ * LatLngs, without needing the geometry library.
+ */
+gmapsfx.decodePath = function (encoded) {
+    var path = [];
+    var index = 0, lat = 0, lng = 0, len = encoded.length;
+    while (index < len) {
+        var b, shift = 0, result = 0;
+        do {
+            b = encoded.charCodeAt(index++) - 63;
+            result |= (b & 0x1f) << shift;
+            shift += 5;
+        } while (b >= 0x20);
+        lat += (result & 1) ? ~(result >> 1) : (result >> 1);
+        shift = 0;
+        result = 0;
+        do {
+            b = encoded.charCodeAt(index++) - 63;
+            result |= (b & 0x1f) << shift;
+            shift += 5;
+        } while (b >= 0x20);
+        lng += (result & 1) ? ~(result >> 1) : (result >> 1);
+        path.push(new google.maps.LatLng(lat * 1e-5, lng * 1e-5));
+    }
+    return new google.maps.MVCArray(path);
+};
+
+/*
+ * Decodes an array of encoded paths into an MVCArray of MVCArrays, as used for
+ * the paths of a Polygon.
+ */
+gmapsfx.decodePaths = function (encodedPaths) {
+    var paths = new Array(encodedPaths.length);
+    for (var i = 0; i < encodedPaths.length; i++) {
+        paths[i] = gmapsfx.decodePath(encodedPaths[i]);
+    }
+    return new google.maps.MVCArray(paths);
+};
+
+/*
+ * Converts an array of packed paths into an MVCArray of MVCArrays, as used for
+ * the paths of a Polygon.
+ */
+gmapsfx.toPaths = function (packedPaths) {
+    var paths = new Array(packedPaths.length);
+    for (var i = 0; i < packedPaths.length; i++) {
+        paths[i] = gmapsfx.toPath(packedPaths[i]);
+    }
+    return new google.maps.MVCArray(paths);
+};
+
+/*
+ * Appends the packed lat,lng pairs to the end of the path of a polyline. If
+ * maxPoints is set the oldest points are dropped once the path is an eighth
+ * over the limit, so that the path is rebuilt rarely rather than shifted on
+ * every update.
+ */
+gmapsfx.appendPath = function (polyline, packed, maxPoints) {
+    var path = polyline.getPath();
+    var latLngs = gmapsfx.toLatLngs(packed);
+    for (var i = 0; i < latLngs.length; i++) {
+        path.push(latLngs[i]);
+    }
+    var length = path.getLength();
+    if (maxPoints > 0 && length > maxPoints + (maxPoints >> 3)) {
+        polyline.setPath(path.getArray().slice(length - maxPoints));
+    }
+};
+
+/*
+ * Converts packed lat,lng pairs, or lat,lng,weight triples if weighted, into
+ * an array of LatLngs or WeightedLocations for a HeatmapLayer.
+ */
+gmapsfx.toHeatmapData = function (packed, weighted) {
+    var values = gmapsfx.unpack(packed);
+    var stride = weighted ? 3 : 2;
+    var n = Math.floor(values.length / stride);
+    var data = new Array(n);
+    for (var i = 0; i < n; i++) {
+        var location = new google.maps.LatLng(values[i * stride], values[i * stride + 1]);
+        data[i] = weighted ? {location: location, weight: values[i * stride + 2]} : location;
+    }
+    return data;
+};
+
+/*
+ * Drops the oldest points from the data of a HeatmapLayer and appends the
+ * packed points, setting the data once so the heatmap is redrawn once.
+ */
+gmapsfx.updateHeatmap = function (layer, removeCount, packed, weighted) {
+    var current = layer.getData();
+    var points = current ? (current.getArray ? current.getArray() : current) : [];
+    if (removeCount > 0) {
+        points = points.slice(removeCount);
+    }
+    if (packed.length > 0) {
+        points = points.concat(gmapsfx.toHeatmapData(packed, weighted));
+    }
+    layer.setData(new google.maps.MVCArray(points));
+};
+
+/*
+ * Applies position updates to a set of markers, at most once per animation
+ * frame. Markers are registered against an integer slot, and updates are
+ * received as packed slot,lat,lng triples. If several updates for a marker
+ * arrive before the next frame only the last one is applied.
+ */
+gmapsfx.LiveLayer = function () {
+    this.markers = [];
+    this.pending = [];
+    // The number of pending batches when each slot was last removed. Slots
+    // are reused, so positions sent for a removed marker are not applied.
+    this.removed = {};
+    this.scheduled = false;
+};
+
+gmapsfx.LiveLayer.prototype.add = function (slot, marker) {
+    this.markers[slot] = marker;
+};
+
+gmapsfx.LiveLayer.prototype.remove = function (slot) {
+    delete this.markers[slot];
+    this.removed[slot] = this.pending.length;
+};
+
+gmapsfx.LiveLayer.prototype.update = function (packed) {
+    this.pending.push(packed);
+    if (!this.scheduled) {
+        this.scheduled = true;
+        var self = this;
+        var raf = window.requestAnimationFrame || function (f) {
+            return window.setTimeout(f, 16);
+        };
+        raf(function () {
+            self.apply();
+        });
+    }
+};
+
+gmapsfx.LiveLayer.prototype.apply = function () {
+    this.scheduled = false;
+    var batches = this.pending;
+    var removed = this.removed;
+    this.pending = [];
+    this.removed = {};
+    var latest = {};
+    for (var b = 0; b < batches.length; b++) {
+        var values = gmapsfx.unpack(batches[b]);
+        for (var i = 0; i + 2 < values.length; i += 3) {
+            if (!(b < removed[values[i]])) {
+                latest[values[i]] = [values[i + 1], values[i + 2]];
+            }
+        }
+    }
+    for (var slot in latest) {
+        var marker = this.markers[slot];
+        if (marker) {
+            marker.setPosition(new google.maps.LatLng(latest[slot][0], latest[slot][1]));
+        }
+    }
+};
+
+/*
+ * Google Maps listeners registered on behalf of Java event handlers, held by
+ * the variable name of the object that owns the handlers and the integer
+ * callback key of the handler, so that they can be removed again.
+ */
+gmapsfx.listeners = gmapsfx.listeners || {};
+
+gmapsfx.listen = function (owner, key, target, type, handler) {
+    var listeners = gmapsfx.listeners[owner] || (gmapsfx.listeners[owner] = {});
+    if (listeners[key]) {
+        google.maps.event.removeListener(listeners[key]);
+    }
+    listeners[key] = google.maps.event.addListener(target, type, handler);
+};
+
+gmapsfx.unlisten = function (owner, key) {
+    var listeners = gmapsfx.listeners[owner];
+    if (listeners && listeners[key]) {
+        google.maps.event.removeListener(listeners[key]);
+        delete listeners[key];
+    }
+};
+
+/*
+ * Packs the center, zoom, bounds, heading, tilt and size of a map into a single
+ * string of numbers, decoded in Java by MapViewState. Values that are not yet
+ * known, such as the bounds before the map has been laid out, are NaN.
+ */
+gmapsfx.viewState = function (map) {
+    map.gmapsfxStale = false;
+    var center = map.getCenter();
+    var bounds = map.getBounds();
+    var sw = bounds ? bounds.getSouthWest() : null;
+    var ne = bounds ? bounds.getNorthEast() : null;
+    return [
+        center ? center.lat() : NaN,
+        center ? center.lng() : NaN,
+        gmapsfx.orNaN(map.getZoom()),
+        sw ? sw.lat() : NaN,
+        sw ? sw.lng() : NaN,
+        ne ? ne.lat() : NaN,
+        ne ? ne.lng() : NaN,
+        map.getHeading() || 0,
+        map.getTilt() || 0,
+        map.getDiv().offsetWidth,
+        map.getDiv().offsetHeight
+    ].join(',');
+};
+
+gmapsfx.orNaN = function (value) {
+    return (value === undefined || value === null) ? NaN : value;
+};
+
+/*
+ * Calls back with the packed view state of a map at most once per animation
+ * frame while its view is changing, and only when the state has changed.
+ * invalidate is called synchronously on the first change after the state was
+ * last read, before any listeners added later, so that they can read the
+ * new state rather than that of the previous frame.
+ */
+gmapsfx.watchViewState = function (map, callback, invalidate) {
+    var scheduled = false;
+    var last = null;
+    var push = function () {
+        scheduled = false;
+        var state = gmapsfx.viewState(map);
+        if (state !== last) {
+            last = state;
+            callback(state);
+        }
+    };
+    var schedule = function () {
+        if (invalidate && !map.gmapsfxStale) {
+            map.gmapsfxStale = true;
+            invalidate();
+        }
+        if (!scheduled) {
+            scheduled = true;
+            var raf = window.requestAnimationFrame || function (f) {
+                return window.setTimeout(f, 16);
+            };
+            raf(push);
+        }
+    };
+    var events = ['center_changed', 'zoom_changed', 'bounds_changed', 'heading_changed', 'tilt_changed', 'resize'];
+    for (var i = 0; i < events.length; i++) {
+        google.maps.event.addListener(map, events[i], schedule);
+    }
+};
+
+/*
+ * Shows the clusters computed in Java by ClusterIndex. Each update replaces
+ * the clusters shown with those in the packed lat,lng,count,id groups.
+ * Markers for ids that are still shown are kept where they are, as an id
+ * always refers to the same cluster of one index, and markers that are no
+ * longer needed are detached and kept for reuse. The layer is released when
+ * its index is replaced.
+ */
+gmapsfx.ClusterLayer = function (map) {
+    this.map = map;
+    this.markers = {};
+    this.pool = [];
+};
+
+gmapsfx.ClusterLayer.prototype.update = function (packed) {
+    var values = gmapsfx.unpack(packed);
+    var shown = {};
+    for (var i = 0; i + 3 < values.length; i += 4) {
+        var id = values[i + 3];
+        var marker = this.markers[id];
+        if (marker) {
+            delete this.markers[id];
+        } else {
+            var count = values[i + 2];
+            marker = this.pool.pop() || new google.maps.Marker();
+            marker.setPosition(new google.maps.LatLng(values[i], values[i + 1]));
+            marker.setLabel(count > 1 ? String(count) : null);
+            marker.setMap(this.map);
+        }
+        shown[id] = marker;
+    }
+    this.release();
+    this.markers = shown;
+};
+
+gmapsfx.ClusterLayer.prototype.release = function () {
+    for (var id in this.markers) {
+        this.markers[id].setMap(null);
+        this.pool.push(this.markers[id]);
+    }
+    this.markers = {};
+};
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2026 Lynden, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lynden.gmapsfx;
+
+import com.lynden.gmapsfx.javascript.IJavascriptRuntime;
+import com.lynden.gmapsfx.javascript.JavascriptRuntime;
+import com.lynden.gmapsfx.javascript.object.LatLong;
+import com.lynden.gmapsfx.javascript.object.Marker;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import static org.junit.Assert.assertEquals;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class MapUpdateQueueTest {
+
+    IJavascriptRuntime mockJSRuntime;
+    TestQueue queue;
+    List<String> applied;
+
+    @Before
+    public void setUp() {
+        mockJSRuntime = Mockito.mock(IJavascriptRuntime.class);
+        JavascriptRuntime.setJavascriptRuntime(mockJSRuntime);
+        queue = new TestQueue();
+        applied = new ArrayList<>();
+    }
+
+    @Test
+    public void testPost_CoalescesByTargetAndProperty() {
+        Object target = new Object();
+        queue.post(target, "position", () -> applied.add("first"));
+        queue.post(target, "position", () -> applied.add("second"));
+        queue.post(target, "title", () -> applied.add("title"));
+        queue.post(new Object(), "position", () -> applied.add("other"));
+        assertEquals(3, queue.size());
+        queue.drain();
+        assertEquals(Arrays.asList("second", "title", "other"), applied);
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    public void testPost_ReplacedUpdateMovesToEnd() {
+        Object a = new Object();
+        Object b = new Object();
+        queue.post(a, "position", () -> applied.add("a1"));
+        queue.post(b, "position", () -> applied.add("b"));
+        queue.post(a, "position", () -> applied.add("a2"));
+        queue.drain();
+        assertEquals(Arrays.asList("b", "a2"), applied);
+    }
+
+    @Test
+    public void testPost_RunnableCoalescedByInstance() {
+        Runnable update = () -> applied.add("same");
+        queue.post(update);
+        queue.post(() -> applied.add("other"));
+        queue.post(update);
+        assertEquals(2, queue.size());
+        queue.drain();
+        assertEquals(Arrays.asList("other", "same"), applied);
+    }
+
+    @Test
+    public void testDrain_OneBatch() {
+        queue.post(new Object(), "a", () -> mockJSRuntime.queue("a"));
+        queue.post(new Object(), "b", () -> mockJSRuntime.queue("b"));
+        queue.drain();
+        InOrder order = inOrder(mockJSRuntime);
+        order.verify(mockJSRuntime).beginBatch();
+        order.verify(mockJSRuntime).queue("a");
+        order.verify(mockJSRuntime).queue("b");
+        order.verify(mockJSRuntime).commitBatch();
+        order.verifyNoMoreInteractions();
+    }
+
+    @Test
+    public void testDrain_EmptyQueueDoesNotBatch() {
+        queue.drain();
+        verify(mockJSRuntime, never()).beginBatch();
+    }
+
+    @Test
+    public void testDrain_ErrorDoesNotAbortOtherUpdates() {
+        queue.post(new Object(), "a", () -> {
+            throw new IllegalStateException("expected");
+        });
+        queue.post(new Object(), "b", () -> applied.add("b"));
+        queue.drain();
+        assertEquals(Arrays.asList("b"), applied);
+        verify(mockJSRuntime).commitBatch();
+    }
+
+    @Test
+    public void testScheduling() {
+        queue.post(new Object(), "a", () -> applied.add("a"));
+        queue.post(new Object(), "b", () -> applied.add("b"));
+        assertEquals(1, queue.starts);
+        queue.drain();
+        assertEquals(1, queue.stops);
+        queue.post(new Object(), "c", () -> applied.add("c"));
+        assertEquals(2, queue.starts);
+    }
+
+    @Test
+    public void testSetPosition_UsesLatestPosition() {
+        Marker marker = Mockito.mock(Marker.class);
+        LatLong last = new LatLong(3, 4);
+        queue.setPosition(marker, new LatLong(1, 2));
+        queue.setPosition(marker, last);
+        queue.drain();
+        verify(marker).setPosition(last);
+        verify(marker, Mockito.times(1)).setPosition(Mockito.any(LatLong.class));
+    }
+
+    /**
+     * Counts the calls to start and stop, instead of running an animation
+     * timer, so the queue is only drained when a test calls drain().
+     */
+    static class TestQueue extends MapUpdateQueue {
+
+        int starts;
+        int stops;
+
+        @Override
+        protected void start() {
+            starts++;
+        }
+
+        @Override
+        protected void stop() {
+            stops++;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 Lynden, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lynden.gmapsfx.clustering;
+
+import java.util.Arrays;
+import java.util.Random;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class ClusterIndexTest {
+
+    @Test
+    public void testClusters_CountAllPoints() {
+        Random random = new Random(1);
+        int n = 10000;
+        double[] lats = new double[n];
+        double[] lngs = new double[n];
+        for (int i = 0; i < n; i++) {
+            lats[i] = 40 + random.nextDouble() * 10;
+            lngs[i] = -120 + random.nextDouble() * 10;
+        }
+        ClusterIndex index = new ClusterIndex(lats, lngs);
+
+        for (int zoom = 0; zoom <= 17; zoom++) {
+            Clusters clusters = index.getClusters(-180, -85, 180, 85, zoom);
+            int total = 0;
+            for (int i = 0; i < clusters.size(); i++) {
+                total += clusters.getCount(i);
+            }
+            assertEquals("zoom " + zoom, n, total);
+        }
+        assertTrue(index.size(0) < 10);
+        assertEquals(n, index.size(17));
+    }
+
+    @Test
+    public void testLeavesAndExpansionZoom() {
+        double[] lats = {10, 10.0001, 10.0002, -30};
+        double[] lngs = {20, 20.0001, 20.0002, 100};
+        ClusterIndex index = new ClusterIndex(lats, lngs);
+
+        Clusters clusters = index.getClusters(-180, -85, 180, 85, 5);
+        assertEquals(2, clusters.size());
+        int cluster = clusters.isCluster(0) ? 0 : 1;
+        assertEquals(3, clusters.getCount(cluster));
+        assertEquals(10.0001, clusters.getLatitude(cluster), 1e-6);
+        assertEquals(20.0001, clusters.getLongitude(cluster), 1e-6);
+
+        int[] leaves = index.getLeaves(clusters.getId(cluster));
+        Arrays.sort(leaves);
+        assertArrayEquals(new int[]{0, 1, 2}, leaves);
+
+        int expansion = index.getExpansionZoom(clusters.getId(cluster));
+        assertTrue(expansion > 5);
+        assertTrue(index.getClusters(-180, -85, 180, 85, expansion).size() > 2);
+    }
+
+    @Test
+    public void testClusters_AcrossAntimeridian() {
+        double[] lats = {0, 0, 0};
+        double[] lngs = {179.5, -179.5, 0};
+        ClusterIndex index = new ClusterIndex(lats, lngs);
+        Clusters clusters = index.getClusters(179, -1, -179, 1, 17);
+        assertEquals(2, clusters.size());
+    }
+
+    @Test
+    public void testPack() {
+        ClusterIndex index = new ClusterIndex(new double[]{1}, new double[]{2});
+        Clusters clusters = index.getClusters(-180, -85, 180, 85, 10);
+        assertEquals(1, clusters.size());
+        assertEquals(1.0, clusters.getLatitude(0), 1e-9);
+        assertEquals(2.0, clusters.getLongitude(0), 1e-9);
+        assertEquals(0, clusters.getId(0));
+    }
+}
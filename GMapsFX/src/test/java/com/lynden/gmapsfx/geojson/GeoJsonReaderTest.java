@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 Lynden, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lynden.gmapsfx.geojson;
+
+import java.io.IOException;
+import java.io.StringReader;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import org.junit.Test;
+
+public class GeoJsonReaderTest {
+
+    private static final String FEATURE_1 = "{\"type\":\"Feature\",\"properties\":{\"name\":\"a, [b]\"},"
+            + "\"geometry\":{\"type\":\"Point\",\"coordinates\":[1.5,2]}}";
+    private static final String FEATURE_2 = "{\"type\":\"Feature\",\"properties\":{\"name\":\"q\\\"}\"},"
+            + "\"geometry\":{\"type\":\"Point\",\"coordinates\":[-3,4e1]}}";
+
+    @Test
+    public void testReadChunks() throws IOException {
+        String document = "{ \"type\" : \"FeatureCollection\",\n \"features\" : [\n  "
+                + FEATURE_1.replace(",\"", ", \"") + " ,\n " + FEATURE_2 + ",\n" + FEATURE_1 + " ] }";
+        GeoJsonReader reader = new GeoJsonReader(new StringReader(document));
+        assertEquals("{\"type\":\"FeatureCollection\",\"features\":[" + FEATURE_1 + "," + FEATURE_2 + "]}", reader.readChunk(2, 1000));
+        assertEquals("{\"type\":\"FeatureCollection\",\"features\":[" + FEATURE_1 + "]}", reader.readChunk(2, 1000));
+        assertNull(reader.readChunk(2, 1000));
+        assertEquals(3, reader.getFeatureCount());
+    }
+
+    @Test
+    public void testChunkSizeLimit() throws IOException {
+        String document = "{\"features\":[" + FEATURE_1 + "," + FEATURE_2 + "],\"type\":\"FeatureCollection\"}";
+        GeoJsonReader reader = new GeoJsonReader(new StringReader(document));
+        assertEquals("{\"type\":\"FeatureCollection\",\"features\":[" + FEATURE_1 + "]}", reader.readChunk(100, 10));
+        assertEquals("{\"type\":\"FeatureCollection\",\"features\":[" + FEATURE_2 + "]}", reader.readChunk(100, 10));
+        assertNull(reader.readChunk(100, 10));
+    }
+
+    @Test
+    public void testSingleFeature() throws IOException {
+        GeoJsonReader reader = new GeoJsonReader(new StringReader(" " + FEATURE_1 + "\n"));
+        assertEquals(FEATURE_1, reader.readChunk(10, 1000));
+        assertNull(reader.readChunk(10, 1000));
+        assertEquals(1, reader.getFeatureCount());
+    }
+
+    @Test(expected = IOException.class)
+    public void testTruncated() throws IOException {
+        GeoJsonReader reader = new GeoJsonReader(new StringReader("{\"type\":\"FeatureCollection\",\"features\":["
+                + FEATURE_1.substring(0, 20)));
+        reader.readChunk(10, 1000);
+    }
+
+    @Test(expected = IOException.class)
+    public void testRejectsNonJsonValue() throws IOException {
+        GeoJsonReader reader = new GeoJsonReader(new StringReader("{\"type\":\"FeatureCollection\",\"features\":["
+                + "{\"type\":\"Feature\",\"properties\":{\"x\":(function(){alert(1)})()},\"geometry\":null}]}"));
+        reader.readChunk(10, 1000);
+    }
+
+    @Test(expected = IOException.class)
+    public void testRejectsIdentifier() throws IOException {
+        GeoJsonReader reader = new GeoJsonReader(new StringReader("{\"type\":\"Feature\",\"geometry\":window}"));
+        reader.readChunk(10, 1000);
+    }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 Lynden, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lynden.gmapsfx.geometry;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+public class PointKDTreeTest {
+
+    @Test
+    public void testRange_MatchesLinearScan() {
+        Random random = new Random(42);
+        int n = 20000;
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = random.nextDouble();
+            ys[i] = random.nextDouble();
+        }
+        PointKDTree tree = new PointKDTree(xs, ys);
+        assertEquals(n, tree.size());
+
+        List<Integer> found = new ArrayList<>();
+        tree.range(0.2, 0.3, 0.25, 0.4, found::add);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            if (xs[i] >= 0.2 && xs[i] <= 0.25 && ys[i] >= 0.3 && ys[i] <= 0.4) {
+                expected.add(i);
+            }
+        }
+        Collections.sort(found);
+        assertEquals(expected, found);
+    }
+
+    @Test
+    public void testWithin_MatchesLinearScan() {
+        Random random = new Random(7);
+        int n = 5000;
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = random.nextDouble() * 100;
+            ys[i] = random.nextDouble() * 100;
+        }
+        PointKDTree tree = new PointKDTree(xs, ys, n, 16);
+
+        List<Integer> found = new ArrayList<>();
+        tree.within(50, 50, 7.5, found::add);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            double dx = xs[i] - 50;
+            double dy = ys[i] - 50;
+            if (dx * dx + dy * dy <= 7.5 * 7.5) {
+                expected.add(i);
+            }
+        }
+        Collections.sort(found);
+        assertEquals(expected, found);
+    }
+
+    @Test
+    public void testEmpty() {
+        PointKDTree tree = new PointKDTree(new double[0], new double[0]);
+        List<Integer> found = new ArrayList<>();
+        tree.range(0, 0, 1, 1, found::add);
+        tree.within(0, 0, 1, found::add);
+        assertEquals(0, found.size());
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 Lynden, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lynden.gmapsfx.geometry;
+
+import com.lynden.gmapsfx.javascript.object.CoordinateBuffer;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+public class PolylineEncodingTest {
+
+    private static final String ENCODED = "_p~iF~ps|U_ulLnnqC_mqNvxq`@";
+
+    @Test
+    public void testEncode() {
+        CoordinateBuffer path = new CoordinateBuffer()
+                .add(38.5, -120.2)
+                .add(40.7, -120.95)
+                .add(43.252, -126.453);
+        assertEquals(ENCODED, PolylineEncoding.encode(path));
+    }
+
+    @Test
+    public void testDecode() {
+        CoordinateBuffer path = PolylineEncoding.decode(ENCODED);
+        assertEquals(3, path.size());
+        assertEquals(38.5, path.getLatitude(0), 1e-9);
+        assertEquals(-120.2, path.getLongitude(0), 1e-9);
+        assertEquals(43.252, path.getLatitude(2), 1e-9);
+        assertEquals(-126.453, path.getLongitude(2), 1e-9);
+    }
+
+    @Test
+    public void testRoundTrip() {
+        double[] lats = {0, -89.99999, 89.99999, 47.60621, 47.60622};
+        double[] lngs = {0, 179.99999, -179.99999, -122.33207, -122.33207};
+        CoordinateBuffer path = PolylineEncoding.decode(PolylineEncoding.encode(lats, lngs));
+        for (int i = 0; i < lats.length; i++) {
+            assertEquals(lats[i], path.getLatitude(i), 1e-9);
+            assertEquals(lngs[i], path.getLongitude(i), 1e-9);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDecode_Truncated() {
+        PolylineEncoding.decode(ENCODED.substring(0, ENCODED.length() - 1));
+    }
+
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 Lynden, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lynden.gmapsfx.geometry;
+
+import com.lynden.gmapsfx.javascript.object.CoordinateBuffer;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class SimplifiedPathTest {
+
+    @Test
+    public void testStraightLine() {
+        CoordinateBuffer buffer = new CoordinateBuffer();
+        for (int i = 0; i <= 100; i++) {
+            buffer.add(47.0, -122.0 + i * 0.01);
+        }
+        SimplifiedPath path = new SimplifiedPath(buffer);
+        CoordinateBuffer level = path.getLevel(SimplifiedPath.MAX_ZOOM);
+        assertEquals(2, level.size());
+        assertEquals(-122.0, level.getLongitude(0), 1e-9);
+        assertEquals(-121.0, level.getLongitude(1), 1e-9);
+    }
+
+    @Test
+    public void testLevelsIncreaseWithZoom() {
+        CoordinateBuffer buffer = new CoordinateBuffer();
+        for (int i = 0; i < 10000; i++) {
+            buffer.add(47.0 + Math.sin(i * 0.01) * 0.5, -122.0 + i * 0.0001);
+        }
+        SimplifiedPath path = new SimplifiedPath(buffer).precompute();
+        int previous = 0;
+        for (int zoom = 0; zoom <= SimplifiedPath.MAX_ZOOM; zoom++) {
+            int count = path.getLevel(zoom).size();
+            assertEquals(path.getVertexCount(zoom), count);
+            assertTrue(count >= previous);
+            previous = count;
+        }
+        assertTrue(path.getLevel(4).size() < 50);
+        assertSame(path.getLevel(10), path.getLevel(10));
+    }
+
+    @Test
+    public void testClosedRingKeepsShape() {
+        CoordinateBuffer buffer = new CoordinateBuffer();
+        buffer.add(0, 0).add(0, 10).add(10, 10).add(10, 0).add(0, 0);
+        SimplifiedPath path = new SimplifiedPath(buffer);
+        assertSame(buffer, path.getLevel(0));
+    }
+
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026 Lynden, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lynden.gmapsfx.geometry;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SpatialIndexTest {
+
+    private static final int COUNT = 5000;
+
+    SpatialIndex<Integer> index;
+    double[] lats;
+    double[] lngs;
+
+    @Before
+    public void setUp() {
+        Random random = new Random(3);
+        index = new SpatialIndex<>();
+        lats = new double[COUNT];
+        lngs = new double[COUNT];
+        for (int i = 0; i < COUNT; i++) {
+            lats[i] = 47 + random.nextDouble();
+            lngs[i] = -123 + random.nextDouble();
+            index.put(i, lats[i], lngs[i]);
+        }
+    }
+
+    @Test
+    public void testQuery_MatchesLinearScan() {
+        List<Integer> found = index.query(-122.8, 47.2, -122.5, 47.6);
+        Collections.sort(found);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < COUNT; i++) {
+            if (lats[i] >= 47.2 && lats[i] <= 47.6 && lngs[i] >= -122.8 && lngs[i] <= -122.5) {
+                expected.add(i);
+            }
+        }
+        assertEquals(expected, found);
+    }
+
+    @Test
+    public void testWithin_MatchesLinearScan() {
+        List<Integer> found = index.within(47.5, -122.5, 5000);
+        Collections.sort(found);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < COUNT; i++) {
+            if (SpatialIndex.distance(47.5, -122.5, lats[i], lngs[i]) <= 5000) {
+                expected.add(i);
+            }
+        }
+        assertEquals(expected, found);
+    }
+
+    @Test
+    public void testNearest_MatchesLinearScan() {
+        List<Integer> found = index.nearest(47.3, -122.7, 10);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < COUNT; i++) {
+            expected.add(i);
+        }
+        expected.sort((a, b) -> Double.compare(SpatialIndex.distance(47.3, -122.7, lats[a], lngs[a]),
+                SpatialIndex.distance(47.3, -122.7, lats[b], lngs[b])));
+        assertEquals(expected.subList(0, 10), found);
+    }
+
+    @Test
+    public void testMoveAndRemove() {
+        index.put(7, -33.9, 151.2);
+        assertEquals(COUNT, index.size());
+        assertEquals(Collections.singletonList(7), index.nearest(-33.9, 151.2, 1));
+        assertFalse(index.query(-123, 47, -122, 48).contains(7));
+
+        assertTrue(index.remove(7));
+        assertFalse(index.remove(7));
+        assertFalse(index.contains(7));
+        assertEquals(COUNT - 1, index.size());
+        assertTrue(index.query(151, -34, 152, -33).isEmpty());
+    }
+
+    @Test
+    public void testQuery_AcrossAntimeridian() {
+        SpatialIndex<String> world = new SpatialIndex<>();
+        world.put("east", 0, 179.5);
+        world.put("west", 0, -179.5);
+        world.put("greenwich", 0, 0);
+        List<String> found = world.query(179, -1, -179, 1);
+        Collections.sort(found);
+        assertEquals(2, found.size());
+        assertEquals("east", found.get(0));
+        assertEquals("west", found.get(1));
+    }
+
+    @Test
+    public void testNearest_GlobalMatchesLinearScan() {
+        Random random = new Random(11);
+        SpatialIndex<Integer> world = new SpatialIndex<>();
+        int count = 3000;
+        double[] worldLats = new double[count];
+        double[] worldLngs = new double[count];
+        for (int i = 0; i < count; i++) {
+            worldLats[i] = Math.toDegrees(Math.asin(2 * random.nextDouble() - 1));
+            worldLngs[i] = random.nextDouble() * 360 - 180;
+            world.put(i, worldLats[i], worldLngs[i]);
+        }
+        for (int q = 0; q < 300; q++) {
+            double lat = Math.toDegrees(Math.asin(2 * random.nextDouble() - 1));
+            // A third of the queries are within a degree of the antimeridian.
+            double lng = q % 3 == 0 ? (q % 2 == 0 ? 179 : -180) + random.nextDouble()
+                    : random.nextDouble() * 360 - 180;
+            List<Integer> found = world.nearest(lat, lng, 3);
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                expected.add(i);
+            }
+            expected.sort((a, b) -> Double.compare(SpatialIndex.distance(lat, lng, worldLats[a], worldLngs[a]),
+                    SpatialIndex.distance(lat, lng, worldLats[b], worldLngs[b])));
+            assertEquals("nearest to " + lat + "," + lng, expected.subList(0, 3), found);
+        }
+    }
+
+    @Test
+    public void testNearest_AcrossAntimeridian() {
+        SpatialIndex<String> world = new SpatialIndex<>();
+        world.put("west", 10, -179.5);
+        world.put("east", 10, 178);
+        assertEquals(Collections.singletonList("west"), world.nearest(10, 179.99, 1));
+        assertEquals(Collections.singletonList("east"), world.nearest(10, 178.5, 1));
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 Lynden, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lynden.gmapsfx.geometry;
+
+import com.lynden.gmapsfx.javascript.object.LatLong;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class WebMercatorProjectionTest {
+
+    private static final double DELTA = 1e-9;
+
+    @Test
+    public void testWorldCoordinates() {
+        assertEquals(128, WebMercatorProjection.toWorldX(0), DELTA);
+        assertEquals(128, WebMercatorProjection.toWorldY(0), DELTA);
+        assertEquals(0, WebMercatorProjection.toWorldX(-180), DELTA);
+        assertEquals(0, WebMercatorProjection.toWorldY(WebMercatorProjection.MAX_LATITUDE), 1e-6);
+        assertEquals(256, WebMercatorProjection.toWorldY(-90), 1e-6);
+        assertEquals(47.6, WebMercatorProjection.toLatitude(WebMercatorProjection.toWorldY(47.6)), DELTA);
+        assertEquals(-122.3, WebMercatorProjection.toLongitude(WebMercatorProjection.toWorldX(-122.3)), DELTA);
+    }
+
+    @Test
+    public void testTiles() {
+        assertEquals(1, WebMercatorProjection.getTileX(0, 1));
+        assertEquals(1, WebMercatorProjection.getTileY(0, 1));
+        assertEquals(0, WebMercatorProjection.getTileX(-122.3, 1));
+        assertEquals(0, WebMercatorProjection.getTileY(47.6, 1));
+    }
+
+    @Test
+    public void testProject_Center() {
+        WebMercatorProjection projection = new WebMercatorProjection(47.6, -122.3, 12, 800, 600);
+        assertEquals(400, projection.projectX(-122.3), DELTA);
+        assertEquals(300, projection.projectY(47.6), DELTA);
+        assertTrue(projection.isVisible(400, 300));
+        assertFalse(projection.isVisible(800, 300));
+    }
+
+    @Test
+    public void testProject_Scale() {
+        WebMercatorProjection projection = new WebMercatorProjection(0, 0, 1, 512, 512);
+        assertEquals(0, projection.projectX(-180), DELTA);
+        assertEquals(384, projection.projectX(90), DELTA);
+    }
+
+    @Test
+    public void testProject_WrapsAcrossAntimeridian() {
+        WebMercatorProjection projection = new WebMercatorProjection(0, 179, 3, 400, 400);
+        double pixelsPerDegree = 256 * 8 / 360.0;
+        assertEquals(200 + 2 * pixelsPerDegree, projection.projectX(-179), 1e-6);
+        assertEquals(200 - 2 * pixelsPerDegree, projection.projectX(177), 1e-6);
+        assertEquals(-179, projection.unprojectX(200 + 2 * pixelsPerDegree), 1e-9);
+    }
+
+    @Test
+    public void testProject_Bulk() {
+        WebMercatorProjection projection = new WebMercatorProjection(47.6, -122.3, 10, 1024, 768);
+        double[] lats = {47.6, 47.7, 47.5};
+        double[] lngs = {-122.3, -122.2, -122.4};
+        double[] xy = new double[6];
+        projection.project(lats, lngs, xy);
+        for (int i = 0; i < lats.length; i++) {
+            assertEquals(projection.projectX(lngs[i]), xy[i * 2], DELTA);
+            assertEquals(projection.projectY(lats[i]), xy[i * 2 + 1], DELTA);
+        }
+
+        double[] outLats = new double[3];
+        double[] outLngs = new double[3];
+        projection.unproject(xy, outLats, outLngs);
+        assertArrayEquals(lats, outLats, 1e-9);
+        assertArrayEquals(lngs, outLngs, 1e-9);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testProject_Bulk_OutputTooShort() {
+        WebMercatorProjection projection = new WebMercatorProjection(0, 0, 1, 100, 100);
+        projection.project(new double[]{1, 2}, new double[]{1, 2}, new double[3]);
+    }
+
+    @Test
+    public void testUnproject() {
+        WebMercatorProjection projection = new WebMercatorProjection(-33.86, 151.2, 14, 640, 480);
+        LatLong point = projection.unproject(320, 240);
+        assertEquals(-33.86, point.getLatitude(), 1e-9);
+        assertEquals(151.2, point.getLongitude(), 1e-9);
+    }
+}
@@ -56,7 +56,7 @@ public class JavascriptObjectTest {
         mockJsObject = Mockito.mock(JSObject.class);
         JavascriptRuntime.runtime = mockJSRuntime;
         when(mockJSRuntime.execute(any(String.class))).thenReturn(mockJsObject);
-         JavascriptObject.objectCounter = 0;
+         JavascriptObject.objectCounter.set(0);
         testJavascriptObject = new JavascriptObject(GMapObjectType.OBJECT);
        
     }
@@ -78,7 +78,7 @@ public class JavascriptObjectTest {
     
     @Test
     public void testGetNextVariableName() {
-        JavascriptObject.objectCounter = 1;
+        JavascriptObject.objectCounter.set(1);
         assertEquals( "JavascriptObject1", testJavascriptObject.getNextVariableName() );
     }
     
@@ -184,6 +184,19 @@ public class JavascriptObjectTest {
         when(mockJsObject.call(function, argArray)).thenReturn(null);
         String returnValue = testJavascriptObject.invokeJavascriptReturnValue(function, String.class, arg);
         assertNull( returnValue );        
-    }    
+    }
+
+    @Test
+    public void testDispose() {
+        int liveCount = JavascriptObject.getLivePeerCount();
+        testJavascriptObject.dispose();
+        verify(mockJSRuntime).queue("delete window.JavascriptObject0");
+        assertNull(testJavascriptObject.getJSObject());
+        assertEquals(liveCount - 1, JavascriptObject.getLivePeerCount());
+
+        testJavascriptObject.dispose();
+        verify(mockJSRuntime, times(1)).queue("delete window.JavascriptObject0");
+        assertEquals(liveCount - 1, JavascriptObject.getLivePeerCount());
+    }
 
 }
@@ -13,9 +13,12 @@ import org.junit.AfterClass;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
 import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import org.mockito.InOrder;
 import org.mockito.Mockito;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -115,5 +118,94 @@ public class JavascriptRuntimeTest {
         
     }
 
+    @Test
+    public void testQueue_NoBatch() {
+        JavascriptRuntime.getInstance().queue("myCommand");
+        verify(mockWebEngine).executeScript("myCommand");
+    }
+
+    @Test
+    public void testQueue_Batch() {
+        IJavascriptRuntime rt = JavascriptRuntime.getInstance();
+        rt.beginBatch();
+        rt.queue("command1");
+        rt.beginBatch();
+        rt.queue("command2");
+        rt.commitBatch();
+        verify(mockWebEngine, Mockito.never()).executeScript(Mockito.anyString());
+        assertTrue(rt.isBatching());
+
+        rt.commitBatch();
+        verify(mockWebEngine).executeScript("command1;\ncommand2;\n");
+    }
+
+    @Test
+    public void testExecute_FlushesBatch() {
+        IJavascriptRuntime rt = JavascriptRuntime.getInstance();
+        rt.beginBatch();
+        rt.queue("command1");
+        rt.execute("command2");
+
+        InOrder inOrder = Mockito.inOrder(mockWebEngine);
+        inOrder.verify(mockWebEngine).executeScript("command1;\n");
+        inOrder.verify(mockWebEngine).executeScript("command2");
+        rt.commitBatch();
+    }
+
+    @Test
+    public void testGetConstructor() {
+        IJavascriptRuntime rt = JavascriptRuntime.getInstance();
+        assertEquals("new google.maps.LatLng(47.5,-122.25)", rt.getConstructor("google.maps.LatLng", 47.5, -122.25));
+    }
+
+    @Test
+    public void testGetConstructor_NullArgs() {
+        IJavascriptRuntime rt = JavascriptRuntime.getInstance();
+        assertEquals("new google.maps.MVCArray()", rt.getConstructor("google.maps.MVCArray", (Object[]) null));
+        assertEquals("map.getZoom()", rt.getFunction("map", "getZoom", (Object[]) null));
+    }
+
+    @Test
+    public void testGetConstructor_NestedObject() {
+        LatLong latLong = new LatLong(1, 2);
+        latLong.variableName = "myLatLong";
+        IJavascriptRuntime rt = JavascriptRuntime.getInstance();
+        assertEquals("new google.maps.Marker(myLatLong,null,3)", rt.getConstructor("google.maps.Marker", latLong, null, 3));
+        verify(mockWebEngine).executeScript("window.myLatLong = new google.maps.LatLng(1,2)");
+    }
+
+    @Test
+    public void testGetFunction_ReleasesBuilderOnFailure() {
+        Object failing = new Object() {
+            @Override
+            public String toString() {
+                throw new IllegalStateException();
+            }
+        };
+        try {
+            JavascriptRuntime.getInstance().getFunction("map", "fail", failing);
+            fail();
+        } catch (IllegalStateException ex) {
+        }
+        ScriptBuilder first = ScriptBuilder.get();
+        first.close();
+        ScriptBuilder second = ScriptBuilder.get();
+        second.close();
+        assertSame(first, second);
+    }
+
+    @Test
+    public void testGetFunction() {
+        IJavascriptRuntime rt = JavascriptRuntime.getInstance();
+        assertEquals("map.setZoom(12)", rt.getFunction("map", "setZoom", 12));
+        assertEquals("map.getZoom()", rt.getFunction("map", "getZoom"));
+    }
+
+    @Test
+    public void testGetArrayFunction() {
+        IJavascriptRuntime rt = JavascriptRuntime.getInstance();
+        assertEquals("fn([1.5,true])", rt.getArrayFunction("fn", new Object[]{1.5, true}));
+        assertEquals("fn([]);", rt.getArrayFunction("fn", new Object[0]));
+    }
 
 }
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 Lynden, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lynden.gmapsfx.javascript;
+
+import java.util.Random;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+public class JavascriptUtilsTest {
+
+    @Test
+    public void testQuote() {
+        assertEquals("\"it's a \\\"test\\\"\\n\"", JavascriptUtils.quote("it's a \"test\"\n"));
+        assertEquals("\"C:\\\\temp\"", JavascriptUtils.quote("C:\\temp"));
+        assertEquals("null", JavascriptUtils.quote(null));
+    }
+
+    @Test
+    public void testToArrayLiteral() {
+        assertEquals("[\"a\",null,\"b\"]", JavascriptUtils.toArrayLiteral(new String[]{"a", null, "b"}));
+    }
+
+    @Test
+    public void testPackCoordinates() {
+        assertEquals("47.5,-122.25,1,2",
+                JavascriptUtils.packCoordinates(new double[]{47.5, 1}, new double[]{-122.25, 2}));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPackCoordinates_LengthMismatch() {
+        JavascriptUtils.packCoordinates(new double[]{1, 2}, new double[]{1});
+    }
+
+    @Test
+    public void testPackCoordinates_Weighted() {
+        assertEquals("47.5,-122.25,3,1,2,0.5",
+                JavascriptUtils.packCoordinates(new double[]{47.5, 1}, new double[]{-122.25, 2}, new double[]{3, 0.5}));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPackCoordinates_WeightLengthMismatch() {
+        JavascriptUtils.packCoordinates(new double[]{1, 2}, new double[]{1, 2}, new double[]{1});
+    }
+
+    @Test
+    public void testPack() {
+        assertEquals("2,3.5", JavascriptUtils.pack(new double[]{1, 2, 3.5, 4}, 1, 2));
+    }
+
+    @Test
+    public void testUnpack() {
+        assertArrayEquals(new double[]{2.0, 3.5, -1.0E-5}, JavascriptUtils.unpack("2.0,3.5,-1.0E-5"), 0);
+        assertArrayEquals(new double[]{1, Double.NaN, Double.NaN}, JavascriptUtils.unpack("1,,NaN"), 0);
+        assertEquals(0, JavascriptUtils.unpack("").length);
+    }
+
+    @Test
+    public void testAppendNumber() {
+        assertEquals("47.6", number(47.6));
+        assertEquals("-122.123456", number(-122.123456));
+        assertEquals("3", number(3.0));
+        assertEquals("0.005", number(0.005));
+        assertEquals("0", number(0.0));
+        assertEquals("-0.0", number(-0.0));
+        assertEquals("NaN", number(Double.NaN));
+        assertEquals("-Infinity", number(Double.NEGATIVE_INFINITY));
+        assertEquals(Double.toString(0.1 + 0.2), number(0.1 + 0.2));
+    }
+
+    @Test
+    public void testAppendNumber_RoundTrips() {
+        Random random = new Random(5);
+        for (int i = 0; i < 100000; i++) {
+            double value;
+            switch (i % 4) {
+                case 0:
+                    value = (random.nextDouble() - 0.5) * 360;
+                    break;
+                case 1:
+                    value = Math.round((random.nextDouble() - 0.5) * 360e6) / 1e6;
+                    break;
+                case 2:
+                    value = Double.longBitsToDouble(random.nextLong());
+                    break;
+                default:
+                    value = random.nextInt(2000) - 1000;
+            }
+            if (!Double.isNaN(value)) {
+                assertEquals(value, Double.parseDouble(number(value)), 0);
+            }
+        }
+    }
+
+    private static String number(double value) {
+        StringBuilder sb = new StringBuilder();
+        JavascriptUtils.appendNumber(sb, value);
+        return sb.toString();
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 Lynden, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lynden.gmapsfx.javascript;
+
+import com.lynden.gmapsfx.javascript.object.GMapObjectType;
+import netscape.javascript.JSObject;
+import static org.junit.Assert.assertEquals;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class PeerReclaimerTest {
+
+    IJavascriptRuntime mockJSRuntime;
+
+    @Before
+    public void setUp() {
+        mockJSRuntime = Mockito.mock(IJavascriptRuntime.class);
+        JavascriptRuntime.setJavascriptRuntime(mockJSRuntime);
+        when(mockJSRuntime.execute(anyString())).thenReturn(Mockito.mock(JSObject.class));
+        PeerReclaimer.reclaim();
+    }
+
+    @Test
+    public void testReclaim_DeletesInOneBatch() {
+        PeerReclaimer.PeerReference[] refs = new PeerReclaimer.PeerReference[3];
+        for (int i = 0; i < refs.length; i++) {
+            refs[i] = PeerReclaimer.register(new JavascriptObject(GMapObjectType.OBJECT), mockJSRuntime, "peer" + i);
+        }
+        int live = PeerReclaimer.getLiveCount();
+        for (PeerReclaimer.PeerReference ref : refs) {
+            ref.enqueue();
+        }
+        PeerReclaimer.reclaim();
+
+        InOrder order = inOrder(mockJSRuntime);
+        order.verify(mockJSRuntime).beginBatch();
+        order.verify(mockJSRuntime, times(3)).queue(startsWith("delete window.peer"));
+        order.verify(mockJSRuntime).commitBatch();
+        for (int i = 0; i < refs.length; i++) {
+            verify(mockJSRuntime).queue("delete window.peer" + i);
+        }
+        assertEquals(live - 3, PeerReclaimer.getLiveCount());
+    }
+
+    @Test
+    public void testReclaim_NothingCollected() {
+        PeerReclaimer.reclaim();
+        verify(mockJSRuntime, never()).beginBatch();
+        verify(mockJSRuntime, never()).commitBatch();
+    }
+}
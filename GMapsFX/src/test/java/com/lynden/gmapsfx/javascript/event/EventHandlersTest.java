@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 Lynden, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lynden.gmapsfx.javascript.event;
+
+import netscape.javascript.JSObject;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+import static org.mockito.Mockito.*;
+
+public class EventHandlersTest {
+
+    EventHandlers handlers;
+
+    @Before
+    public void setUp() {
+        handlers = new EventHandlers();
+    }
+
+    @Test
+    public void testRegisterHandler_DenseKeys() {
+        StateEventHandler handler = mock(StateEventHandler.class);
+        assertEquals(0, handlers.registerHandler(handler));
+        assertEquals(1, handlers.registerHandler(handler));
+        assertEquals(2, handlers.registerHandler(handler));
+        assertEquals(3, handlers.getHandlerCount());
+    }
+
+    @Test
+    public void testUnregisterHandler_ReusesKey() {
+        StateEventHandler first = mock(StateEventHandler.class);
+        StateEventHandler second = mock(StateEventHandler.class);
+        int key = handlers.registerHandler(first);
+        handlers.registerHandler(first);
+
+        assertTrue(handlers.unregisterHandler(key));
+        assertFalse(handlers.unregisterHandler(key));
+        assertNull(handlers.getHandler(key));
+
+        assertEquals(key, handlers.registerHandler(second));
+        assertSame(second, handlers.getHandler(key));
+        assertEquals(2, handlers.getHandlerCount());
+    }
+
+    @Test
+    public void testHandleStateEvent() {
+        StateEventHandler handler = mock(StateEventHandler.class);
+        int key = handlers.registerHandler(handler);
+        handlers.handleStateEvent(key);
+        verify(handler).handle();
+    }
+
+    @Test
+    public void testHandleUIEvent() {
+        UIEventHandler handler = mock(UIEventHandler.class);
+        JSObject event = mock(JSObject.class);
+        int key = handlers.registerHandler(handler);
+        handlers.handleUIEvent(key, event);
+        verify(handler).handle(event);
+    }
+
+    @Test
+    public void testHandleEvent_UnknownOrRemovedKey() {
+        StateEventHandler handler = mock(StateEventHandler.class);
+        int key = handlers.registerHandler(handler);
+        handlers.unregisterHandler(key);
+        handlers.handleStateEvent(key);
+        handlers.handleStateEvent(42);
+        handlers.handleStateEvent(-1);
+        verify(handler, never()).handle();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRegisterHandler_Unsupported() {
+        handlers.registerHandler(new GFXEventHandler() {
+        });
+    }
+
+    @Test
+    public void testRegisterHandler_Grows() {
+        StateEventHandler handler = mock(StateEventHandler.class);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, handlers.registerHandler(handler));
+        }
+        handlers.handleStateEvent(99);
+        verify(handler).handle();
+    }
+}
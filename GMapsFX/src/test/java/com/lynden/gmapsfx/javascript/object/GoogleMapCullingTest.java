@@ -0,0 +1,156 @@
+/*
+ * Copyright 2026 Lynden, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lynden.gmapsfx.javascript.object;
+
+import com.lynden.gmapsfx.javascript.IJavascriptRuntime;
+import com.lynden.gmapsfx.javascript.JavascriptRuntime;
+import com.lynden.gmapsfx.javascript.event.UIEventType;
+import java.util.Arrays;
+import netscape.javascript.JSObject;
+import static org.junit.Assert.assertEquals;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class GoogleMapCullingTest {
+
+    IJavascriptRuntime mockJSRuntime;
+    JSObject mockJsObject;
+    GoogleMap map;
+    Marker inView;
+    Marker outOfView;
+
+    @Before
+    public void setUp() {
+        mockJSRuntime = Mockito.mock(IJavascriptRuntime.class);
+        mockJsObject = Mockito.mock(JSObject.class);
+        JavascriptRuntime.setJavascriptRuntime(mockJSRuntime);
+        when(mockJSRuntime.execute(anyString())).thenReturn(mockJsObject);
+        when(mockJsObject.call(eq("viewState"), any())).thenReturn(view(0, 0, 10, 10));
+
+        map = new GoogleMap();
+        map.setMarkerCulling(true);
+        inView = marker(5, 5);
+        outOfView = marker(50, 50);
+    }
+
+    @Test
+    public void testAddMarkers_AttachesOnlyMarkersInView() {
+        map.addMarkers(Arrays.asList(inView, outOfView));
+        assertEquals(1, map.getAttachedMarkerCount());
+        verify(inView).setAttached(true);
+        verify(outOfView, never()).setAttached(true);
+    }
+
+    @Test
+    public void testAddMarkersWithHandler_AttachesOnlyMarkersInView() {
+        map.addMarkers(Arrays.asList(inView, outOfView), UIEventType.click, (m) -> (obj) -> {
+        });
+        assertEquals(1, map.getAttachedMarkerCount());
+        verify(inView).setAttached(true);
+        verify(outOfView, never()).setAttached(true);
+        verify(outOfView, never()).setMap(map);
+    }
+
+    @Test
+    public void testViewChange_SwapsAttachedMarkers() {
+        map.addMarkers(Arrays.asList(inView, outOfView));
+        map.updateViewState(MapViewState.parse(view(45, 45, 55, 55)));
+        assertEquals(1, map.getAttachedMarkerCount());
+        verify(inView).setAttached(false);
+        verify(outOfView).setAttached(true);
+    }
+
+    @Test
+    public void testMarkerMoved() {
+        map.addMarker(inView);
+        map.addMarker(outOfView);
+        outOfView.setPosition(new LatLong(6, 6));
+        assertEquals(2, map.getAttachedMarkerCount());
+        verify(outOfView).setAttached(true);
+
+        inView.setPosition(new LatLong(-40, 5));
+        assertEquals(1, map.getAttachedMarkerCount());
+        verify(inView).setAttached(false);
+    }
+
+    @Test
+    public void testCullingOff_AttachesAll() {
+        map.addMarkers(Arrays.asList(inView, outOfView));
+        map.setMarkerCulling(false);
+        assertEquals(2, map.getAttachedMarkerCount());
+        verify(outOfView).setAttached(true);
+    }
+
+    @Test
+    public void testAcrossAntimeridian_AddAndMove() {
+        map.updateViewState(MapViewState.parse(view(-10, 165, 10, -165)));
+        Marker east = marker(0, 175);
+        Marker west = marker(0, -175);
+        Marker outside = marker(0, 150);
+        map.addMarker(east);
+        map.addMarker(west);
+        map.addMarker(outside);
+        assertEquals(2, map.getAttachedMarkerCount());
+        verify(east).setAttached(true);
+        verify(west).setAttached(true);
+        verify(outside, never()).setAttached(true);
+
+        east.setPosition(new LatLong(1, -170));
+        assertEquals(2, map.getAttachedMarkerCount());
+        verify(east, never()).setAttached(false);
+
+        outside.setPosition(new LatLong(1, 179));
+        assertEquals(3, map.getAttachedMarkerCount());
+        verify(outside).setAttached(true);
+
+        west.setPosition(new LatLong(0, -150));
+        assertEquals(2, map.getAttachedMarkerCount());
+        verify(west).setAttached(false);
+    }
+
+    @Test
+    public void testAcrossAntimeridian_ViewChange() {
+        Marker east = marker(0, 175);
+        Marker west = marker(0, -175);
+        map.addMarkers(Arrays.asList(inView, east, west));
+        assertEquals(1, map.getAttachedMarkerCount());
+        map.updateViewState(MapViewState.parse(view(-10, 165, 10, -165)));
+        assertEquals(2, map.getAttachedMarkerCount());
+        verify(inView).setAttached(false);
+        verify(east).setAttached(true);
+        verify(west).setAttached(true);
+    }
+
+    private static Marker marker(double lat, double lng) {
+        return spy(new Marker(new MarkerOptions().position(new LatLong(lat, lng))));
+    }
+
+    /**
+     * Packs a view state with the given bounds, as gmapsfx.viewState() does.
+     */
+    private static String view(double south, double west, double north, double east) {
+        return ((south + north) / 2) + "," + ((west + east) / 2) + ",5,"
+                + south + "," + west + "," + north + "," + east + ",0,0,800,600";
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 Lynden, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lynden.gmapsfx.javascript.object;
+
+import com.lynden.gmapsfx.javascript.IJavascriptRuntime;
+import com.lynden.gmapsfx.javascript.JavascriptRuntime;
+import netscape.javascript.JSObject;
+import static org.junit.Assert.assertEquals;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class HeatmapLayerTest {
+
+    IJavascriptRuntime mockJSRuntime;
+    HeatmapLayer layer;
+
+    @Before
+    public void setUp() {
+        mockJSRuntime = Mockito.mock(IJavascriptRuntime.class);
+        JavascriptRuntime.setJavascriptRuntime(mockJSRuntime);
+        when(mockJSRuntime.execute(anyString())).thenReturn(Mockito.mock(JSObject.class));
+        layer = new HeatmapLayer();
+    }
+
+    @Test
+    public void testSetData_Size() {
+        layer.setData(new double[]{1, 2, 3}, new double[]{4, 5, 6}, null);
+        assertEquals(3, layer.getSize());
+        verify(mockJSRuntime).queue(layer.getVariableName()
+                + ".setData(new google.maps.MVCArray(gmapsfx.toHeatmapData('1,4,2,5,3,6',false)))");
+    }
+
+    @Test
+    public void testUpdate_Size() {
+        layer.setData(new double[]{1, 2, 3}, new double[]{4, 5, 6}, null);
+        layer.update(2, new double[]{7}, new double[]{8}, new double[]{0.5});
+        assertEquals(2, layer.getSize());
+        verify(mockJSRuntime).queue("gmapsfx.updateHeatmap(" + layer.getVariableName() + ",2,'7,8,0.5',true)");
+    }
+
+    @Test
+    public void testUpdate_RemoveCountIsClamped() {
+        layer.addData(new double[]{1, 2}, new double[]{3, 4}, null);
+        layer.update(5, new double[]{9}, new double[]{9}, null);
+        assertEquals(1, layer.getSize());
+        verify(mockJSRuntime).queue("gmapsfx.updateHeatmap(" + layer.getVariableName() + ",2,'9,9',false)");
+    }
+
+    @Test
+    public void testRemoveData_Size() {
+        layer.addData(new double[]{1, 2, 3}, new double[]{4, 5, 6}, null);
+        layer.removeData(2);
+        assertEquals(1, layer.getSize());
+        layer.removeData(5);
+        assertEquals(0, layer.getSize());
+        verify(mockJSRuntime).queue("gmapsfx.updateHeatmap(" + layer.getVariableName() + ",1,'',false)");
+    }
+
+    @Test
+    public void testRemoveData_EmptyLayerQueuesNothing() {
+        layer.removeData(3);
+        assertEquals(0, layer.getSize());
+        verify(mockJSRuntime, never()).queue(anyString());
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 Lynden, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lynden.gmapsfx.javascript.object;
+
+import com.lynden.gmapsfx.MapUpdateQueue;
+import com.lynden.gmapsfx.javascript.IJavascriptRuntime;
+import com.lynden.gmapsfx.javascript.JavascriptRuntime;
+import netscape.javascript.JSObject;
+import static org.junit.Assert.assertEquals;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class LiveMarkerLayerTest {
+
+    IJavascriptRuntime mockJSRuntime;
+    LiveMarkerLayer layer;
+
+    @Before
+    public void setUp() {
+        mockJSRuntime = Mockito.mock(IJavascriptRuntime.class);
+        JavascriptRuntime.setJavascriptRuntime(mockJSRuntime);
+        when(mockJSRuntime.execute(anyString())).thenReturn(Mockito.mock(JSObject.class));
+        layer = new LiveMarkerLayer(Mockito.mock(MapUpdateQueue.class));
+    }
+
+    @Test
+    public void testRemovedSlotsAreReused() {
+        Marker marker = new Marker(new MarkerOptions());
+        for (int i = 0; i < 10; i++) {
+            layer.addMarker("m" + i, marker);
+        }
+        for (int i = 10; i < 1000; i++) {
+            layer.removeMarker("m" + (i - 10));
+            layer.addMarker("m" + i, marker);
+            layer.updatePosition("m" + i, i, i);
+        }
+        assertEquals(10, layer.getCapacity());
+    }
+
+    @Test
+    public void testUpdateForRemovedMarkerIsNotFlushed() {
+        Marker marker = new Marker(new MarkerOptions());
+        layer.addMarker("a", marker);
+        layer.addMarker("b", marker);
+        layer.updatePosition("a", 1, 2);
+        layer.updatePosition("b", 3, 4);
+        layer.removeMarker("a");
+        layer.addMarker("c", marker);
+        layer.flush();
+        verify(mockJSRuntime).queue(layer.getVariableName() + ".update('1,3,4')");
+    }
+}
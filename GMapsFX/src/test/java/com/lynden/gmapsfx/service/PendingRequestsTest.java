@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 Lynden, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lynden.gmapsfx.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+public class PendingRequestsTest {
+
+    @Test
+    public void testResponsesCompleteTheirOwnRequests() {
+        PendingRequests<String> requests = new PendingRequests<>();
+        CompletableFuture<String> first = new CompletableFuture<>();
+        CompletableFuture<String> second = new CompletableFuture<>();
+        int firstId = requests.add(first);
+        int secondId = requests.add(second);
+        assertTrue(firstId != secondId);
+        assertEquals(2, requests.size());
+
+        requests.remove(secondId).complete("second");
+        requests.remove(firstId).complete("first");
+
+        assertEquals("first", first.join());
+        assertEquals("second", second.join());
+        assertEquals(0, requests.size());
+        assertNull(requests.remove(firstId));
+    }
+
+    @Test
+    public void testCancelledRequestIsRemoved() {
+        PendingRequests<String> requests = new PendingRequests<>();
+        CompletableFuture<String> future = new CompletableFuture<>();
+        int id = requests.add(future);
+        future.cancel(false);
+        assertEquals(0, requests.size());
+        assertNull(requests.remove(id));
+    }
+
+    @Test
+    public void testTimeout() throws InterruptedException {
+        PendingRequests<String> requests = new PendingRequests<>(Runnable::run);
+        requests.setTimeout(20, TimeUnit.MILLISECONDS);
+        CompletableFuture<String> future = new CompletableFuture<>();
+        int id = requests.add(future);
+        try {
+            future.get(5, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException ex) {
+            assertTrue(ex.getCause() instanceof TimeoutException);
+        } catch (TimeoutException ex) {
+            fail();
+        }
+        assertEquals(0, requests.size());
+        assertNull(requests.remove(id));
+    }
+
+    @Test
+    public void testNoTimeout() {
+        PendingRequests<String> requests = new PendingRequests<>();
+        CompletableFuture<String> future = new CompletableFuture<>();
+        int id = requests.add(future, 0);
+        assertSame(future, requests.remove(id));
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 Lynden, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lynden.gmapsfx.service.directions;
+
+import com.lynden.gmapsfx.javascript.IJavascriptRuntime;
+import com.lynden.gmapsfx.javascript.JavascriptRuntime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import netscape.javascript.JSObject;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class DirectionsServiceTest {
+
+    IJavascriptRuntime mockJSRuntime;
+    JSObject mockJsObject;
+    DirectionsService service;
+    DirectionsRenderer renderer;
+    DirectionsRequest request;
+
+    @Before
+    public void setUp() {
+        mockJSRuntime = Mockito.mock(IJavascriptRuntime.class);
+        mockJsObject = Mockito.mock(JSObject.class);
+        JavascriptRuntime.setJavascriptRuntime(mockJSRuntime);
+        when(mockJSRuntime.execute(anyString())).thenReturn(mockJsObject);
+        when(mockJsObject.eval("document")).thenReturn(Mockito.mock(JSObject.class));
+
+        service = new DirectionsService();
+        service.setTimeout(0, TimeUnit.MILLISECONDS);
+        renderer = Mockito.mock(DirectionsRenderer.class);
+        request = Mockito.mock(DirectionsRequest.class);
+    }
+
+    @Test
+    public void testResponse_ShownOnRenderer() {
+        service.getRouteAsync(request, renderer);
+        service.processResponse(1, Mockito.mock(JSObject.class), "OK");
+        verify(renderer).setDirections(any(DirectionsResult.class));
+    }
+
+    @Test
+    public void testOlderResponse_NotShown() {
+        CompletableFuture<DirectionsResult> older = service.getRouteAsync(request, renderer);
+        CompletableFuture<DirectionsResult> newer = service.getRouteAsync(request, renderer);
+        JSObject newerResult = Mockito.mock(JSObject.class);
+        service.processResponse(2, newerResult, "OK");
+        service.processResponse(1, Mockito.mock(JSObject.class), "OK");
+
+        ArgumentCaptor<DirectionsResult> shown = ArgumentCaptor.forClass(DirectionsResult.class);
+        verify(renderer, times(1)).setDirections(shown.capture());
+        assertSame(newerResult, shown.getValue().getJSObject());
+        assertSame(newerResult, newer.join().getJSObject());
+        older.join();
+    }
+
+    @Test
+    public void testCancelledRequest_NotShown() {
+        service.getRouteAsync(request, renderer).cancel(false);
+        service.processResponse(1, Mockito.mock(JSObject.class), "OK");
+        verify(renderer, never()).setDirections(any(DirectionsResult.class));
+    }
+
+    @Test
+    public void testFailedRequest_NotShown() {
+        service.getRouteAsync(request, renderer);
+        service.processResponse(1, null, "ZERO_RESULTS");
+        verify(renderer, never()).setDirections(any(DirectionsResult.class));
+    }
+
+    @Test
+    public void testRouteNotSetInJavascript() {
+        service.getRouteAsync(request, renderer);
+        ArgumentCaptor<String> script = ArgumentCaptor.forClass(String.class);
+        verify(mockJsObject, Mockito.atLeastOnce()).eval(script.capture());
+        for (String s : script.getAllValues()) {
+            assertFalse(s.contains("setDirections"));
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 Lynden, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lynden.gmapsfx.shapes;
+
+import com.lynden.gmapsfx.MapUpdateQueue;
+import com.lynden.gmapsfx.javascript.IJavascriptRuntime;
+import com.lynden.gmapsfx.javascript.JavascriptRuntime;
+import netscape.javascript.JSObject;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TrackPolylineTest {
+
+    IJavascriptRuntime mockJSRuntime;
+    ManualQueue queue;
+
+    @Before
+    public void setUp() {
+        mockJSRuntime = Mockito.mock(IJavascriptRuntime.class);
+        JavascriptRuntime.setJavascriptRuntime(mockJSRuntime);
+        when(mockJSRuntime.execute(anyString())).thenReturn(Mockito.mock(JSObject.class));
+        queue = new ManualQueue();
+    }
+
+    @Test
+    public void testGetPoints_AfterWrapAround() {
+        TrackPolyline track = new TrackPolyline(queue, new PolylineOptions(), 3);
+        for (int i = 1; i <= 5; i++) {
+            track.addPoint(i, i * 10);
+        }
+        assertArrayEquals(new double[]{3, 30, 4, 40, 5, 50}, track.getPoints().toArray(), 0);
+    }
+
+    @Test
+    public void testSize_CappedAtMaxPoints() {
+        TrackPolyline track = new TrackPolyline(queue, new PolylineOptions(), 3);
+        for (int i = 1; i <= 5; i++) {
+            track.addPoint(i, i);
+        }
+        assertEquals(3, track.size());
+        assertEquals(5, track.getPointCount());
+    }
+
+    @Test
+    public void testSize_Unbounded() {
+        TrackPolyline track = new TrackPolyline(queue);
+        for (int i = 0; i < 200; i++) {
+            track.addPoint(i, -i);
+        }
+        assertEquals(200, track.size());
+        assertEquals(199, track.getPoints().getLatitude(199), 0);
+        assertEquals(-199, track.getPoints().getLongitude(199), 0);
+    }
+
+    @Test
+    public void testFlush_SendsOnlyLastMaxPoints() {
+        TrackPolyline track = new TrackPolyline(queue, new PolylineOptions(), 3);
+        for (int i = 1; i <= 5; i++) {
+            track.addPoint(i, i * 10);
+        }
+        queue.drain();
+        verify(mockJSRuntime).queue("gmapsfx.appendPath(" + track.getVariableName() + ",'3,30,4,40,5,50',3)");
+        verify(mockJSRuntime, Mockito.times(1)).queue(startsWith("gmapsfx.appendPath"));
+    }
+
+    @Test
+    public void testFlush_SendsNewPointsOnly() {
+        TrackPolyline track = new TrackPolyline(queue);
+        track.addPoint(1, 2);
+        queue.drain();
+        track.addPoint(3, 4);
+        queue.drain();
+        InOrder order = inOrder(mockJSRuntime);
+        order.verify(mockJSRuntime).queue("gmapsfx.appendPath(" + track.getVariableName() + ",'1,2',0)");
+        order.verify(mockJSRuntime).queue("gmapsfx.appendPath(" + track.getVariableName() + ",'3,4',0)");
+    }
+
+    @Test
+    public void testClearThenAddPoint_Ordering() {
+        TrackPolyline track = new TrackPolyline(queue, new PolylineOptions(), 3);
+        track.addPoint(1, 10);
+        track.clear();
+        track.addPoint(2, 20);
+        assertEquals(1, track.size());
+        queue.drain();
+        InOrder order = inOrder(mockJSRuntime);
+        order.verify(mockJSRuntime).queue(track.getVariableName() + ".setPath([])");
+        order.verify(mockJSRuntime).queue("gmapsfx.appendPath(" + track.getVariableName() + ",'2,20',3)");
+        verify(mockJSRuntime, Mockito.times(1)).queue(startsWith("gmapsfx.appendPath"));
+        assertArrayEquals(new double[]{2, 20}, track.getPoints().toArray(), 0);
+    }
+
+    /**
+     * A queue which is only drained when a test calls drain().
+     */
+    static class ManualQueue extends MapUpdateQueue {
+
+        @Override
+        protected void start() {
+        }
+
+        @Override
+        protected void stop() {
+        }
+
+        @Override
+        public void drain() {
+            super.drain();
+        }
+    }
+}
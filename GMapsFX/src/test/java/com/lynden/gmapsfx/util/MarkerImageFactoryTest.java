@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 Lynden, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lynden.gmapsfx.util;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import org.junit.After;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class MarkerImageFactoryTest {
+
+    private static final byte[] IMAGE = {(byte) 0x89, 'P', 'N', 'G', 13, 10, 26, 10, 1, 2, 3, 4, 5};
+
+    @After
+    public void tearDown() {
+        MarkerImageFactory.clearCache();
+        MarkerImageFactory.setDiskCacheDirectory(null);
+    }
+
+    @Test
+    public void testCreateMarkerImage_Cached() throws Exception {
+        Path image = Files.createTempFile("marker", ".png");
+        Files.write(image, IMAGE);
+        String uri = image.toUri().toString();
+
+        long encodes = MarkerImageFactory.getEncodeCount();
+        String dataURI = MarkerImageFactory.createMarkerImage(uri, "png");
+        assertTrue(dataURI.startsWith("data:image/png;base64,"));
+        assertArrayEquals(IMAGE, Base64.getDecoder().decode(dataURI.substring("data:image/png;base64,".length())));
+        assertEquals(dataURI, MarkerImageFactory.createMarkerImage(uri, "png"));
+        assertEquals(encodes + 1, MarkerImageFactory.getEncodeCount());
+    }
+
+    @Test
+    public void testCreateMarkerImage_DiskCache() throws Exception {
+        Path image = Files.createTempFile("marker", ".png");
+        Files.write(image, IMAGE);
+        Path directory = Files.createTempDirectory("markers");
+        String uri = image.toUri().toString();
+        MarkerImageFactory.setDiskCacheDirectory(directory);
+
+        long encodes = MarkerImageFactory.getEncodeCount();
+        String dataURI = MarkerImageFactory.createMarkerImage(uri, "png");
+        MarkerImageFactory.clearCache();
+        assertEquals(dataURI, MarkerImageFactory.createMarkerImage(uri, "png"));
+        assertEquals(encodes + 1, MarkerImageFactory.getEncodeCount());
+        assertEquals(1, Files.list(directory).count());
+    }
+
+}
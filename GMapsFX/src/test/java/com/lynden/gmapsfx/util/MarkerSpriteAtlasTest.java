@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 Lynden, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lynden.gmapsfx.util;
+
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class MarkerSpriteAtlasTest {
+
+    @Test
+    public void testBuild() throws Exception {
+        MarkerSpriteAtlas atlas = new MarkerSpriteAtlas();
+        for (int i = 0; i < 50; i++) {
+            BufferedImage image = new BufferedImage(10 + i % 7, 20 + i % 5, BufferedImage.TYPE_INT_ARGB);
+            image.setRGB(0, 0, 0xff000000 | i);
+            atlas.add("icon" + i, image);
+        }
+        atlas.build();
+
+        assertTrue(atlas.getDataURI().startsWith("data:image/png;base64,"));
+        BufferedImage sheet = atlas.getSheet();
+        for (int i = 0; i < 50; i++) {
+            Rectangle r = atlas.getBounds("icon" + i);
+            assertEquals(10 + i % 7, r.width);
+            assertEquals(20 + i % 5, r.height);
+            assertTrue(r.x + r.width <= sheet.getWidth() && r.y + r.height <= sheet.getHeight());
+            assertEquals(0xff000000 | i, sheet.getRGB(r.x, r.y));
+            for (int j = 0; j < i; j++) {
+                assertFalse(r.intersects(atlas.getBounds("icon" + j)));
+            }
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testAddAfterBuild() throws Exception {
+        new MarkerSpriteAtlas().build().add("late", new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB));
+    }
+
+}
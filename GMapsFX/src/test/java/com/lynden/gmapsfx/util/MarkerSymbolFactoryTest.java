@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 Lynden, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lynden.gmapsfx.util;
+
+import com.lynden.gmapsfx.util.MarkerSymbolFactory.Style;
+import com.lynden.gmapsfx.util.MarkerSymbolFactory.SymbolShape;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import org.junit.Test;
+
+public class MarkerSymbolFactoryTest {
+
+    @Test
+    public void testParsePath() {
+        Rectangle2D bounds = MarkerSymbolFactory.parsePath(SymbolShape.PIN.getPath()).getBounds2D();
+        assertEquals(-10, bounds.getMinX(), 1e-9);
+        assertEquals(10, bounds.getMaxX(), 1e-9);
+        assertEquals(-40, bounds.getMinY(), 1e-9);
+        assertEquals(0, bounds.getMaxY(), 1e-9);
+
+        bounds = MarkerSymbolFactory.parsePath("M0,-12L8,8 L0,3L-8,8Z").getBounds2D();
+        assertEquals(16, bounds.getWidth(), 1e-9);
+        assertEquals(20, bounds.getHeight(), 1e-9);
+    }
+
+    @Test
+    public void testStyleEquality() {
+        Style a = Style.pin("#E53935").stroke("#fff", 1.5).glyph("A", "#ffffff");
+        Style b = Style.pin("#e53935").stroke("#FFF", 1.5).glyph("A", "#FFFFFF");
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertFalse(a.equals(b.rotation(90)));
+    }
+
+    @Test
+    public void testRotationIsQuantized() {
+        Style arrow = Style.arrow("#1e88e5");
+        assertEquals(arrow.rotation(90), arrow.rotation(90.4));
+        assertEquals(arrow.rotation(270), arrow.rotation(-90));
+        assertEquals(arrow.rotation(0), arrow.rotation(359.7));
+        assertEquals(arrow.rotation(0), arrow.rotation(-0.2));
+        assertEquals(arrow.rotation(0).hashCode(), arrow.rotation(-0.2).hashCode());
+    }
+
+    @Test
+    public void testRenderImage() {
+        BufferedImage image = MarkerSymbolFactory.renderImage(Style.circle("#ff0000").stroke("#ff0000", 0));
+        assertEquals(0, image.getWidth() % 2);
+        assertEquals(0xffff0000, image.getRGB(image.getWidth() / 2, image.getHeight() / 2));
+        assertEquals(0, image.getRGB(0, 0) >>> 24);
+    }
+
+}